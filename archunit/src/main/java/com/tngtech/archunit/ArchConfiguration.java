@@ -46,12 +46,25 @@ public final class ArchConfiguration {
     static final String CLASS_RESOLVER_ARGS = "classResolver.args";
     @Internal
     public static final String ENABLE_MD5_IN_CLASS_SOURCES = "enableMd5InClassSources";
+    static final String MAX_CACHED_PREDICATE_RESULTS = "maxCachedPredicateResults";
+    static final String ENABLE_PARALLEL_EVALUATION = "enableParallelEvaluation";
+    static final String RULE_RESULT_CACHE_DIRECTORY = "ruleResultCacheDirectory";
+    static final String ENABLE_ASYNC_EXTENSION_DISPATCH = "enableAsyncExtensionDispatch";
+    static final String ASYNC_EXTENSION_DISPATCH_QUEUE_SIZE = "asyncExtensionDispatchQueueSize";
+    static final String MAX_NUMBER_OF_REPORTED_CYCLES = "maxNumberOfReportedCycles";
+    static final String MAX_NUMBER_OF_REPORTED_DEPENDENCIES_PER_EDGE = "maxNumberOfReportedDependenciesPerEdge";
     private static final Pattern EXTENSION_PROP___GROUP_ONE_ID_GROUP_TWO_KEY = Pattern.compile("^extension\\.([^.]+)\\.(.+)");
 
-    private static final Map<String, String> PROPERTY_DEFAULTS = ImmutableMap.of(
-            RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, "" + false,
-            ENABLE_MD5_IN_CLASS_SOURCES, "" + false
-    );
+    private static final Map<String, String> PROPERTY_DEFAULTS = ImmutableMap.<String, String>builder()
+            .put(RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, "" + false)
+            .put(ENABLE_MD5_IN_CLASS_SOURCES, "" + false)
+            .put(MAX_CACHED_PREDICATE_RESULTS, "" + 0)
+            .put(ENABLE_PARALLEL_EVALUATION, "" + false)
+            .put(ENABLE_ASYNC_EXTENSION_DISPATCH, "" + false)
+            .put(ASYNC_EXTENSION_DISPATCH_QUEUE_SIZE, "" + 100)
+            .put(MAX_NUMBER_OF_REPORTED_CYCLES, "" + Integer.MAX_VALUE)
+            .put(MAX_NUMBER_OF_REPORTED_DEPENDENCIES_PER_EDGE, "" + Integer.MAX_VALUE)
+            .build();
 
     private static final Supplier<ArchConfiguration> INSTANCE = Suppliers.memoize(new Supplier<ArchConfiguration>() {
         @Override
@@ -70,6 +83,13 @@ public final class ArchConfiguration {
     private Optional<String> classResolver = Optional.absent();
     private List<String> classResolverArguments = Collections.emptyList();
     private boolean enableMd5InClassSources;
+    private int maxCachedPredicateResults;
+    private boolean enableParallelEvaluation;
+    private Optional<String> ruleResultCacheDirectory = Optional.absent();
+    private boolean enableAsyncExtensionDispatch;
+    private int asyncExtensionDispatchQueueSize;
+    private int maxNumberOfReportedCycles;
+    private int maxNumberOfReportedDependenciesPerEdge;
 
     private final Map<String, Properties> extensionProperties = new ConcurrentHashMap<>();
 
@@ -116,6 +136,19 @@ public final class ArchConfiguration {
                 .splitToList(properties.getProperty(CLASS_RESOLVER_ARGS, ""));
         enableMd5InClassSources = Boolean.valueOf(
                 propertyOrDefault(properties, ENABLE_MD5_IN_CLASS_SOURCES));
+        maxCachedPredicateResults = Integer.parseInt(
+                propertyOrDefault(properties, MAX_CACHED_PREDICATE_RESULTS).trim());
+        enableParallelEvaluation = Boolean.valueOf(
+                propertyOrDefault(properties, ENABLE_PARALLEL_EVALUATION));
+        ruleResultCacheDirectory = Optional.fromNullable(properties.getProperty(RULE_RESULT_CACHE_DIRECTORY));
+        enableAsyncExtensionDispatch = Boolean.valueOf(
+                propertyOrDefault(properties, ENABLE_ASYNC_EXTENSION_DISPATCH));
+        asyncExtensionDispatchQueueSize = Integer.parseInt(
+                propertyOrDefault(properties, ASYNC_EXTENSION_DISPATCH_QUEUE_SIZE).trim());
+        maxNumberOfReportedCycles = Integer.parseInt(
+                propertyOrDefault(properties, MAX_NUMBER_OF_REPORTED_CYCLES).trim());
+        maxNumberOfReportedDependenciesPerEdge = Integer.parseInt(
+                propertyOrDefault(properties, MAX_NUMBER_OF_REPORTED_DEPENDENCIES_PER_EDGE).trim());
 
         parseExtensionProperties(properties);
     }
@@ -142,6 +175,117 @@ public final class ArchConfiguration {
         this.enableMd5InClassSources = enabled;
     }
 
+    /**
+     * @return the maximum number of predicate results each {@link com.tngtech.archunit.core.domain.JavaClasses JavaClasses}
+     * keeps by predicate, to share them between rules filtering by the same predicate;
+     * 0, if those results should not be cached
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getMaxCachedPredicateResults() {
+        return maxCachedPredicateResults;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setMaxCachedPredicateResults(int maxCachedPredicateResults) {
+        this.maxCachedPredicateResults = maxCachedPredicateResults;
+    }
+
+    /**
+     * @return true, if the objects of a rule, whose {@link com.tngtech.archunit.lang.ArchCondition ArchCondition}
+     * {@link com.tngtech.archunit.lang.ArchCondition#canBeCheckedConcurrently() can be checked concurrently},
+     * should be checked in parallel
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean parallelEvaluationEnabled() {
+        return enableParallelEvaluation;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setParallelEvaluationEnabled(boolean enabled) {
+        this.enableParallelEvaluation = enabled;
+    }
+
+    /**
+     * Note that reusing persisted results is an unsafe opt-in: Rules are identified by their description,
+     * so changes of a condition or predicate, that don't change the description, are not detected.
+     *
+     * @return the directory to persist the results of rules in, that
+     * {@link com.tngtech.archunit.lang.ArchCondition#canBeCheckedIncrementally() can be checked incrementally},
+     * to reuse them as long as neither the rule nor the classes affecting the checked objects have changed;
+     * absent, if results should not be persisted
+     */
+    @PublicAPI(usage = ACCESS)
+    public Optional<String> getRuleResultCacheDirectory() {
+        return ruleResultCacheDirectory;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setRuleResultCacheDirectory(String directory) {
+        ruleResultCacheDirectory = Optional.of(directory);
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void unsetRuleResultCacheDirectory() {
+        ruleResultCacheDirectory = Optional.absent();
+    }
+
+    /**
+     * @return true, if evaluated rules should be passed to {@link com.tngtech.archunit.lang.extension.ArchUnitExtension
+     * extensions} by a background thread, instead of the thread checking the rule
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean asyncExtensionDispatchEnabled() {
+        return enableAsyncExtensionDispatch;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setAsyncExtensionDispatchEnabled(boolean enabled) {
+        this.enableAsyncExtensionDispatch = enabled;
+    }
+
+    /**
+     * @return the maximum number of evaluated rules waiting to be passed to extensions, if dispatch is asynchronous
+     * (compare {@link #asyncExtensionDispatchEnabled()}); once this is reached, checking a rule waits for the
+     * extensions to catch up
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getAsyncExtensionDispatchQueueSize() {
+        return asyncExtensionDispatchQueueSize;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setAsyncExtensionDispatchQueueSize(int queueSize) {
+        this.asyncExtensionDispatchQueueSize = queueSize;
+    }
+
+    /**
+     * @return the maximum number of cycles a rule checking for cycles reports, before it stops searching for further cycles
+     * (by default {@link Integer#MAX_VALUE}, i.e. all cycles are reported)
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getMaxNumberOfReportedCycles() {
+        return maxNumberOfReportedCycles;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setMaxNumberOfReportedCycles(int maxNumberOfReportedCycles) {
+        this.maxNumberOfReportedCycles = maxNumberOfReportedCycles;
+    }
+
+    /**
+     * @return the maximum number of dependencies listed for each edge of a reported cycle, further dependencies are only counted
+     * (by default {@link Integer#MAX_VALUE}, i.e. all dependencies are listed)
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getMaxNumberOfReportedDependenciesPerEdge() {
+        return maxNumberOfReportedDependenciesPerEdge;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void setMaxNumberOfReportedDependenciesPerEdge(int maxNumberOfReportedDependenciesPerEdge) {
+        this.maxNumberOfReportedDependenciesPerEdge = maxNumberOfReportedDependenciesPerEdge;
+    }
+
     @PublicAPI(usage = ACCESS)
     public Optional<String> getClassResolver() {
         return classResolver;
@@ -179,14 +323,23 @@ public final class ArchConfiguration {
                 new Properties();
     }
 
+    /**
+     * @return the properties of all configured extensions by extension identifier, as they are at this point in time.
+     * The contained {@link Properties} must not be modified.
+     */
+    // NOTE: Stored extension properties are never modified, but replaced on every change, so a snapshot needs no copies
+    @Internal
+    public Map<String, Properties> getAllExtensionProperties() {
+        return ImmutableMap.copyOf(extensionProperties);
+    }
+
     @PublicAPI(usage = ACCESS)
     public ExtensionProperties configureExtension(String extensionIdentifier) {
-        Properties properties = getExtensionProperties(extensionIdentifier);
-        extensionProperties.put(extensionIdentifier, properties);
-        return new ExtensionProperties(properties);
+        extensionProperties.put(extensionIdentifier, getExtensionProperties(extensionIdentifier));
+        return new ExtensionProperties(extensionProperties, extensionIdentifier);
     }
 
-    private Properties copy(Properties properties) {
+    private static Properties copy(Properties properties) {
         Properties result = new Properties();
         result.putAll(properties);
         return result;
@@ -197,15 +350,19 @@ public final class ArchConfiguration {
     }
 
     public static final class ExtensionProperties {
-        private final Properties properties;
+        private final Map<String, Properties> extensionProperties;
+        private final String extensionIdentifier;
 
-        private ExtensionProperties(Properties properties) {
-            this.properties = properties;
+        private ExtensionProperties(Map<String, Properties> extensionProperties, String extensionIdentifier) {
+            this.extensionProperties = extensionProperties;
+            this.extensionIdentifier = extensionIdentifier;
         }
 
         @PublicAPI(usage = ACCESS)
         public ExtensionProperties setProperty(String key, Object value) {
+            Properties properties = copy(extensionProperties.get(extensionIdentifier));
             properties.setProperty(key, String.valueOf(value));
+            extensionProperties.put(extensionIdentifier, properties);
             return this;
         }
     }
@@ -15,6 +15,10 @@
  */
 package com.tngtech.archunit.base;
 
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -65,6 +69,26 @@ public abstract class DescribedPredicate<T> {
         return (DescribedPredicate<U>) this;
     }
 
+    /**
+     * Looks up the candidates for a predicate, i.e. a superset of the matching elements, instead of testing every element.
+     * Conjunctions, disjunctions and predicates with a customized description are resolved by combining the candidates
+     * of their parts, any elementary predicate is passed on to the given lookup.
+     *
+     * @param predicate A predicate to look up candidates for
+     * @param candidatesOfElementary Looks up the candidates of an elementary predicate, if it can narrow them down
+     * @return all elements that possibly match the predicate, or {@link Optional#absent()}, if the candidates can't be
+     * narrowed down, i.e. every element has to be tested
+     */
+    @Internal
+    public static <T> Optional<Set<T>> tryGetCandidates(DescribedPredicate<? super T> predicate,
+            Function<DescribedPredicate<?>, Optional<Set<T>>> candidatesOfElementary) {
+        return predicate.tryGetCandidatesFrom(candidatesOfElementary);
+    }
+
+    <E extends T> Optional<Set<E>> tryGetCandidatesFrom(Function<DescribedPredicate<?>, Optional<Set<E>>> candidatesOfElementary) {
+        return candidatesOfElementary.apply(this);
+    }
+
     @Override
     public String toString() {
         return getDescription();
@@ -122,6 +146,11 @@ public abstract class DescribedPredicate<T> {
         public boolean apply(T input) {
             return current.apply(input);
         }
+
+        @Override
+        <E extends T> Optional<Set<E>> tryGetCandidatesFrom(Function<DescribedPredicate<?>, Optional<Set<E>>> candidatesOfElementary) {
+            return current.tryGetCandidatesFrom(candidatesOfElementary);
+        }
     }
 
     private static class AndPredicate<T> extends DescribedPredicate<T> {
@@ -138,6 +167,19 @@ public abstract class DescribedPredicate<T> {
         public boolean apply(T input) {
             return current.apply(input) && other.apply(input);
         }
+
+        @Override
+        <E extends T> Optional<Set<E>> tryGetCandidatesFrom(Function<DescribedPredicate<?>, Optional<Set<E>>> candidatesOfElementary) {
+            Optional<Set<E>> currentCandidates = current.tryGetCandidatesFrom(candidatesOfElementary);
+            Optional<Set<E>> otherCandidates = other.tryGetCandidatesFrom(candidatesOfElementary);
+            if (!currentCandidates.isPresent()) {
+                return otherCandidates;
+            }
+            if (!otherCandidates.isPresent()) {
+                return currentCandidates;
+            }
+            return Optional.<Set<E>>of(Sets.intersection(currentCandidates.get(), otherCandidates.get()));
+        }
     }
 
     private static class OrPredicate<T> extends DescribedPredicate<T> {
@@ -154,6 +196,16 @@ public abstract class DescribedPredicate<T> {
         public boolean apply(T input) {
             return current.apply(input) || other.apply(input);
         }
+
+        @Override
+        <E extends T> Optional<Set<E>> tryGetCandidatesFrom(Function<DescribedPredicate<?>, Optional<Set<E>>> candidatesOfElementary) {
+            Optional<Set<E>> currentCandidates = current.tryGetCandidatesFrom(candidatesOfElementary);
+            Optional<Set<E>> otherCandidates = other.tryGetCandidatesFrom(candidatesOfElementary);
+            if (!currentCandidates.isPresent() || !otherCandidates.isPresent()) {
+                return Optional.absent();
+            }
+            return Optional.<Set<E>>of(Sets.union(currentCandidates.get(), otherCandidates.get()));
+        }
     }
 
     private static class OnResultOfPredicate<F, T> extends DescribedPredicate<F> {
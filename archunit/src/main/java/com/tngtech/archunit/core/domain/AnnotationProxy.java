@@ -25,6 +25,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
@@ -65,6 +67,7 @@ class AnnotationProxy {
         private final JavaAnnotation toProxy;
         private final Conversions conversions;
         private final Map<MethodKey, SpecificHandler> handlersByMethod;
+        private final ConcurrentMap<Method, Object> convertedValues = new ConcurrentHashMap<>();
 
         private AnnotationMethodInvocationHandler(Class<?> annotationType, JavaAnnotation toProxy) {
             this.toProxy = toProxy;
@@ -97,13 +100,32 @@ class AnnotationProxy {
 
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object convertedValue = convertedValues.get(method);
+            if (convertedValue != null) {
+                return copyIfArray(convertedValue);
+            }
+
             MethodKey key = MethodKey.of(method);
             if (handlersByMethod.containsKey(key)) {
                 return handlersByMethod.get(key).handle(proxy, method, args);
             }
 
             Object result = toProxy.get(method.getName()).or(method.getDefaultValue());
-            return conversions.convertIfNecessary(result, method.getReturnType());
+            convertedValue = conversions.convertIfNecessary(result, method.getReturnType());
+            convertedValues.putIfAbsent(method, convertedValue);
+            return copyIfArray(convertedValue);
+        }
+
+        // NOTE: Converted values are cached, so we must not hand out the cached arrays, since callers could modify them
+        //       (the JDK also returns a fresh copy of array values on each invocation)
+        private static Object copyIfArray(Object value) {
+            if (!value.getClass().isArray()) {
+                return value;
+            }
+            int length = Array.getLength(value);
+            Object result = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, result, 0, length);
+            return result;
         }
     }
 
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Multimaps;
+import com.google.common.collect.SetMultimap;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.Function;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.base.PackageMatcher;
+import com.tngtech.archunit.core.domain.properties.CanBeAnnotated;
+
+/**
+ * Indexes a collection of {@link JavaClass JavaClasses}, so {@link JavaClasses#that(DescribedPredicate)} can look up
+ * the candidates of common predicates, like the package, the simple name suffix, the annotations or the super types
+ * of a class, instead of testing every class. Each index is only built on first use.
+ */
+final class ClassesIndex {
+    private final Collection<JavaClass> classes;
+    private final Function<DescribedPredicate<?>, Optional<Set<JavaClass>>> candidatesOfElementary =
+            new Function<DescribedPredicate<?>, Optional<Set<JavaClass>>>() {
+                @Override
+                public Optional<Set<JavaClass>> apply(DescribedPredicate<?> predicate) {
+                    if (predicate instanceof IndexedPredicate) {
+                        return Optional.of(((IndexedPredicate) predicate).getCandidatesFrom(ClassesIndex.this));
+                    }
+                    Optional<String> annotationTypeName = CanBeAnnotated.Predicates.tryGetAnnotationTypeName(predicate);
+                    return annotationTypeName.isPresent()
+                            ? Optional.of(getClassesAnnotatedWith(annotationTypeName.get()))
+                            : Optional.<Set<JavaClass>>absent();
+                }
+            };
+    private final Supplier<SetMultimap<String, JavaClass>> classesByPackage = Suppliers.memoize(new Supplier<SetMultimap<String, JavaClass>>() {
+        @Override
+        public SetMultimap<String, JavaClass> get() {
+            ImmutableSetMultimap.Builder<String, JavaClass> result = ImmutableSetMultimap.builder();
+            for (JavaClass javaClass : classes) {
+                result.put(javaClass.getPackage(), javaClass);
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<NavigableMap<String, Set<JavaClass>>> classesByReversedSimpleName =
+            Suppliers.memoize(new Supplier<NavigableMap<String, Set<JavaClass>>>() {
+                @Override
+                public NavigableMap<String, Set<JavaClass>> get() {
+                    ImmutableSetMultimap.Builder<String, JavaClass> bySimpleName = ImmutableSetMultimap.builder();
+                    for (JavaClass javaClass : classes) {
+                        bySimpleName.put(reverse(javaClass.getSimpleName()), javaClass);
+                    }
+                    return new TreeMap<>(Multimaps.asMap(bySimpleName.build()));
+                }
+            });
+    private final Supplier<SetMultimap<String, JavaClass>> classesByAssignableTypeName = Suppliers.memoize(new Supplier<SetMultimap<String, JavaClass>>() {
+        @Override
+        public SetMultimap<String, JavaClass> get() {
+            ImmutableSetMultimap.Builder<String, JavaClass> result = ImmutableSetMultimap.builder();
+            for (JavaClass javaClass : classes) {
+                for (JavaClass assignableType : javaClass.getAllClassesSelfIsAssignableTo()) {
+                    result.put(assignableType.getName(), javaClass);
+                }
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<SetMultimap<String, JavaClass>> classesByAnnotationType = Suppliers.memoize(new Supplier<SetMultimap<String, JavaClass>>() {
+        @Override
+        public SetMultimap<String, JavaClass> get() {
+            ImmutableSetMultimap.Builder<String, JavaClass> result = ImmutableSetMultimap.builder();
+            for (JavaClass javaClass : classes) {
+                for (JavaAnnotation annotation : javaClass.getAnnotations()) {
+                    result.put(annotation.getType().getName(), javaClass);
+                }
+            }
+            return result.build();
+        }
+    });
+
+    ClassesIndex(Collection<JavaClass> classes) {
+        this.classes = classes;
+    }
+
+    Set<JavaClass> getClassesInPackagesMatching(Set<PackageMatcher> packageMatchers) {
+        ImmutableSet.Builder<JavaClass> result = ImmutableSet.builder();
+        for (Map.Entry<String, Collection<JavaClass>> entry : classesByPackage.get().asMap().entrySet()) {
+            if (anyMatches(packageMatchers, entry.getKey())) {
+                result.addAll(entry.getValue());
+            }
+        }
+        return result.build();
+    }
+
+    private boolean anyMatches(Set<PackageMatcher> packageMatchers, String packageName) {
+        for (PackageMatcher matcher : packageMatchers) {
+            if (matcher.matches(packageName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Set<JavaClass> getClassesWithSimpleNameEndingWith(String suffix) {
+        String reversedSuffix = reverse(suffix);
+        // NOTE: Reversing the simple names turns the suffix into a prefix, which selects a contiguous range of the sorted keys
+        Collection<Set<JavaClass>> matching = classesByReversedSimpleName.get()
+                .subMap(reversedSuffix, true, reversedSuffix + Character.MAX_VALUE, false).values();
+        ImmutableSet.Builder<JavaClass> result = ImmutableSet.builder();
+        for (Set<JavaClass> classesWithSimpleName : matching) {
+            result.addAll(classesWithSimpleName);
+        }
+        return result.build();
+    }
+
+    Set<JavaClass> getClassesAssignableTo(String typeName) {
+        return classesByAssignableTypeName.get().get(typeName);
+    }
+
+    Set<JavaClass> getClassesAnnotatedWith(String annotationTypeName) {
+        return classesByAnnotationType.get().get(annotationTypeName);
+    }
+
+    /**
+     * @param predicate A predicate to look up candidates for
+     * @return all classes that possibly match the predicate, or {@link Optional#absent()}, if this index can't narrow
+     * down the candidates, i.e. every class has to be tested
+     */
+    Optional<Set<JavaClass>> tryGetCandidates(DescribedPredicate<? super JavaClass> predicate) {
+        return DescribedPredicate.tryGetCandidates(predicate, candidatesOfElementary);
+    }
+
+    private static String reverse(String string) {
+        return new StringBuilder(string).reverse().toString();
+    }
+
+    /**
+     * A predicate, whose matching {@link JavaClass JavaClasses} can be looked up from a {@link ClassesIndex}.
+     */
+    interface IndexedPredicate {
+        /**
+         * @return all classes of the index that possibly match this predicate
+         */
+        Set<JavaClass> getCandidatesFrom(ClassesIndex index);
+    }
+}
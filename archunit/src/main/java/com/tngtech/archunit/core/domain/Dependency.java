@@ -77,6 +77,15 @@ public class Dependency implements HasDescription, Comparable<Dependency> {
         return targetClass;
     }
 
+    /**
+     * @return the line number within the origin class, where the dependency occurs; 0, if the dependency
+     * does not belong to a specific line, e.g. inheritance
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
     @Override
     public String getDescription() {
         return description;
@@ -70,10 +70,18 @@ public class DomainObjectCreationContext {
         javaClass.completeClassHierarchyFrom(importContext);
     }
 
+    public static void completeClassHierarchies(Iterable<JavaClass> classes) {
+        HierarchyClosures.index(classes);
+    }
+
     public static void completeMembers(JavaClass javaClass, ImportContext importContext) {
         javaClass.completeMembers(importContext);
     }
 
+    public static <T extends JavaMember> Set<T> getMembersWithName(JavaClass owner, String name, Class<T> memberType) {
+        return owner.getMembersWithName(name, memberType);
+    }
+
     public static JavaAnnotation createJavaAnnotation(JavaAnnotationBuilder builder) {
         return new JavaAnnotation(builder);
     }
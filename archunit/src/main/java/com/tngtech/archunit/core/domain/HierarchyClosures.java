@@ -0,0 +1,203 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+
+/**
+ * The transitive closures of the class hierarchies of one import. The index is built once all class hierarchies
+ * of the import are complete, so the closures of each class are derived from those of its direct super types,
+ * and the sub classes of each class are the inverse of the types the other classes are assignable to.<br>
+ * Classes outside of the index, i.e. classes whose hierarchy was never completed by an import, have
+ * their closures computed on each query, which is cheap, since their hierarchy consists of nothing but themselves.
+ */
+final class HierarchyClosures {
+    static final HierarchyClosures NONE = new Builder().build();
+
+    private final Map<JavaClass, List<JavaClass>> allSuperClasses;
+    private final Map<JavaClass, Set<JavaClass>> allInterfaces;
+    private final Map<JavaClass, Set<JavaClass>> allClassesAssignableTo;
+    private final SetMultimap<JavaClass, JavaClass> allSubClasses;
+    private final Map<String, JavaClass> classesByName;
+
+    private HierarchyClosures(Builder builder) {
+        allSuperClasses = ImmutableMap.copyOf(builder.allSuperClasses);
+        allInterfaces = ImmutableMap.copyOf(builder.allInterfaces);
+        allClassesAssignableTo = ImmutableMap.copyOf(builder.allClassesAssignableTo);
+        ImmutableSetMultimap.Builder<JavaClass, JavaClass> subClasses = ImmutableSetMultimap.builder();
+        Map<String, JavaClass> byName = new HashMap<>();
+        for (Map.Entry<JavaClass, Set<JavaClass>> entry : allClassesAssignableTo.entrySet()) {
+            for (JavaClass assignableTo : entry.getValue()) {
+                if (!assignableTo.equals(entry.getKey())) {
+                    subClasses.put(assignableTo, entry.getKey());
+                }
+            }
+            byName.put(entry.getKey().getName(), entry.getKey());
+        }
+        allSubClasses = subClasses.build();
+        classesByName = ImmutableMap.copyOf(byName);
+    }
+
+    /**
+     * Indexes the hierarchies of the supplied classes, including all their super types, and hands the index
+     * to each indexed class. Must only be called once the class hierarchies of all these classes are complete.
+     */
+    static void index(Iterable<JavaClass> classes) {
+        Builder builder = new Builder();
+        for (JavaClass javaClass : classes) {
+            builder.addClosuresOf(javaClass);
+        }
+        HierarchyClosures result = builder.build();
+        for (JavaClass javaClass : result.allClassesAssignableTo.keySet()) {
+            javaClass.setHierarchyClosures(result);
+        }
+    }
+
+    List<JavaClass> getAllSuperClasses(JavaClass javaClass) {
+        List<JavaClass> result = allSuperClasses.get(javaClass);
+        return result != null ? result : superClassesAbove(javaClass);
+    }
+
+    Set<JavaClass> getAllInterfaces(JavaClass javaClass) {
+        Set<JavaClass> result = allInterfaces.get(javaClass);
+        return result != null ? result : interfacesAbove(javaClass);
+    }
+
+    Set<JavaClass> getAllClassesAssignableTo(JavaClass javaClass) {
+        Set<JavaClass> result = allClassesAssignableTo.get(javaClass);
+        return result != null ? result : classesAssignableTo(javaClass);
+    }
+
+    Set<JavaClass> getAllSubClasses(JavaClass javaClass) {
+        if (allClassesAssignableTo.containsKey(javaClass)) {
+            return allSubClasses.get(javaClass);
+        }
+        Set<JavaClass> result = new HashSet<>();
+        addAllSubClassesTo(javaClass, result);
+        return ImmutableSet.copyOf(result);
+    }
+
+    private static void addAllSubClassesTo(JavaClass javaClass, Set<JavaClass> result) {
+        for (JavaClass subClass : javaClass.getSubClasses()) {
+            if (result.add(subClass)) {
+                addAllSubClassesTo(subClass, result);
+            }
+        }
+    }
+
+    boolean isAssignableTo(JavaClass javaClass, String typeName) {
+        if (!allClassesAssignableTo.containsKey(javaClass)) {
+            return containsName(classesAssignableTo(javaClass), typeName);
+        }
+        JavaClass type = classesByName.get(typeName);
+        return type != null && allClassesAssignableTo.get(javaClass).contains(type);
+    }
+
+    boolean isAssignableFrom(JavaClass javaClass, String typeName) {
+        if (!allClassesAssignableTo.containsKey(javaClass)) {
+            return javaClass.getName().equals(typeName) || containsName(getAllSubClasses(javaClass), typeName);
+        }
+        JavaClass type = classesByName.get(typeName);
+        return type != null && allClassesAssignableTo.get(type).contains(javaClass);
+    }
+
+    private static boolean containsName(Set<JavaClass> classes, String typeName) {
+        for (JavaClass javaClass : classes) {
+            if (javaClass.getName().equals(typeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<JavaClass> superClassesAbove(JavaClass javaClass) {
+        ImmutableList.Builder<JavaClass> result = ImmutableList.builder();
+        if (javaClass.getSuperClass().isPresent()) {
+            result.add(javaClass.getSuperClass().get());
+            result.addAll(javaClass.getSuperClass().get().getAllSuperClasses());
+        }
+        return result.build();
+    }
+
+    private static Set<JavaClass> interfacesAbove(JavaClass javaClass) {
+        ImmutableSet.Builder<JavaClass> result = ImmutableSet.builder();
+        for (JavaClass i : javaClass.getInterfaces()) {
+            result.add(i);
+            result.addAll(i.getAllInterfaces());
+        }
+        if (javaClass.getSuperClass().isPresent()) {
+            result.addAll(javaClass.getSuperClass().get().getAllInterfaces());
+        }
+        return result.build();
+    }
+
+    private static Set<JavaClass> classesAssignableTo(JavaClass javaClass) {
+        return ImmutableSet.<JavaClass>builder()
+                .add(javaClass)
+                .addAll(javaClass.getAllSuperClasses())
+                .addAll(javaClass.getAllInterfaces())
+                .build();
+    }
+
+    private static class Builder {
+        private final Map<JavaClass, List<JavaClass>> allSuperClasses = new HashMap<>();
+        private final Map<JavaClass, Set<JavaClass>> allInterfaces = new HashMap<>();
+        private final Map<JavaClass, Set<JavaClass>> allClassesAssignableTo = new HashMap<>();
+
+        // NOTE: Recurses into the direct super types first, so the closures of a class are assembled from
+        //       the closures already added for its super types, instead of walking the hierarchy again
+        void addClosuresOf(JavaClass javaClass) {
+            if (allClassesAssignableTo.containsKey(javaClass)) {
+                return;
+            }
+            ImmutableList.Builder<JavaClass> superClasses = ImmutableList.builder();
+            ImmutableSet.Builder<JavaClass> interfaces = ImmutableSet.builder();
+            for (JavaClass i : javaClass.getInterfaces()) {
+                addClosuresOf(i);
+                interfaces.add(i).addAll(allInterfaces.get(i));
+            }
+            if (javaClass.getSuperClass().isPresent()) {
+                JavaClass superClass = javaClass.getSuperClass().get();
+                addClosuresOf(superClass);
+                superClasses.add(superClass).addAll(allSuperClasses.get(superClass));
+                interfaces.addAll(allInterfaces.get(superClass));
+            }
+            List<JavaClass> allSuperClassesOfClass = superClasses.build();
+            Set<JavaClass> allInterfacesOfClass = interfaces.build();
+            allSuperClasses.put(javaClass, allSuperClassesOfClass);
+            allInterfaces.put(javaClass, allInterfacesOfClass);
+            allClassesAssignableTo.put(javaClass, ImmutableSet.<JavaClass>builder()
+                    .add(javaClass)
+                    .addAll(allSuperClassesOfClass)
+                    .addAll(allInterfacesOfClass)
+                    .build());
+        }
+
+        HierarchyClosures build() {
+            return new HierarchyClosures(this);
+        }
+    }
+}
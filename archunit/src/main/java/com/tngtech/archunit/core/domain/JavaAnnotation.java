@@ -68,6 +68,7 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 public final class JavaAnnotation implements HasType {
     private final JavaClass type;
     private final Map<String, Object> values;
+    private volatile CachedProxy cachedProxy;
 
     JavaAnnotation(JavaAnnotationBuilder builder) {
         this.type = checkNotNull(builder.getType());
@@ -115,6 +116,21 @@ public final class JavaAnnotation implements HasType {
 
     @PublicAPI(usage = ACCESS)
     public <A extends Annotation> A as(Class<A> annotationType) {
-        return AnnotationProxy.of(annotationType, this);
+        CachedProxy result = cachedProxy;
+        if (result == null || result.annotationType != annotationType) {
+            result = new CachedProxy(annotationType, AnnotationProxy.of(annotationType, this));
+            cachedProxy = result;
+        }
+        return annotationType.cast(result.proxy);
+    }
+
+    private static class CachedProxy {
+        private final Class<?> annotationType;
+        private final Annotation proxy;
+
+        private CachedProxy(Class<?> annotationType, Annotation proxy) {
+            this.annotationType = annotationType;
+            this.proxy = proxy;
+        }
     }
 }
@@ -29,6 +29,8 @@ import com.google.common.base.Suppliers;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ArchUnitException.InvalidSyntaxUsageException;
@@ -62,11 +64,11 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
     private final boolean isEnum;
     private final Set<JavaModifier> modifiers;
     private final Supplier<Class<?>> reflectSupplier;
-    private Set<JavaField> fields = new HashSet<>();
-    private Set<JavaCodeUnit> codeUnits = new HashSet<>();
-    private Set<JavaMethod> methods = new HashSet<>();
-    private Set<JavaMember> members = new HashSet<>();
-    private Set<JavaConstructor> constructors = new HashSet<>();
+    private Set<JavaField> fields = Collections.emptySet();
+    private Set<JavaCodeUnit> codeUnits = Collections.emptySet();
+    private Set<JavaMethod> methods = Collections.emptySet();
+    private Set<JavaMember> members = Collections.emptySet();
+    private Set<JavaConstructor> constructors = Collections.emptySet();
     private Optional<JavaStaticInitializer> staticInitializer = Optional.absent();
     private Optional<JavaClass> superClass = Optional.absent();
     private final Set<JavaClass> interfaces = new HashSet<>();
@@ -74,6 +76,8 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
     private Optional<JavaClass> enclosingClass = Optional.absent();
     private Supplier<Map<String, JavaAnnotation>> annotations =
             Suppliers.ofInstance(Collections.<String, JavaAnnotation>emptyMap());
+    private volatile SetMultimap<String, JavaMember> membersByName;
+    private HierarchyClosures hierarchyClosures = HierarchyClosures.NONE;
     private Supplier<Set<JavaMethod>> allMethods;
     private Supplier<Set<JavaConstructor>> allConstructors;
     private Supplier<Set<JavaField>> allFields;
@@ -212,13 +216,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
      */
     @PublicAPI(usage = ACCESS)
     public List<JavaClass> getAllSuperClasses() {
-        ImmutableList.Builder<JavaClass> result = ImmutableList.builder();
-        JavaClass current = this;
-        while (current.getSuperClass().isPresent()) {
-            current = current.getSuperClass().get();
-            result.add(current);
-        }
-        return result.build();
+        return hierarchyClosures.getAllSuperClasses(this);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -233,15 +231,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaClass> getAllInterfaces() {
-        ImmutableSet.Builder<JavaClass> result = ImmutableSet.builder();
-        for (JavaClass i : interfaces) {
-            result.add(i);
-            result.addAll(i.getAllInterfaces());
-        }
-        if (superClass.isPresent()) {
-            result.addAll(superClass.get().getAllInterfaces());
-        }
-        return result.build();
+        return hierarchyClosures.getAllInterfaces(this);
     }
 
     /**
@@ -254,11 +244,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaClass> getAllClassesSelfIsAssignableTo() {
-        return ImmutableSet.<JavaClass>builder()
-                .add(this)
-                .addAll(getAllSuperClasses())
-                .addAll(getAllInterfaces())
-                .build();
+        return hierarchyClosures.getAllClassesAssignableTo(this);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -266,14 +252,12 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
         return enclosingClass;
     }
 
+    /**
+     * @return All classes extending or implementing this class, directly or transitively, as an immutable set
+     */
     @PublicAPI(usage = ACCESS)
     public Set<JavaClass> getAllSubClasses() {
-        Set<JavaClass> result = new HashSet<>();
-        for (JavaClass subClass : subClasses) {
-            result.add(subClass);
-            result.addAll(subClass.getAllSubClasses());
-        }
-        return result;
+        return hierarchyClosures.getAllSubClasses(this);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -304,10 +288,8 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
 
     @PublicAPI(usage = ACCESS)
     public Optional<JavaField> tryGetField(String name) {
-        for (JavaField field : fields) {
-            if (name.equals(field.getName())) {
-                return Optional.of(field);
-            }
+        for (JavaField field : getMembersWithName(name, JavaField.class)) {
+            return Optional.of(field);
         }
         return Optional.absent();
     }
@@ -363,15 +345,48 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
         return codeUnit.get();
     }
 
+    @SuppressWarnings("unchecked") // the code unit is contained in codeUnits, thus it is of type T
     private <T extends JavaCodeUnit> Optional<T> tryFindMatchingCodeUnit(Set<T> codeUnits, String name, List<String> parameters) {
-        for (T codeUnit : codeUnits) {
-            if (name.equals(codeUnit.getName()) && parameters.equals(codeUnit.getParameters().getNames())) {
-                return Optional.of(codeUnit);
+        for (JavaCodeUnit codeUnit : getMembersWithName(name, JavaCodeUnit.class)) {
+            if (codeUnits.contains(codeUnit) && parameters.equals(codeUnit.getParameters().getNames())) {
+                return Optional.of((T) codeUnit);
             }
         }
         return Optional.absent();
     }
 
+    /**
+     * @return The fields and code units of this class with the given name, that are of the given type,
+     * in the order of {@link #getFields()} and {@link #getCodeUnits()}
+     */
+    <T extends JavaMember> Set<T> getMembersWithName(String name, Class<T> memberType) {
+        ImmutableSet.Builder<T> result = ImmutableSet.builder();
+        for (JavaMember member : membersByName().get(name)) {
+            if (memberType.isInstance(member)) {
+                result.add(memberType.cast(member));
+            }
+        }
+        return result.build();
+    }
+
+    // NOTE: Most classes are never looked up by member name, so the index is only built on the first lookup.
+    //       Threads racing for the first lookup build equal indexes, thus it doesn't matter, which one is kept
+    private SetMultimap<String, JavaMember> membersByName() {
+        SetMultimap<String, JavaMember> result = membersByName;
+        if (result == null) {
+            ImmutableSetMultimap.Builder<String, JavaMember> builder = ImmutableSetMultimap.builder();
+            for (JavaField field : fields) {
+                builder.put(field.getName(), field);
+            }
+            for (JavaCodeUnit codeUnit : codeUnits) {
+                builder.put(codeUnit.getName(), codeUnit);
+            }
+            result = builder.build();
+            membersByName = result;
+        }
+        return result;
+    }
+
     @PublicAPI(usage = ACCESS)
     public JavaMethod getMethod(String name, Class<?>... parameters) {
         return findMatchingCodeUnit(methods, name, namesOf(parameters));
@@ -585,15 +600,12 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableFrom(String typeName) {
-        return isAssignableFrom(GET_NAME.is(equalTo(typeName)));
+        return hierarchyClosures.isAssignableFrom(this, typeName);
     }
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableFrom(DescribedPredicate<? super JavaClass> predicate) {
-        List<JavaClass> possibleTargets = ImmutableList.<JavaClass>builder()
-                .add(this).addAll(getAllSubClasses()).build();
-
-        return anyMatches(possibleTargets, predicate);
+        return predicate.apply(this) || anyMatches(hierarchyClosures.getAllSubClasses(this), predicate);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -603,18 +615,15 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableTo(final String typeName) {
-        return isAssignableTo(GET_NAME.is(equalTo(typeName)));
+        return hierarchyClosures.isAssignableTo(this, typeName);
     }
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableTo(DescribedPredicate<? super JavaClass> predicate) {
-        List<JavaClass> possibleTargets = ImmutableList.<JavaClass>builder()
-                .addAll(getClassHierarchy()).addAll(getAllInterfaces()).build();
-
-        return anyMatches(possibleTargets, predicate);
+        return anyMatches(getAllClassesSelfIsAssignableTo(), predicate);
     }
 
-    private boolean anyMatches(List<JavaClass> possibleTargets, DescribedPredicate<? super JavaClass> predicate) {
+    private boolean anyMatches(Set<JavaClass> possibleTargets, DescribedPredicate<? super JavaClass> predicate) {
         for (JavaClass javaClass : possibleTargets) {
             if (predicate.apply(javaClass)) {
                 return true;
@@ -685,6 +694,10 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
         }
     }
 
+    void setHierarchyClosures(HierarchyClosures hierarchyClosures) {
+        this.hierarchyClosures = hierarchyClosures;
+    }
+
     void completeMembers(final ImportContext context) {
         fields = context.createFields(this);
         methods = context.createMethods(this);
@@ -698,6 +711,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
                 .addAll(methods)
                 .addAll(constructors)
                 .build();
+        membersByName = null;
         this.annotations = Suppliers.memoize(new Supplier<Map<String, JavaAnnotation>>() {
             @Override
             public Map<String, JavaAnnotation> get() {
@@ -812,12 +826,12 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> assignableTo(final String typeName) {
-            return assignableTo(GET_NAME.is(equalTo(typeName)).as(typeName));
+            return new AssignableToTypePredicate(typeName);
         }
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> assignableFrom(final String typeName) {
-            return assignableFrom(GET_NAME.is(equalTo(typeName)).as(typeName));
+            return new AssignableFromTypePredicate(typeName);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -841,7 +855,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> implement(final String typeName) {
-            return implement(GET_NAME.is(equalTo(typeName)).as(typeName));
+            return new ImplementTypePredicate(typeName, implement(GET_NAME.is(equalTo(typeName)).as(typeName)));
         }
 
         @PublicAPI(usage = ACCESS)
@@ -932,7 +946,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
             }
         }
 
-        private static class SimpleNameEndingWithPredicate extends DescribedPredicate<JavaClass> {
+        private static class SimpleNameEndingWithPredicate extends DescribedPredicate<JavaClass> implements ClassesIndex.IndexedPredicate {
             private final String suffix;
 
             SimpleNameEndingWithPredicate(String suffix) {
@@ -944,6 +958,11 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
             public boolean apply(JavaClass input) {
                 return input.getSimpleName().endsWith(suffix);
             }
+
+            @Override
+            public Set<JavaClass> getCandidatesFrom(ClassesIndex index) {
+                return index.getClassesWithSimpleNameEndingWith(suffix);
+            }
         }
 
         private static class AssignableToPredicate extends DescribedPredicate<JavaClass> {
@@ -960,6 +979,60 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
             }
         }
 
+        private static class AssignableToTypePredicate extends DescribedPredicate<JavaClass> implements ClassesIndex.IndexedPredicate {
+            private final String typeName;
+
+            AssignableToTypePredicate(String typeName) {
+                super("assignable to " + typeName);
+                this.typeName = typeName;
+            }
+
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.isAssignableTo(typeName);
+            }
+
+            @Override
+            public Set<JavaClass> getCandidatesFrom(ClassesIndex index) {
+                return index.getClassesAssignableTo(typeName);
+            }
+        }
+
+        private static class AssignableFromTypePredicate extends DescribedPredicate<JavaClass> {
+            private final String typeName;
+
+            AssignableFromTypePredicate(String typeName) {
+                super("assignable from " + typeName);
+                this.typeName = typeName;
+            }
+
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.isAssignableFrom(typeName);
+            }
+        }
+
+        private static class ImplementTypePredicate extends DescribedPredicate<JavaClass> implements ClassesIndex.IndexedPredicate {
+            private final String typeName;
+            private final DescribedPredicate<JavaClass> implementPredicate;
+
+            ImplementTypePredicate(String typeName, DescribedPredicate<JavaClass> implementPredicate) {
+                super(implementPredicate.getDescription());
+                this.typeName = typeName;
+                this.implementPredicate = implementPredicate;
+            }
+
+            @Override
+            public boolean apply(JavaClass input) {
+                return implementPredicate.apply(input);
+            }
+
+            @Override
+            public Set<JavaClass> getCandidatesFrom(ClassesIndex index) {
+                return index.getClassesAssignableTo(typeName);
+            }
+        }
+
         private static class AssignableFromPredicate extends DescribedPredicate<JavaClass> {
             private final DescribedPredicate<? super JavaClass> predicate;
 
@@ -974,7 +1047,7 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
             }
         }
 
-        private static class PackageMatchesPredicate extends DescribedPredicate<JavaClass> {
+        private static class PackageMatchesPredicate extends DescribedPredicate<JavaClass> implements ClassesIndex.IndexedPredicate {
             private final Set<PackageMatcher> packageMatchers;
 
             PackageMatchesPredicate(Set<PackageMatcher> packageMatchers, String description) {
@@ -991,6 +1064,11 @@ public class JavaClass implements HasName, HasAnnotations, HasModifiers {
                 }
                 return false;
             }
+
+            @Override
+            public Set<JavaClass> getCandidatesFrom(ClassesIndex index) {
+                return index.getClassesInPackagesMatching(packageMatchers);
+            }
         }
 
         private static class EquivalentToPredicate extends DescribedPredicate<JavaClass> {
@@ -22,11 +22,14 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
-import com.tngtech.archunit.base.Guava;
+import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.DomainObjectCreationContext.AccessContext;
 import com.tngtech.archunit.core.domain.properties.CanOverrideDescription;
 
@@ -36,6 +39,16 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 public final class JavaClasses implements DescribedIterable<JavaClass>, CanOverrideDescription<JavaClasses> {
     private final ImmutableMap<String, JavaClass> classes;
     private final String description;
+    private final ClassesIndex index;
+    private final Supplier<Optional<PredicateResultCache>> predicateResultCache = Suppliers.memoize(new Supplier<Optional<PredicateResultCache>>() {
+        @Override
+        public Optional<PredicateResultCache> get() {
+            int maxCachedPredicateResults = ArchConfiguration.get().getMaxCachedPredicateResults();
+            return maxCachedPredicateResults > 0
+                    ? Optional.of(new PredicateResultCache(classes, maxCachedPredicateResults))
+                    : Optional.<PredicateResultCache>absent();
+        }
+    });
 
     private JavaClasses(Map<String, JavaClass> classes) {
         this(classes, "classes");
@@ -44,18 +57,53 @@ public final class JavaClasses implements DescribedIterable<JavaClass>, CanOverr
     JavaClasses(Map<String, JavaClass> classes, String description) {
         this.classes = ImmutableMap.copyOf(classes);
         this.description = description;
+        this.index = new ClassesIndex(this.classes.values());
+    }
+
+    private JavaClasses(ImmutableMap<String, JavaClass> classes, ClassesIndex index, String description) {
+        this.classes = classes;
+        this.description = description;
+        this.index = index;
     }
 
     @PublicAPI(usage = ACCESS)
     public JavaClasses that(DescribedPredicate<? super JavaClass> predicate) {
-        Map<String, JavaClass> matchingElements = Guava.Maps.filterValues(classes, predicate);
         String newDescription = String.format("%s that %s", description, predicate.getDescription());
-        return new JavaClasses(matchingElements, newDescription);
+        return new JavaClasses(getMatchingClasses(predicate), newDescription);
+    }
+
+    private ImmutableMap<String, JavaClass> getMatchingClasses(DescribedPredicate<? super JavaClass> predicate) {
+        Optional<PredicateResultCache> cache = predicateResultCache.get();
+        Optional<ImmutableMap<String, JavaClass>> cachedResult = cache.isPresent()
+                ? cache.get().tryGet(predicate)
+                : Optional.<ImmutableMap<String, JavaClass>>absent();
+        if (cachedResult.isPresent()) {
+            return cachedResult.get();
+        }
+
+        ImmutableMap<String, JavaClass> result = filter(predicate);
+        if (cache.isPresent()) {
+            cache.get().put(predicate, result);
+        }
+        return result;
+    }
+
+    // NOTE: The candidates looked up from the index are unordered, so we keep the original order of the classes,
+    //       and only test those classes against the predicate, that are candidates
+    private ImmutableMap<String, JavaClass> filter(DescribedPredicate<? super JavaClass> predicate) {
+        Optional<Set<JavaClass>> candidates = index.tryGetCandidates(predicate);
+        ImmutableMap.Builder<String, JavaClass> result = ImmutableMap.builder();
+        for (JavaClass javaClass : classes.values()) {
+            if ((!candidates.isPresent() || candidates.get().contains(javaClass)) && predicate.apply(javaClass)) {
+                result.put(javaClass.getName(), javaClass);
+            }
+        }
+        return result.build();
     }
 
     @Override
     public JavaClasses as(String description) {
-        return new JavaClasses(classes, description);
+        return new JavaClasses(classes, index, description);
     }
 
     @Override
@@ -78,6 +126,11 @@ public final class JavaClasses implements DescribedIterable<JavaClass>, CanOverr
         return classes.containsKey(reflectedType.getName());
     }
 
+    @PublicAPI(usage = ACCESS)
+    public boolean contain(String typeName) {
+        return classes.containsKey(typeName);
+    }
+
     @PublicAPI(usage = ACCESS)
     public JavaClass get(Class<?> reflectedType) {
         return get(reflectedType.getName());
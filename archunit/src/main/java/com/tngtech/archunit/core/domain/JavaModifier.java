@@ -19,6 +19,8 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.collect.Sets;
 import com.tngtech.archunit.PublicAPI;
@@ -72,6 +74,10 @@ public enum JavaModifier {
     }
 
     private static Set<JavaModifier> getModifiersFor(ApplicableType type, int asmAccess) {
+        return type.getModifiersFor(asmAccess);
+    }
+
+    private static Set<JavaModifier> createModifiersFor(ApplicableType type, int asmAccess) {
         Set<JavaModifier> result = new HashSet<>();
         for (JavaModifier modifier : JavaModifier.values()) {
             if (modifier.applicableTo.contains(type) && modifierPresent(modifier, asmAccess)) {
@@ -85,7 +91,29 @@ public enum JavaModifier {
         return (modifier.asmAccessFlag & asmAccess) != 0;
     }
 
+    private static int relevantAccessFlagsOf(int asmAccess) {
+        int result = 0;
+        for (JavaModifier modifier : JavaModifier.values()) {
+            result |= modifier.asmAccessFlag & asmAccess;
+        }
+        return result;
+    }
+
+    // NOTE: Every imported class and member holds a modifier set, but there are only few distinct combinations,
+    //       so we share one immutable set per combination instead of creating a new one for each element
     private enum ApplicableType {
-        CLASS, METHOD, FIELD
+        CLASS, METHOD, FIELD;
+
+        private final ConcurrentMap<Integer, Set<JavaModifier>> modifiersByAccessFlags = new ConcurrentHashMap<>();
+
+        Set<JavaModifier> getModifiersFor(int asmAccess) {
+            int relevantAccessFlags = relevantAccessFlagsOf(asmAccess);
+            Set<JavaModifier> result = modifiersByAccessFlags.get(relevantAccessFlags);
+            if (result == null) {
+                result = createModifiersFor(this, relevantAccessFlags);
+                modifiersByAccessFlags.putIfAbsent(relevantAccessFlags, result);
+            }
+            return result;
+        }
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.BitSet;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.Optional;
+
+/**
+ * Keeps the results of predicates on a fixed set of classes, so different rules filtering by the same predicate,
+ * e.g. a constant shared by those rules, only evaluate it once.
+ * Results are looked up by the predicate itself, i.e. by identity, unless the type of the predicate declares value
+ * equality. The description is no suitable key, since predicates with the same description can select different classes,
+ * e.g. predicates renamed via {@link DescribedPredicate#as(String)}.
+ * The results are stored as bitsets over the positions of the classes and the least recently used
+ * results are evicted, once the configured maximum size is reached.
+ */
+class PredicateResultCache {
+    private final ImmutableList<JavaClass> classes;
+    private final ImmutableMap<String, Integer> idsByName;
+    private final Cache<DescribedPredicate<?>, BitSet> results;
+
+    PredicateResultCache(ImmutableMap<String, JavaClass> classes, int maxSize) {
+        this.classes = classes.values().asList();
+        this.idsByName = idsByNameOf(this.classes);
+        this.results = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    }
+
+    private static ImmutableMap<String, Integer> idsByNameOf(ImmutableList<JavaClass> classes) {
+        ImmutableMap.Builder<String, Integer> result = ImmutableMap.builder();
+        for (int id = 0; id < classes.size(); id++) {
+            result.put(classes.get(id).getName(), id);
+        }
+        return result.build();
+    }
+
+    Optional<ImmutableMap<String, JavaClass>> tryGet(DescribedPredicate<?> predicate) {
+        BitSet matches = results.getIfPresent(predicate);
+        if (matches == null) {
+            return Optional.absent();
+        }
+        ImmutableMap.Builder<String, JavaClass> result = ImmutableMap.builder();
+        for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+            JavaClass javaClass = classes.get(id);
+            result.put(javaClass.getName(), javaClass);
+        }
+        return Optional.of(result.build());
+    }
+
+    void put(DescribedPredicate<?> predicate, ImmutableMap<String, JavaClass> matchingClasses) {
+        BitSet matches = new BitSet(classes.size());
+        for (String name : matchingClasses.keySet()) {
+            matches.set(idsByName.get(name));
+        }
+        results.put(predicate, matches);
+    }
+}
@@ -20,10 +20,12 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.Collection;
 
+import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ArchUnitException.InvalidSyntaxUsageException;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Function;
+import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaAnnotation;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
@@ -70,7 +72,7 @@ public interface CanBeAnnotated {
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<CanBeAnnotated> annotatedWith(final String annotationTypeName) {
             DescribedPredicate<HasType> typeNameMatches = GET_TYPE.then(GET_NAME).is(equalTo(annotationTypeName));
-            return annotatedWith(typeNameMatches.as("@" + ensureSimpleName(annotationTypeName)));
+            return new AnnotatedWithTypePredicate(annotationTypeName, typeNameMatches.as("@" + ensureSimpleName(annotationTypeName)));
         }
 
         @PublicAPI(usage = ACCESS)
@@ -91,6 +93,35 @@ public interface CanBeAnnotated {
                 return input.isAnnotatedWith(predicate);
             }
         }
+
+        /**
+         * Allows an index of annotated objects to look up the candidates of a predicate created by
+         * {@link #annotatedWith(String)} or {@link #annotatedWith(Class)}.
+         *
+         * @param predicate An arbitrary predicate
+         * @return The name of the annotation type, if the predicate tests for an annotation of a certain type,
+         * otherwise {@link Optional#absent()}
+         */
+        @Internal
+        public static Optional<String> tryGetAnnotationTypeName(DescribedPredicate<?> predicate) {
+            return predicate instanceof AnnotatedWithTypePredicate
+                    ? Optional.of(((AnnotatedWithTypePredicate) predicate).annotationTypeName)
+                    : Optional.<String>absent();
+        }
+
+        private static class AnnotatedWithTypePredicate extends AnnotatedPredicate {
+            private final String annotationTypeName;
+
+            AnnotatedWithTypePredicate(String annotationTypeName, DescribedPredicate<? super JavaAnnotation> typeNameMatches) {
+                super(typeNameMatches);
+                this.annotationTypeName = annotationTypeName;
+            }
+
+            @Override
+            public boolean apply(CanBeAnnotated input) {
+                return input.isAnnotatedWith(annotationTypeName);
+            }
+        }
     }
 
     final class Utils {
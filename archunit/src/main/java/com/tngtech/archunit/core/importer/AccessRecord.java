@@ -16,14 +16,16 @@
 package com.tngtech.archunit.core.importer;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.base.Function;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.AccessTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.ConstructorCallTarget;
@@ -35,10 +37,8 @@ import com.tngtech.archunit.core.domain.JavaCodeUnit;
 import com.tngtech.archunit.core.domain.JavaConstructor;
 import com.tngtech.archunit.core.domain.JavaField;
 import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
+import com.tngtech.archunit.core.domain.JavaMember;
 import com.tngtech.archunit.core.domain.JavaMethod;
-import com.tngtech.archunit.core.domain.properties.HasDescriptor;
-import com.tngtech.archunit.core.domain.properties.HasName;
-import com.tngtech.archunit.core.domain.properties.HasOwner;
 import com.tngtech.archunit.core.importer.DomainBuilders.ConstructorCallTargetBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.FieldAccessTargetBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.MethodCallTargetBuilder;
@@ -46,8 +46,10 @@ import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
 import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
 import org.objectweb.asm.Type;
 
+import static com.google.common.collect.Iterables.concat;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createJavaClassList;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.getMembersWithName;
 
 interface AccessRecord<TARGET extends AccessTarget> {
     JavaCodeUnit getCaller();
@@ -62,33 +64,110 @@ interface AccessRecord<TARGET extends AccessTarget> {
     }
 
     @Internal
-    abstract class Factory<RAW_RECORD, PROCESSED_RECORD> {
+    abstract class Factory<RAW_RECORD extends RawAccessRecord, TARGET extends AccessTarget, PROCESSED_RECORD extends AccessRecord<TARGET>> {
+        // NOTE: The same target (think StringBuilder.append(..)) is usually accessed from many places, so we create
+        //       only one target per owner, name and descriptor, which is then shared (together with the lazily
+        //       resolved members) by all accesses to this target
+        private final Map<TargetInfo, TARGET> targets = new HashMap<>();
+        private final Map<String, JavaClassList> argumentTypesByDescriptor = new HashMap<>();
+        private final Map<String, JavaClass> typesByDescriptor = new HashMap<>();
 
         abstract PROCESSED_RECORD create(RAW_RECORD record, ImportedClasses classes);
 
-        static Factory<RawAccessRecord, AccessRecord<ConstructorCallTarget>> forConstructorCallRecord() {
-            return new Factory<RawAccessRecord, AccessRecord<ConstructorCallTarget>>() {
+        abstract TARGET createTarget(TargetInfo targetInfo, JavaClass targetOwner, ImportedClasses classes);
+
+        TARGET getTarget(TargetInfo targetInfo, ImportedClasses classes) {
+            TARGET target = targets.get(targetInfo);
+            if (target == null) {
+                target = createTarget(targetInfo, classes.getOrResolve(targetInfo.owner.getName()), classes);
+                targets.put(targetInfo, target);
+            }
+            return target;
+        }
+
+        JavaClassList getArgumentTypesFrom(String descriptor, ImportedClasses classes) {
+            JavaClassList result = argumentTypesByDescriptor.get(descriptor);
+            if (result == null) {
+                result = parseArgumentTypesFrom(descriptor, classes);
+                argumentTypesByDescriptor.put(descriptor, result);
+            }
+            return result;
+        }
+
+        JavaClass getTypeFrom(String descriptor, Type type, ImportedClasses classes) {
+            JavaClass result = typesByDescriptor.get(descriptor);
+            if (result == null) {
+                result = classes.getOrResolve(type.getClassName());
+                typesByDescriptor.put(descriptor, result);
+            }
+            return result;
+        }
+
+        static Factory<RawAccessRecord, ConstructorCallTarget, AccessRecord<ConstructorCallTarget>> forConstructorCallRecord() {
+            return new Factory<RawAccessRecord, ConstructorCallTarget, AccessRecord<ConstructorCallTarget>>() {
                 @Override
                 AccessRecord<ConstructorCallTarget> create(RawAccessRecord record, ImportedClasses classes) {
-                    return new RawConstructorCallRecordProcessed(record, classes);
+                    return new RawConstructorCallRecordProcessed(record, classes, this);
+                }
+
+                @Override
+                ConstructorCallTarget createTarget(TargetInfo targetInfo, JavaClass targetOwner, ImportedClasses classes) {
+                    Supplier<Optional<JavaConstructor>> constructorSupplier = uniqueTargetIn(
+                            matchingTargetsSupplier(targetOwner, CLASS_HIERARCHY, targetInfo, JavaConstructor.class));
+                    JavaClassList paramTypes = getArgumentTypesFrom(targetInfo.desc, classes);
+                    JavaClass returnType = classes.getOrResolve(void.class.getName());
+                    return new ConstructorCallTargetBuilder()
+                            .withOwner(targetOwner)
+                            .withParameters(paramTypes)
+                            .withReturnType(returnType)
+                            .withConstructor(constructorSupplier)
+                            .build();
                 }
             };
         }
 
-        static Factory<RawAccessRecord, AccessRecord<MethodCallTarget>> forMethodCallRecord() {
-            return new Factory<RawAccessRecord, AccessRecord<MethodCallTarget>>() {
+        static Factory<RawAccessRecord, MethodCallTarget, AccessRecord<MethodCallTarget>> forMethodCallRecord() {
+            return new Factory<RawAccessRecord, MethodCallTarget, AccessRecord<MethodCallTarget>>() {
                 @Override
                 AccessRecord<MethodCallTarget> create(RawAccessRecord record, ImportedClasses classes) {
-                    return new RawMethodCallRecordProcessed(record, classes);
+                    return new RawMethodCallRecordProcessed(record, classes, this);
+                }
+
+                @Override
+                MethodCallTarget createTarget(TargetInfo targetInfo, JavaClass targetOwner, ImportedClasses classes) {
+                    Supplier<Set<JavaMethod>> methodsSupplier =
+                            matchingTargetsSupplier(targetOwner, CLASS_HIERARCHY_AND_INTERFACES, targetInfo, JavaMethod.class);
+                    JavaClassList parameters = getArgumentTypesFrom(targetInfo.desc, classes);
+                    JavaClass returnType = getTypeFrom(targetInfo.desc, Type.getReturnType(targetInfo.desc), classes);
+                    return new MethodCallTargetBuilder()
+                            .withOwner(targetOwner)
+                            .withName(targetInfo.name)
+                            .withParameters(parameters)
+                            .withReturnType(returnType)
+                            .withMethods(methodsSupplier)
+                            .build();
                 }
             };
         }
 
-        static Factory<RawAccessRecord.ForField, FieldAccessRecord> forFieldAccessRecord() {
-            return new Factory<RawAccessRecord.ForField, FieldAccessRecord>() {
+        static Factory<RawAccessRecord.ForField, FieldAccessTarget, FieldAccessRecord> forFieldAccessRecord() {
+            return new Factory<RawAccessRecord.ForField, FieldAccessTarget, FieldAccessRecord>() {
                 @Override
                 FieldAccessRecord create(RawAccessRecord.ForField record, ImportedClasses classes) {
-                    return new RawFieldAccessRecordProcessed(record, classes);
+                    return new RawFieldAccessRecordProcessed(record, classes, this);
+                }
+
+                @Override
+                FieldAccessTarget createTarget(TargetInfo targetInfo, JavaClass targetOwner, ImportedClasses classes) {
+                    Supplier<Optional<JavaField>> fieldSupplier = uniqueTargetIn(
+                            matchingTargetsSupplier(targetOwner, CLASS_HIERARCHY_AND_INTERFACES, targetInfo, JavaField.class));
+                    JavaClass fieldType = getTypeFrom(targetInfo.desc, Type.getType(targetInfo.desc), classes);
+                    return new FieldAccessTargetBuilder()
+                            .withOwner(targetOwner)
+                            .withName(targetInfo.name)
+                            .withType(fieldType)
+                            .withField(fieldSupplier)
+                            .build();
                 }
             };
         }
@@ -96,13 +175,14 @@ interface AccessRecord<TARGET extends AccessTarget> {
         private static class RawConstructorCallRecordProcessed implements AccessRecord<ConstructorCallTarget> {
             private final RawAccessRecord record;
             private final ImportedClasses classes;
-            private final JavaClass targetOwner;
+            private final Factory<?, ConstructorCallTarget, ?> factory;
             private final Supplier<JavaCodeUnit> callerSupplier;
 
-            RawConstructorCallRecordProcessed(RawAccessRecord record, ImportedClasses classes) {
+            RawConstructorCallRecordProcessed(RawAccessRecord record, ImportedClasses classes,
+                    Factory<?, ConstructorCallTarget, ?> factory) {
                 this.record = record;
                 this.classes = classes;
-                targetOwner = this.classes.getOrResolve(record.target.owner.getName());
+                this.factory = factory;
                 callerSupplier = createCallerSupplier(record, classes);
             }
 
@@ -113,20 +193,7 @@ interface AccessRecord<TARGET extends AccessTarget> {
 
             @Override
             public ConstructorCallTarget getTarget() {
-                Supplier<Optional<JavaConstructor>> constructorSupplier = new Supplier<Optional<JavaConstructor>>() {
-                    @Override
-                    public Optional<JavaConstructor> get() {
-                        return uniqueTargetIn(tryFindMatchingTargets(targetOwner.getAllConstructors(), record.target));
-                    }
-                };
-                JavaClassList paramTypes = getArgumentTypesFrom(record.target.desc, classes);
-                JavaClass returnType = classes.getOrResolve(void.class.getName());
-                return new ConstructorCallTargetBuilder()
-                        .withOwner(targetOwner)
-                        .withParameters(paramTypes)
-                        .withReturnType(returnType)
-                        .withConstructor(constructorSupplier)
-                        .build();
+                return factory.getTarget(record.target, classes);
             }
 
             @Override
@@ -138,13 +205,14 @@ interface AccessRecord<TARGET extends AccessTarget> {
         private static class RawMethodCallRecordProcessed implements AccessRecord<MethodCallTarget> {
             private final RawAccessRecord record;
             final ImportedClasses classes;
-            private final JavaClass targetOwner;
+            private final Factory<?, MethodCallTarget, ?> factory;
             private final Supplier<JavaCodeUnit> callerSupplier;
 
-            RawMethodCallRecordProcessed(RawAccessRecord record, ImportedClasses classes) {
+            RawMethodCallRecordProcessed(RawAccessRecord record, ImportedClasses classes,
+                    Factory<?, MethodCallTarget, ?> factory) {
                 this.record = record;
                 this.classes = classes;
-                targetOwner = this.classes.getOrResolve(record.target.owner.getName());
+                this.factory = factory;
                 callerSupplier = createCallerSupplier(record, classes);
             }
 
@@ -155,21 +223,7 @@ interface AccessRecord<TARGET extends AccessTarget> {
 
             @Override
             public MethodCallTarget getTarget() {
-                Supplier<Set<JavaMethod>> methodsSupplier = new Supplier<Set<JavaMethod>>() {
-                    @Override
-                    public Set<JavaMethod> get() {
-                        return tryFindMatchingTargets(targetOwner.getAllMethods(), record.target);
-                    }
-                };
-                JavaClassList parameters = getArgumentTypesFrom(record.target.desc, classes);
-                JavaClass returnType = classes.getOrResolve(Type.getReturnType(record.target.desc).getClassName());
-                return new MethodCallTargetBuilder()
-                        .withOwner(targetOwner)
-                        .withName(record.target.name)
-                        .withParameters(parameters)
-                        .withReturnType(returnType)
-                        .withMethods(methodsSupplier)
-                        .build();
+                return factory.getTarget(record.target, classes);
             }
 
             @Override
@@ -181,13 +235,14 @@ interface AccessRecord<TARGET extends AccessTarget> {
         private static class RawFieldAccessRecordProcessed implements FieldAccessRecord {
             private final RawAccessRecord.ForField record;
             final ImportedClasses classes;
-            private final JavaClass targetOwner;
+            private final Factory<?, FieldAccessTarget, ?> factory;
             private final Supplier<JavaCodeUnit> callerSupplier;
 
-            RawFieldAccessRecordProcessed(RawAccessRecord.ForField record, ImportedClasses classes) {
+            RawFieldAccessRecordProcessed(RawAccessRecord.ForField record, ImportedClasses classes,
+                    Factory<?, FieldAccessTarget, ?> factory) {
                 this.record = record;
                 this.classes = classes;
-                targetOwner = this.classes.getOrResolve(record.target.owner.getName());
+                this.factory = factory;
                 callerSupplier = createCallerSupplier(record, classes);
             }
 
@@ -203,19 +258,7 @@ interface AccessRecord<TARGET extends AccessTarget> {
 
             @Override
             public FieldAccessTarget getTarget() {
-                Supplier<Optional<JavaField>> fieldSupplier = new Supplier<Optional<JavaField>>() {
-                    @Override
-                    public Optional<JavaField> get() {
-                        return uniqueTargetIn(tryFindMatchingTargets(targetOwner.getAllFields(), record.target));
-                    }
-                };
-                JavaClass fieldType = classes.getOrResolve(Type.getType(record.target.desc).getClassName());
-                return new FieldAccessTargetBuilder()
-                        .withOwner(targetOwner)
-                        .withName(record.target.name)
-                        .withType(fieldType)
-                        .withField(fieldSupplier)
-                        .build();
+                return factory.getTarget(record.target, classes);
             }
 
             @Override
@@ -224,6 +267,43 @@ interface AccessRecord<TARGET extends AccessTarget> {
             }
         }
 
+        private static final Function<JavaClass, Iterable<JavaClass>> CLASS_HIERARCHY =
+                new Function<JavaClass, Iterable<JavaClass>>() {
+                    @Override
+                    public Iterable<JavaClass> apply(JavaClass input) {
+                        return input.getClassHierarchy();
+                    }
+                };
+
+        private static final Function<JavaClass, Iterable<JavaClass>> CLASS_HIERARCHY_AND_INTERFACES =
+                new Function<JavaClass, Iterable<JavaClass>>() {
+                    @Override
+                    public Iterable<JavaClass> apply(JavaClass input) {
+                        return concat(input.getClassHierarchy(), input.getAllInterfaces());
+                    }
+                };
+
+        // NOTE: Targets are resolved on first use. Instead of scanning all members of the hierarchy, we look up the
+        //       members with the name of the target in each class of the hierarchy. The supplier is created
+        //       statically, so it keeps the target owner and the target info, but not the factory reachable
+        private static <T extends JavaMember> Supplier<Set<T>> matchingTargetsSupplier(final JavaClass targetOwner,
+                final Function<JavaClass, Iterable<JavaClass>> getHierarchy, final TargetInfo targetInfo, final Class<T> memberType) {
+            return Suppliers.memoize(new Supplier<Set<T>>() {
+                @Override
+                public Set<T> get() {
+                    ImmutableSet.Builder<T> result = ImmutableSet.builder();
+                    for (JavaClass javaClass : getHierarchy.apply(targetOwner)) {
+                        for (T possibleTarget : getMembersWithName(javaClass, targetInfo.name, memberType)) {
+                            if (targetInfo.matches(possibleTarget)) {
+                                result.add(possibleTarget);
+                            }
+                        }
+                    }
+                    return result.build();
+                }
+            });
+        }
+
         private static Supplier<JavaCodeUnit> createCallerSupplier(final RawAccessRecord record, final ImportedClasses classes) {
             return Suppliers.memoize(new Supplier<JavaCodeUnit>() {
                 @Override
@@ -243,22 +323,17 @@ interface AccessRecord<TARGET extends AccessTarget> {
                     " that matches supposed caller " + caller);
         }
 
-        private static <T extends HasName & HasDescriptor & HasOwner<JavaClass>> Set<T>
-        tryFindMatchingTargets(Set<T> possibleTargets, TargetInfo targetInfo) {
-            ImmutableSet.Builder<T> result = ImmutableSet.builder();
-            for (T possibleTarget : possibleTargets) {
-                if (targetInfo.matches(possibleTarget)) {
-                    result.add(possibleTarget);
+        private static <T> Supplier<Optional<T>> uniqueTargetIn(final Supplier<Set<T>> targets) {
+            return Suppliers.memoize(new Supplier<Optional<T>>() {
+                @Override
+                public Optional<T> get() {
+                    Set<T> result = targets.get();
+                    return result.size() == 1 ? Optional.of(getOnlyElement(result)) : Optional.<T>absent();
                 }
-            }
-            return result.build();
-        }
-
-        private static <T> Optional<T> uniqueTargetIn(Collection<T> collection) {
-            return collection.size() == 1 ? Optional.of(getOnlyElement(collection)) : Optional.<T>absent();
+            });
         }
 
-        private static JavaClassList getArgumentTypesFrom(String descriptor, ImportedClasses classes) {
+        private static JavaClassList parseArgumentTypesFrom(String descriptor, ImportedClasses classes) {
             List<JavaClass> paramTypes = new ArrayList<>();
             for (Type type : Type.getArgumentTypes(descriptor)) {
                 paramTypes.add(classes.getOrResolve(type.getClassName()));
@@ -143,6 +143,12 @@ class ClassFileImportRecord {
         return ImmutableSet.copyOf(rawConstructorCallRecords);
     }
 
+    void clearAccessRecords() {
+        rawFieldAccessRecords.clear();
+        rawMethodCallRecords.clear();
+        rawConstructorCallRecords.clear();
+    }
+
     void addAll(Collection<JavaClass> javaClasses) {
         for (JavaClass javaClass : javaClasses) {
             classes.put(javaClass.getName(), javaClass);
@@ -45,7 +45,11 @@ class ClassFileProcessor {
     private final ClassResolver.Factory classResolverFactory = new ClassResolver.Factory();
 
     JavaClasses process(ClassFileSource source) {
-        ClassFileImportRecord importRecord = new ClassFileImportRecord();
+        return process(source, new ClassFileImportRecord());
+    }
+
+    // Used for testing
+    JavaClasses process(ClassFileSource source, ClassFileImportRecord importRecord) {
         RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord);
         ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord);
         for (ClassFileLocation location : source) {
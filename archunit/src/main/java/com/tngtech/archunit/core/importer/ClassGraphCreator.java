@@ -15,6 +15,7 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
@@ -26,6 +27,7 @@ import com.tngtech.archunit.base.Function;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.AccessTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.ConstructorCallTarget;
+import com.tngtech.archunit.core.domain.AccessTarget.FieldAccessTarget;
 import com.tngtech.archunit.core.domain.AccessTarget.MethodCallTarget;
 import com.tngtech.archunit.core.domain.DomainObjectCreationContext;
 import com.tngtech.archunit.core.domain.ImportContext;
@@ -47,6 +49,7 @@ import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodCallBuilder;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
 
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeClassHierarchy;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeClassHierarchies;
 import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createJavaClasses;
 import static com.tngtech.archunit.core.importer.DomainBuilders.BuilderWithBuildParameter.BuildFinisher.build;
 import static com.tngtech.archunit.core.importer.DomainBuilders.buildAnnotations;
@@ -91,16 +94,34 @@ class ClassGraphCreator implements ImportContext {
         ensureCallTargetsArePresent();
         ensureClassHierarchies();
         completeMembers();
+        AccessRecord.Factory<RawAccessRecord.ForField, FieldAccessTarget, FieldAccessRecord> fieldAccessRecordFactory =
+                AccessRecord.Factory.forFieldAccessRecord();
         for (RawAccessRecord.ForField fieldAccessRecord : importRecord.getRawFieldAccessRecords()) {
-            tryProcess(fieldAccessRecord, AccessRecord.Factory.forFieldAccessRecord(), processedFieldAccessRecords);
+            tryProcess(fieldAccessRecord, fieldAccessRecordFactory, processedFieldAccessRecords);
         }
+        AccessRecord.Factory<RawAccessRecord, MethodCallTarget, AccessRecord<MethodCallTarget>> methodCallRecordFactory =
+                AccessRecord.Factory.forMethodCallRecord();
         for (RawAccessRecord methodCallRecord : importRecord.getRawMethodCallRecords()) {
-            tryProcess(methodCallRecord, AccessRecord.Factory.forMethodCallRecord(), processedMethodCallRecords);
+            tryProcess(methodCallRecord, methodCallRecordFactory, processedMethodCallRecords);
         }
+        AccessRecord.Factory<RawAccessRecord, ConstructorCallTarget, AccessRecord<ConstructorCallTarget>> constructorCallRecordFactory =
+                AccessRecord.Factory.forConstructorCallRecord();
         for (RawAccessRecord constructorCallRecord : importRecord.getRawConstructorCallRecords()) {
-            tryProcess(constructorCallRecord, AccessRecord.Factory.forConstructorCallRecord(), processedConstructorCallRecords);
+            tryProcess(constructorCallRecord, constructorCallRecordFactory, processedConstructorCallRecords);
         }
-        return createJavaClasses(classes.getDirectlyImported(), this);
+        JavaClasses result = createJavaClasses(classes.getDirectlyImported(), this);
+        releaseAccessRecords();
+        return result;
+    }
+
+    // NOTE: Lazily created parts of the domain (e.g. annotations) keep this context reachable as long as the imported
+    //       classes are in use. Once all code units are completed, the access records are not needed anymore,
+    //       and for big imports they make up the biggest part of the import state, so we release them early
+    private void releaseAccessRecords() {
+        processedFieldAccessRecords.clear();
+        processedMethodCallRecords.clear();
+        processedConstructorCallRecords.clear();
+        importRecord.clearAccessRecords();
     }
 
     private void ensureCallTargetsArePresent() {
@@ -109,11 +130,15 @@ class ClassGraphCreator implements ImportContext {
         }
     }
 
+    // NOTE: The hierarchy closures are indexed as soon as all class hierarchies are complete, instead of once
+    //       the JavaClasses are created, since resolving the access targets already queries the hierarchies
     private void ensureClassHierarchies() {
         ensureClassesOfHierarchyInContext();
-        for (JavaClass javaClass : classes.getAll().values()) {
+        Collection<JavaClass> allClasses = classes.getAll().values();
+        for (JavaClass javaClass : allClasses) {
             completeClassHierarchy(javaClass, this);
         }
+        completeClassHierarchies(allClasses);
     }
 
     private void ensureClassesOfHierarchyInContext() {
@@ -140,7 +165,7 @@ class ClassGraphCreator implements ImportContext {
 
     private <T extends AccessRecord<?>, B extends RawAccessRecord> void tryProcess(
             B rawRecord,
-            AccessRecord.Factory<B, T> factory,
+            AccessRecord.Factory<B, ?, T> factory,
             Multimap<JavaCodeUnit, T> processedAccessRecords) {
 
         T processed = factory.create(rawRecord, classes);
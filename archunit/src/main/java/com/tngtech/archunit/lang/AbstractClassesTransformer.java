@@ -15,10 +15,15 @@
  */
 package com.tngtech.archunit.lang;
 
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Guava;
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
@@ -44,13 +49,11 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
 
     @Override
     public final ClassesTransformer<T> that(final DescribedPredicate<? super T> predicate) {
-        return new AbstractClassesTransformer<T>(description + " that " + predicate.getDescription()) {
-            @Override
-            public Iterable<T> doTransform(JavaClasses collection) {
-                Iterable<T> transformed = AbstractClassesTransformer.this.doTransform(collection);
-                return Guava.Iterables.filter(transformed, predicate);
-            }
-        };
+        List<DescribedPredicate<? super T>> predicates = ImmutableList.<DescribedPredicate<? super T>>builder()
+                .addAll(getPredicates())
+                .add(predicate)
+                .build();
+        return new DerivedTransformer<>(description + " that " + predicate.getDescription(), getBase(), predicates);
     }
 
     @Override
@@ -60,11 +63,59 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
 
     @Override
     public final ClassesTransformer<T> as(String description) {
-        return new AbstractClassesTransformer<T>(description) {
-            @Override
-            public Iterable<T> doTransform(JavaClasses collection) {
-                return AbstractClassesTransformer.this.doTransform(collection);
+        return new DerivedTransformer<>(description, getBase(), getPredicates());
+    }
+
+    /**
+     * @return The transformer this transformer was derived from via {@link #that(DescribedPredicate)} and
+     * {@link #as(String)}, or this transformer itself, if it was not derived from any other transformer
+     */
+    AbstractClassesTransformer<T> getBase() {
+        return this;
+    }
+
+    /**
+     * @return The predicates the objects transformed by {@link #getBase()} are filtered by, in the order they were added
+     */
+    List<DescribedPredicate<? super T>> getPredicates() {
+        return Collections.emptyList();
+    }
+
+    // NOTE: JavaClasses can look up the candidates of many predicates from an index, instead of testing every class
+    @SuppressWarnings("unchecked") // if the transformation results in JavaClasses, T must be JavaClass
+    static <T> Iterable<T> filter(Iterable<T> transformed, DescribedPredicate<? super T> predicate) {
+        return transformed instanceof JavaClasses
+                ? (Iterable<T>) ((JavaClasses) transformed).that((DescribedPredicate<? super JavaClass>) predicate)
+                : Guava.Iterables.filter(transformed, predicate);
+    }
+
+    private static class DerivedTransformer<T> extends AbstractClassesTransformer<T> {
+        private final AbstractClassesTransformer<T> base;
+        private final List<DescribedPredicate<? super T>> predicates;
+
+        DerivedTransformer(String description, AbstractClassesTransformer<T> base, List<DescribedPredicate<? super T>> predicates) {
+            super(description);
+            this.base = base;
+            this.predicates = predicates;
+        }
+
+        @Override
+        public Iterable<T> doTransform(JavaClasses collection) {
+            Iterable<T> result = base.doTransform(collection);
+            for (DescribedPredicate<? super T> predicate : predicates) {
+                result = filter(result, predicate);
             }
-        };
+            return result;
+        }
+
+        @Override
+        AbstractClassesTransformer<T> getBase() {
+            return base;
+        }
+
+        @Override
+        List<DescribedPredicate<? super T>> getPredicates() {
+            return predicates;
+        }
     }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.properties.HasOwner;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static java.util.Collections.singleton;
+
+/**
+ * The classes, whose evaluation might have a different result, after some classes have changed
+ * (compare {@link EvaluationMode#withChangedClasses(Collection)}). Besides the changed classes themselves, these are
+ * <ul>
+ *     <li>all classes a changed class depends on, since e.g. a condition might check the dependents of a class</li>
+ *     <li>all subclasses of a changed class, since e.g. a changed interface changes the assignability of those classes</li>
+ *     <li>all classes depending on a changed class or any of its subclasses, since e.g. the package or the
+ *     assignability of an accessed class might have changed</li>
+ * </ul>
+ * If no changed classes are known, all classes are considered affected.
+ */
+public final class AffectedClasses {
+    private static final AffectedClasses ALL = new AffectedClasses(Optional.<Set<JavaClass>>absent());
+
+    private final Optional<Set<JavaClass>> classes;
+
+    private AffectedClasses(Optional<Set<JavaClass>> classes) {
+        this.classes = classes;
+    }
+
+    static AffectedClasses all() {
+        return ALL;
+    }
+
+    static AffectedClasses of(JavaClasses classes, Collection<String> changedClassNames) {
+        Set<JavaClass> result = new HashSet<>();
+        for (String changedClassName : changedClassNames) {
+            if (classes.contain(changedClassName)) {
+                addAffectedBy(classes.get(changedClassName), result);
+            }
+        }
+        return new AffectedClasses(Optional.<Set<JavaClass>>of(ImmutableSet.copyOf(result)));
+    }
+
+    private static void addAffectedBy(JavaClass changedClass, Set<JavaClass> result) {
+        for (Dependency dependency : changedClass.getDirectDependenciesFromSelf()) {
+            result.add(dependency.getTargetClass());
+        }
+        for (JavaClass javaClass : Sets.union(singleton(changedClass), changedClass.getAllSubClasses())) {
+            result.add(javaClass);
+            for (Dependency dependency : javaClass.getDirectDependenciesToSelf()) {
+                result.add(dependency.getOriginClass());
+            }
+        }
+    }
+
+    /**
+     * @return the classes the object belongs to, in the same way as {@link #isAffected(Object)} relates objects
+     * to classes; absent, if the object is not related to any class, and thus affected by any change
+     */
+    static Optional<Set<JavaClass>> ownersOf(Object object) {
+        Set<JavaClass> result = new HashSet<>();
+        return addOwnersOf(object, result) && !result.isEmpty()
+                ? Optional.<Set<JavaClass>>of(result)
+                : Optional.<Set<JavaClass>>absent();
+    }
+
+    /**
+     * The inverse of {@link #of(JavaClasses, Collection)}, i.e. objects belonging to the given classes are affected
+     * by a change of any of the returned classes, but by no change of any other class.
+     *
+     * @return the classes, whose change might change the result of checking objects belonging to the given classes
+     */
+    static Set<JavaClass> affecting(Iterable<JavaClass> owners) {
+        Set<JavaClass> result = new HashSet<>();
+        for (JavaClass owner : owners) {
+            addAffecting(owner, result);
+        }
+        return result;
+    }
+
+    private static boolean addOwnersOf(Object object, Set<JavaClass> result) {
+        if (object instanceof JavaClass) {
+            result.add((JavaClass) object);
+            return true;
+        }
+        if (object instanceof JavaAccess<?>) {
+            result.add(((JavaAccess<?>) object).getOriginOwner());
+            return true;
+        }
+        if (object instanceof Dependency) {
+            result.add(((Dependency) object).getOriginClass());
+            return true;
+        }
+        if (object instanceof HasOwner<?>) {
+            return addOwnersOf(((HasOwner<?>) object).getOwner(), result);
+        }
+        if (object instanceof Iterable<?>) {
+            for (Object element : (Iterable<?>) object) {
+                if (!addOwnersOf(element, result)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static void addAffecting(JavaClass javaClass, Set<JavaClass> result) {
+        addWithTypeHierarchy(javaClass, result);
+        for (Dependency dependency : javaClass.getDirectDependenciesToSelf()) {
+            result.add(dependency.getOriginClass());
+        }
+        for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
+            addWithTypeHierarchy(dependency.getTargetClass(), result);
+        }
+    }
+
+    private static void addWithTypeHierarchy(JavaClass javaClass, Set<JavaClass> result) {
+        result.add(javaClass);
+        result.addAll(javaClass.getAllSuperClasses());
+        result.addAll(javaClass.getAllInterfaces());
+    }
+
+    /**
+     * @return true, if all classes are affected, i.e. no changed classes are known
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean isAll() {
+        return !classes.isPresent();
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public boolean contain(JavaClass javaClass) {
+        return !classes.isPresent() || classes.get().contains(javaClass);
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public boolean containAnyOf(Iterable<JavaClass> javaClasses) {
+        if (!classes.isPresent()) {
+            return true;
+        }
+        for (JavaClass javaClass : javaClasses) {
+            if (classes.get().contains(javaClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true, if the evaluation of the object might have a different result, i.e. the object is or belongs
+     * to an affected class. Objects not related to any class are always considered affected.
+     */
+    boolean isAffected(Object object) {
+        if (!classes.isPresent()) {
+            return true;
+        }
+        if (object instanceof JavaClass) {
+            return contain((JavaClass) object);
+        }
+        if (object instanceof JavaAccess<?>) {
+            return contain(((JavaAccess<?>) object).getOriginOwner());
+        }
+        if (object instanceof Dependency) {
+            return contain(((Dependency) object).getOriginClass());
+        }
+        if (object instanceof HasOwner<?>) {
+            return isAffected(((HasOwner<?>) object).getOwner());
+        }
+        if (object instanceof Iterable<?>) {
+            return isAnyAffected((Iterable<?>) object);
+        }
+        return true;
+    }
+
+    private boolean isAnyAffected(Iterable<?> objects) {
+        boolean empty = true;
+        for (Object element : objects) {
+            if (isAffected(element)) {
+                return true;
+            }
+            empty = false;
+        }
+        return empty;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + (classes.isPresent() ? classes.get() : "all") + "}";
+    }
+}
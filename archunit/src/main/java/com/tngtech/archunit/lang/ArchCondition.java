@@ -18,12 +18,14 @@ package com.tngtech.archunit.lang;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ComparisonChain;
 import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.PublicAPI;
 
@@ -59,6 +61,67 @@ public abstract class ArchCondition<T> {
     public void finish(ConditionEvents events) {
     }
 
+    /**
+     * Can be overridden to declare, that this condition may be checked concurrently for different objects.<br>
+     * This is the case, if {@link #check(Object, ConditionEvents)} doesn't modify any state shared between
+     * the checks of single objects, i.e. each check only depends on the checked object and the state
+     * prepared by {@link #init(Iterable)}. ArchUnit will still call {@link #init(Iterable)} once before and
+     * {@link #finish(ConditionEvents)} once after all objects have been checked.<br>
+     * If parallel evaluation is enabled (compare {@link com.tngtech.archunit.ArchConfiguration ArchConfiguration}),
+     * the objects of a rule with such a condition are split into partitions, which are checked in parallel.
+     * The events of all partitions are recorded in the same order, as if the objects had been checked one after another.<br>
+     * Conditions evaluating a {@link com.tngtech.archunit.base.DescribedPredicate DescribedPredicate} supplied by the user,
+     * e.g. {@link com.tngtech.archunit.lang.conditions.ArchConditions#callMethodWhere(com.tngtech.archunit.base.DescribedPredicate)
+     * callMethodWhere(..)}, declare that they can be checked concurrently, since they don't keep any state themselves.
+     * They are only thread-safe, if the supplied predicate is, though. This is the case for all predicates
+     * provided by ArchUnit, but custom predicates keeping state must be thread-safe to enable parallel evaluation.
+     *
+     * @return true, if {@link #check(Object, ConditionEvents)} may be called concurrently, false by default
+     */
+    public boolean canBeCheckedConcurrently() {
+        return false;
+    }
+
+    /**
+     * Can be overridden to declare, that this condition only needs to check objects affected by changed classes
+     * (compare {@link EvaluationMode#withChangedClasses(Collection)}).<br>
+     * This is the case, if {@link #check(Object, ConditionEvents)} checks each object on its own, and the result
+     * of each check only depends on the classes the object belongs to, their direct dependencies and dependents,
+     * and the type hierarchies of those (compare {@link AffectedClasses}). Objects not affected by any changed class
+     * are then skipped, i.e. their violations are not reported.
+     *
+     * @return true, if objects not affected by changed classes may be skipped, false by default
+     */
+    public boolean canBeCheckedIncrementally() {
+        return false;
+    }
+
+    /**
+     * Can be overridden to declare, that {@link #check(Object, ConditionEvents)} may be skipped for single objects,
+     * if the result of a join by {@link #and(ArchCondition)} or {@link #or(ArchCondition)} is already determined
+     * by the other conditions.<br>
+     * This is the case, if {@link #check(Object, ConditionEvents)} only reports events for the checked object,
+     * and doesn't record any state, that later checks or {@link #finish(ConditionEvents)} depend on.
+     *
+     * @return true, if checking single objects may be skipped, false by default
+     */
+    public boolean canBeSkipped() {
+        return false;
+    }
+
+    /**
+     * Can be overridden to hint how expensive {@link #check(Object, ConditionEvents)} is, compared to other conditions.<br>
+     * Conditions joined by {@link #and(ArchCondition)} or {@link #or(ArchCondition)} are checked in ascending order
+     * of their cost. Once the result of the join is determined, e.g. because one condition of an 'or' is satisfied,
+     * the remaining conditions, that {@link #canBeSkipped() can be skipped}, are only
+     * checked, if their events are needed to describe a violation.
+     *
+     * @return The relative cost to check a single object, 1 by default
+     */
+    public int getCostHint() {
+        return 1;
+    }
+
     public ArchCondition<T> and(ArchCondition<? super T> condition) {
         return new AndCondition<>(this, condition.<T>forSubType());
     }
@@ -87,6 +150,26 @@ public abstract class ArchCondition<T> {
             public void finish(ConditionEvents events) {
                 ArchCondition.this.finish(events);
             }
+
+            @Override
+            public boolean canBeCheckedConcurrently() {
+                return ArchCondition.this.canBeCheckedConcurrently();
+            }
+
+            @Override
+            public boolean canBeCheckedIncrementally() {
+                return ArchCondition.this.canBeCheckedIncrementally();
+            }
+
+            @Override
+            public boolean canBeSkipped() {
+                return ArchCondition.this.canBeSkipped();
+            }
+
+            @Override
+            public int getCostHint() {
+                return ArchCondition.this.getCostHint();
+            }
         };
     }
 
@@ -101,11 +184,13 @@ public abstract class ArchCondition<T> {
     }
 
     private abstract static class JoinCondition<T> extends ArchCondition<T> {
-        private final Collection<ArchCondition<T>> conditions;
+        private final List<ArchCondition<T>> conditions;
+        private final List<Integer> evaluationOrder;
 
-        private JoinCondition(String infix, Collection<ArchCondition<T>> conditions) {
+        private JoinCondition(String infix, List<ArchCondition<T>> conditions) {
             super(joinDescriptionsOf(infix, conditions));
             this.conditions = conditions;
+            this.evaluationOrder = evaluationOrderOf(conditions);
         }
 
         private static <T> String joinDescriptionsOf(String infix, Collection<ArchCondition<T>> conditions) {
@@ -116,6 +201,25 @@ public abstract class ArchCondition<T> {
             return Joiner.on(" " + infix + " ").join(descriptions);
         }
 
+        // NOTE: Conditions that can't be skipped are checked anyway, so they come first, since they might already
+        //       determine the result. The others follow in ascending order of their cost.
+        private static <T> List<Integer> evaluationOrderOf(final List<ArchCondition<T>> conditions) {
+            List<Integer> result = new ArrayList<>();
+            for (int i = 0; i < conditions.size(); i++) {
+                result.add(i);
+            }
+            Collections.sort(result, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer first, Integer second) {
+                    return ComparisonChain.start()
+                            .compareFalseFirst(conditions.get(first).canBeSkipped(), conditions.get(second).canBeSkipped())
+                            .compare(conditions.get(first).getCostHint(), conditions.get(second).getCostHint())
+                            .result();
+                }
+            });
+            return ImmutableList.copyOf(result);
+        }
+
         @Override
         public void init(Iterable<T> allObjectsToTest) {
             for (ArchCondition<T> condition : conditions) {
@@ -130,12 +234,47 @@ public abstract class ArchCondition<T> {
             }
         }
 
-        List<ConditionWithEvents<T>> evaluateConditions(T item) {
-            List<ConditionWithEvents<T>> evaluate = new ArrayList<>();
+        @Override
+        public boolean canBeCheckedConcurrently() {
+            for (ArchCondition<T> condition : conditions) {
+                if (!condition.canBeCheckedConcurrently()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean canBeCheckedIncrementally() {
+            for (ArchCondition<T> condition : conditions) {
+                if (!condition.canBeCheckedIncrementally()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean canBeSkipped() {
+            for (ArchCondition<T> condition : conditions) {
+                if (!condition.canBeSkipped()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int getCostHint() {
+            int result = 0;
             for (ArchCondition<T> condition : conditions) {
-                evaluate.add(new ConditionWithEvents<>(condition, item));
+                result += condition.getCostHint();
             }
-            return evaluate;
+            return result;
+        }
+
+        JoinEvaluation<T> evaluateConditions(T item, ConditionEvents events) {
+            return new JoinEvaluation<>(item, events, conditions, evaluationOrder);
         }
 
         @Override
@@ -144,25 +283,108 @@ public abstract class ArchCondition<T> {
         }
     }
 
+    /**
+     * The evaluation of the conditions of a {@link JoinCondition} for a single item. The events of the conditions
+     * are only collected as far as they are needed: To know if the join is violated, the conditions are checked
+     * in the evaluation order of the join, until the result is determined. All other conditions are only
+     * checked, if the join, or its inversion (e.g. by {@code never(..)}), is violated, since the description of the
+     * violation needs the events of all conditions. Both happens, while the {@link JoinConditionEvent} is created,
+     * i.e. during {@link ArchCondition#check(Object, ConditionEvents)}, so no condition is checked after
+     * {@link ArchCondition#finish(ConditionEvents)}.
+     */
+    private static class JoinEvaluation<T> {
+        private final T item;
+        private final ConditionEvents context;
+        private final List<ArchCondition<T>> conditions;
+        private final List<Integer> evaluationOrder;
+        private final ConditionEvents[] events;
+        private final ConditionEvents[] invertedEvents;
+
+        JoinEvaluation(T item, ConditionEvents context, List<ArchCondition<T>> conditions, List<Integer> evaluationOrder) {
+            this.item = item;
+            this.context = context;
+            this.conditions = conditions;
+            this.evaluationOrder = evaluationOrder;
+            this.events = new ConditionEvents[conditions.size()];
+            this.invertedEvents = new ConditionEvents[conditions.size()];
+            for (int i : evaluationOrder) {
+                if (!conditions.get(i).canBeSkipped()) {
+                    eventsOf(i, false);
+                }
+            }
+        }
+
+        /**
+         * @return true, if the events of any condition contain a violation
+         */
+        boolean anyViolated(boolean inverted) {
+            for (int i : evaluationOrder) {
+                if (eventsOf(i, inverted).containViolation()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return true, if the events of all conditions contain a violation
+         */
+        boolean allViolated(boolean inverted) {
+            for (int i : evaluationOrder) {
+                if (!eventsOf(i, inverted).containViolation()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void evaluateAll(boolean inverted) {
+            for (int i = 0; i < conditions.size(); i++) {
+                eventsOf(i, inverted);
+            }
+        }
+
+        /**
+         * @return the conditions evaluated so far with their events, in the order the conditions were joined
+         */
+        List<ConditionWithEvents<T>> evaluatedConditions(boolean inverted) {
+            ConditionEvents[] source = inverted ? invertedEvents : events;
+            List<ConditionWithEvents<T>> result = new ArrayList<>();
+            for (int i = 0; i < conditions.size(); i++) {
+                if (source[i] != null) {
+                    result.add(new ConditionWithEvents<>(conditions.get(i), source[i]));
+                }
+            }
+            return result;
+        }
+
+        private ConditionEvents eventsOf(int i, boolean inverted) {
+            if (events[i] == null) {
+                events[i] = context.emptyCopy();
+                conditions.get(i).check(item, events[i]);
+            }
+            if (!inverted) {
+                return events[i];
+            }
+            if (invertedEvents[i] == null) {
+                invertedEvents[i] = context.emptyCopy();
+                for (ConditionEvent event : events[i]) {
+                    event.addInvertedTo(invertedEvents[i]);
+                }
+            }
+            return invertedEvents[i];
+        }
+    }
+
     private static class ConditionWithEvents<T> {
         private final ArchCondition<T> condition;
         private final ConditionEvents events;
 
-        ConditionWithEvents(ArchCondition<T> condition, T item) {
-            this(condition, check(condition, item));
-        }
-
         ConditionWithEvents(ArchCondition<T> condition, ConditionEvents events) {
             this.condition = condition;
             this.events = events;
         }
 
-        private static <T> ConditionEvents check(ArchCondition<T> condition, T item) {
-            ConditionEvents events = new ConditionEvents();
-            condition.check(item, events);
-            return events;
-        }
-
         @Override
         public String toString() {
             return MoreObjects.toStringHelper(this)
@@ -172,13 +394,35 @@ public abstract class ArchCondition<T> {
         }
     }
 
+    /**
+     * An event of a {@link JoinCondition}, i.e. of its {@link JoinEvaluation}, or of the inverted evaluation, if the
+     * event was inverted (e.g. by {@code never(..)}), in which case the events of each condition are inverted.
+     */
     private abstract static class JoinConditionEvent<T> implements ConditionEvent {
         final T correspondingObject;
-        final List<ConditionWithEvents<T>> evaluatedConditions;
+        final JoinEvaluation<T> evaluation;
+        final boolean inverted;
+        private final boolean violation;
 
-        JoinConditionEvent(T correspondingObject, List<ConditionWithEvents<T>> evaluatedConditions) {
+        JoinConditionEvent(T correspondingObject, JoinEvaluation<T> evaluation, boolean inverted) {
             this.correspondingObject = correspondingObject;
-            this.evaluatedConditions = evaluatedConditions;
+            this.evaluation = evaluation;
+            this.inverted = inverted;
+            this.violation = determineViolation();
+            if (violation) {
+                evaluation.evaluateAll(inverted);
+            }
+        }
+
+        @Override
+        public boolean isViolation() {
+            return violation;
+        }
+
+        abstract boolean determineViolation();
+
+        List<ConditionWithEvents<T>> evaluatedConditions() {
+            return evaluation.evaluatedConditions(inverted);
         }
 
         Set<String> getUniqueLinesOfViolations() { // TODO: Sort by line number, then lexicographically
@@ -189,8 +433,8 @@ public abstract class ArchCondition<T> {
                     result.add(line);
                 }
             };
-            for (ConditionWithEvents<T> evaluation : evaluatedConditions) {
-                for (ConditionEvent event : evaluation.events) {
+            for (ConditionWithEvents<T> condition : evaluatedConditions()) {
+                for (ConditionEvent event : condition.events) {
                     if (event.isViolation()) {
                         event.describeTo(lines);
                     }
@@ -202,25 +446,10 @@ public abstract class ArchCondition<T> {
         @Override
         public String toString() {
             return MoreObjects.toStringHelper(this)
-                    .add("evaluatedConditions", evaluatedConditions)
+                    .add("correspondingObject", correspondingObject)
+                    .add("inverted", inverted)
                     .toString();
         }
-
-        List<ConditionWithEvents<T>> invert(List<ConditionWithEvents<T>> evaluatedConditions) {
-            List<ConditionWithEvents<T>> inverted = new ArrayList<>();
-            for (ConditionWithEvents<T> evaluation : evaluatedConditions) {
-                inverted.add(invert(evaluation));
-            }
-            return inverted;
-        }
-
-        ConditionWithEvents<T> invert(ConditionWithEvents<T> evaluation) {
-            ConditionEvents invertedEvents = new ConditionEvents();
-            for (ConditionEvent event : evaluation.events) {
-                event.addInvertedTo(invertedEvents);
-            }
-            return new ConditionWithEvents<>(evaluation.condition, invertedEvents);
-        }
     }
 
     private static class AndCondition<T> extends JoinCondition<T> {
@@ -230,7 +459,7 @@ public abstract class ArchCondition<T> {
 
         @Override
         public void check(T item, ConditionEvents events) {
-            events.add(new AndConditionEvent<>(item, evaluateConditions(item)));
+            events.add(new AndConditionEvent<>(item, evaluateConditions(item, events), false));
         }
     }
 
@@ -241,28 +470,23 @@ public abstract class ArchCondition<T> {
 
         @Override
         public void check(T item, ConditionEvents events) {
-            events.add(new OrConditionEvent<>(item, evaluateConditions(item)));
+            events.add(new OrConditionEvent<>(item, evaluateConditions(item, events), false));
         }
     }
 
     private static class AndConditionEvent<T> extends JoinConditionEvent<T> {
-        AndConditionEvent(T item, List<ConditionWithEvents<T>> evaluatedConditions) {
-            super(item, evaluatedConditions);
+        AndConditionEvent(T item, JoinEvaluation<T> evaluation, boolean inverted) {
+            super(item, evaluation, inverted);
         }
 
         @Override
-        public boolean isViolation() {
-            for (ConditionWithEvents<T> evaluation : evaluatedConditions) {
-                if (evaluation.events.containViolation()) {
-                    return true;
-                }
-            }
-            return false;
+        boolean determineViolation() {
+            return evaluation.anyViolated(inverted);
         }
 
         @Override
         public void addInvertedTo(ConditionEvents events) {
-            events.add(new OrConditionEvent<>(correspondingObject, invert(evaluatedConditions)));
+            events.add(new OrConditionEvent<>(correspondingObject, evaluation, !inverted));
         }
 
         @Override
@@ -274,7 +498,7 @@ public abstract class ArchCondition<T> {
 
         @Override
         public void handleWith(final Handler handler) {
-            for (ConditionWithEvents<T> condition : evaluatedConditions) {
+            for (ConditionWithEvents<T> condition : evaluatedConditions()) {
                 condition.events.handleViolations(new ViolationHandler<Object>() {
                     @Override
                     public void handle(Collection<Object> violatingObjects, String message) {
@@ -286,23 +510,18 @@ public abstract class ArchCondition<T> {
     }
 
     private static class OrConditionEvent<T> extends JoinConditionEvent<T> {
-        OrConditionEvent(T item, List<ConditionWithEvents<T>> evaluatedConditions) {
-            super(item, evaluatedConditions);
+        OrConditionEvent(T item, JoinEvaluation<T> evaluation, boolean inverted) {
+            super(item, evaluation, inverted);
         }
 
         @Override
-        public boolean isViolation() {
-            for (ConditionWithEvents<T> evaluation : evaluatedConditions) {
-                if (!evaluation.events.containViolation()) {
-                    return false;
-                }
-            }
-            return true;
+        boolean determineViolation() {
+            return evaluation.allViolated(inverted);
         }
 
         @Override
         public void addInvertedTo(ConditionEvents events) {
-            events.add(new AndConditionEvent<>(correspondingObject, invert(evaluatedConditions)));
+            events.add(new AndConditionEvent<>(correspondingObject, evaluation, !inverted));
         }
 
         @Override
@@ -15,16 +15,19 @@
  */
 package com.tngtech.archunit.lang;
 
-import java.io.IOException;
-import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.Iterator;
+import java.util.List;
 
 import com.google.common.base.Predicate;
-import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -37,9 +40,7 @@ import com.tngtech.archunit.lang.syntax.elements.ClassesShouldThat;
 import com.tngtech.archunit.lang.syntax.elements.ClassesThat;
 import com.tngtech.archunit.lang.syntax.elements.GivenClasses;
 
-import static com.google.common.io.Resources.readLines;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
-import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Represents a rule about a specified set of objects of interest (e.g. {@link JavaClass}).
@@ -76,58 +77,37 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
         @PublicAPI(usage = ACCESS)
         public static void check(ArchRule rule, JavaClasses classes) {
-            EvaluationResult result = rule.evaluate(classes);
+            EvaluationResult result = RuleResultCache.evaluate(rule, classes);
             extensions.dispatch(new SimpleEvaluatedRule(rule, classes, result));
             assertNoViolation(result);
         }
 
+        /**
+         * Waits until the extensions have handled all rules checked so far. Only needed, if rules are passed to the extensions
+         * asynchronously (compare {@link com.tngtech.archunit.ArchConfiguration#asyncExtensionDispatchEnabled()}),
+         * e.g. to wait for the extensions at the end of a test suite, instead of when the JVM shuts down.
+         *
+         * @throws InterruptedException if the current thread is interrupted while waiting
+         */
+        @PublicAPI(usage = ACCESS)
+        public static void awaitExtensions() throws InterruptedException {
+            extensions.awaitAsyncDispatch();
+        }
+
         @PublicAPI(usage = ACCESS)
         public static void assertNoViolation(EvaluationResult result) {
             FailureReport report = result.getFailureReport();
 
-            Set<Pattern> patterns = readPatternsFrom(ARCHUNIT_IGNORE_PATTERNS_FILE_NAME);
-            report = report.filter(notMatchedByAny(patterns));
+            IgnorePatterns ignorePatterns = IgnorePatterns.readFrom(ARCHUNIT_IGNORE_PATTERNS_FILE_NAME);
+            if (!ignorePatterns.isEmpty()) {
+                report = report.filter(ignorePatterns.notMatchedByAny());
+            }
             if (!report.isEmpty()) {
                 String message = report.toString();
                 throw new AssertionError(message);
             }
         }
 
-        private static Predicate<String> notMatchedByAny(final Set<Pattern> patterns) {
-            return new Predicate<String>() {
-                @Override
-                public boolean apply(String message) {
-                    for (Pattern pattern : patterns) {
-                        if (pattern.matcher(message.replaceAll("\r*\n", " ")).matches()) {
-                            return false;
-                        }
-                    }
-                    return true;
-                }
-            };
-        }
-
-        private static Set<Pattern> readPatternsFrom(String fileNameInClassPath) {
-            URL ignorePatternsResource = Assertions.class.getResource('/' + fileNameInClassPath);
-            if (ignorePatternsResource == null) {
-                return Collections.emptySet();
-            }
-
-            try {
-                return readPatternsFrom(ignorePatternsResource);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-
-        private static Set<Pattern> readPatternsFrom(URL ignorePatternsResource) throws IOException {
-            ImmutableSet.Builder<Pattern> result = ImmutableSet.builder();
-            for (String line : readLines(ignorePatternsResource, UTF_8)) {
-                result.add(Pattern.compile(line));
-            }
-            return result.build();
-        }
-
         private static class SimpleEvaluatedRule implements EvaluatedRule {
             private final ArchRule rule;
             private final JavaClasses importedClasses;
@@ -166,7 +146,7 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
             return rule.as(rule.getDescription() + ", because " + reason);
         }
 
-        private static class SimpleArchRule<T> implements ArchRule {
+        static class SimpleArchRule<T> implements ArchRule {
             private final Priority priority;
             private final ClassesTransformer<T> classesTransformer;
             private final ArchCondition<T> condition;
@@ -197,14 +177,51 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
             @Override
             public EvaluationResult evaluate(JavaClasses classes) {
+                return evaluate(classes, EvaluationMode.full());
+            }
+
+            @Override
+            public EvaluationResult evaluate(JavaClasses classes, EvaluationMode mode) {
+                Evaluation<T> evaluation = startEvaluation(this, classes, mode);
+                evaluation.checkAll();
+                return evaluation.finish();
+            }
+
+            Evaluation<T> startEvaluation(HasDescription rule, JavaClasses classes, EvaluationMode mode) {
+                EvaluationMetrics.Recorder metrics = new EvaluationMetrics.Recorder();
+                return startEvaluation(rule, transform(rule, classes, metrics), classes, mode, metrics);
+            }
+
+            Iterable<T> transform(HasDescription rule, JavaClasses classes, EvaluationMetrics.Recorder metrics) {
+                long start = System.nanoTime();
                 Iterable<T> allObjects = classesTransformer.transform(classes);
+                metrics.recordTransform(System.nanoTime() - start);
+                return allObjects;
+            }
+
+            /**
+             * Like {@link #startEvaluation(HasDescription, JavaClasses, EvaluationMode)}, but reuses objects already
+             * transformed by an equivalent {@link ClassesTransformer} (compare {@link ArchRulesEvaluator})
+             */
+            Evaluation<T> startEvaluation(HasDescription rule, Iterable<T> allObjects, JavaClasses classes, EvaluationMode mode,
+                    EvaluationMetrics.Recorder metrics) {
+                long start = System.nanoTime();
                 condition.init(allObjects);
-                ConditionEvents events = new ConditionEvents();
-                for (T object : allObjects) {
-                    condition.check(object, events);
-                }
-                condition.finish(events);
-                return new EvaluationResult(this, events, priority);
+                metrics.recordInit(System.nanoTime() - start);
+                ConditionEvents events = new ConditionEvents(mode, mode.affectedClassesOf(classes));
+                return new Evaluation<>(rule, allObjects, condition, events, priority, metrics);
+            }
+
+            ClassesTransformer<T> getClassesTransformer() {
+                return classesTransformer;
+            }
+
+            ArchCondition<T> getCondition() {
+                return condition;
+            }
+
+            Priority getPriority() {
+                return priority;
             }
 
             @Override
@@ -213,9 +230,158 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
                         overriddenDescription.get() :
                         ConfiguredMessageFormat.get().formatRuleText(classesTransformer, condition);
             }
+
+            /**
+             * @return the {@link SimpleArchRule} actually evaluated by the rule, if the rule can be split into
+             * its single steps (compare {@link Delegating})
+             */
+            static Optional<SimpleArchRule<?>> unwrap(ArchRule rule) {
+                ArchRule current = rule;
+                while (current instanceof Delegating) {
+                    current = ((Delegating) current).getDelegate();
+                }
+                return current instanceof SimpleArchRule
+                        ? Optional.<SimpleArchRule<?>>of((SimpleArchRule<?>) current)
+                        : Optional.<SimpleArchRule<?>>absent();
+            }
         }
     }
 
+    /**
+     * The evaluation of a single rule split into its steps, i.e. {@link ArchCondition#init(Iterable)} has already been
+     * called, then each object is passed to {@link #check(Object)}, and finally {@link #finish()} creates the result.
+     */
+    @Internal
+    class Evaluation<T> {
+        private final HasDescription rule;
+        private final Iterable<T> allObjects;
+        private final ArchCondition<T> condition;
+        private final ConditionEvents events;
+        private final Priority priority;
+        private final EvaluationMetrics.Recorder metrics;
+        private int numberOfCheckedObjects;
+
+        private Evaluation(HasDescription rule, Iterable<T> allObjects, ArchCondition<T> condition,
+                ConditionEvents events, Priority priority, EvaluationMetrics.Recorder metrics) {
+            this.rule = rule;
+            this.allObjects = allObjects;
+            this.condition = condition;
+            this.events = events;
+            this.priority = priority;
+            this.metrics = metrics;
+        }
+
+        Iterable<T> getAllObjects() {
+            return allObjects;
+        }
+
+        /**
+         * Checks all objects, in parallel if this is enabled and supported by the condition
+         * (compare {@link ArchCondition#canBeCheckedConcurrently()}). If the condition
+         * {@link ArchCondition#canBeCheckedIncrementally() can be checked incrementally}, objects not affected
+         * by changed classes are skipped (compare {@link EvaluationMode#withChangedClasses(Collection)}).
+         */
+        void checkAll() {
+            checkAll(Collections.singletonList(this));
+        }
+
+        /**
+         * Like {@link #checkAll()}, but for several evaluations of the same objects in the same order. All evaluations,
+         * that are not checked in parallel, are checked within one pass over the objects, i.e. each object is passed
+         * to all these evaluations, before the next object is checked.
+         */
+        static <T> void checkAll(List<Evaluation<T>> evaluations) {
+            List<Evaluation<T>> sequential = new ArrayList<>();
+            for (Evaluation<T> evaluation : evaluations) {
+                if (evaluation.isCheckedConcurrently()) {
+                    evaluation.checkConcurrently();
+                } else {
+                    sequential.add(evaluation);
+                }
+            }
+            if (!sequential.isEmpty()) {
+                checkInOnePass(sequential);
+            }
+        }
+
+        private boolean isCheckedConcurrently() {
+            return ArchConfiguration.get().parallelEvaluationEnabled() && condition.canBeCheckedConcurrently();
+        }
+
+        private void checkConcurrently() {
+            List<T> objects = ImmutableList.copyOf(filterAffected(allObjects));
+            long start = System.nanoTime();
+            ConcurrentCheck.checkAll(objects, condition, events);
+            metrics.recordCheck(System.nanoTime() - start, objects.size());
+        }
+
+        private static <T> void checkInOnePass(List<Evaluation<T>> evaluations) {
+            List<Evaluation<T>> unfinished = new ArrayList<>(evaluations);
+            Iterator<T> objects = evaluations.get(0).allObjects.iterator();
+            long start = System.nanoTime();
+            while (objects.hasNext() && !unfinished.isEmpty()) {
+                T object = objects.next();
+                for (Iterator<Evaluation<T>> evaluation = unfinished.iterator(); evaluation.hasNext(); ) {
+                    if (!evaluation.next().checkIfAffected(object)) {
+                        evaluation.remove();
+                    }
+                }
+            }
+            // NOTE: Timing each single check would cost more than many checks themselves, so all evaluations
+            //       checked within the same pass record the duration of the whole pass
+            long duration = System.nanoTime() - start;
+            for (Evaluation<T> evaluation : evaluations) {
+                evaluation.metrics.recordCheck(duration, evaluation.numberOfCheckedObjects);
+            }
+        }
+
+        private boolean checkIfAffected(T object) {
+            return !isAffected(object) || check(object);
+        }
+
+        /**
+         * @return false, if the evaluation doesn't need to check any further objects
+         */
+        private boolean check(T object) {
+            condition.check(object, events);
+            numberOfCheckedObjects++;
+            return !events.isViolationBudgetExhausted();
+        }
+
+        private Iterable<T> filterAffected(Iterable<T> objects) {
+            if (events.getAffectedClasses().isAll()) {
+                return objects;
+            }
+            return Iterables.filter(objects, new Predicate<T>() {
+                @Override
+                public boolean apply(T input) {
+                    return isAffected(input);
+                }
+            });
+        }
+
+        private boolean isAffected(T object) {
+            AffectedClasses affectedClasses = events.getAffectedClasses();
+            return !condition.canBeCheckedIncrementally() || affectedClasses.isAll() || affectedClasses.isAffected(object);
+        }
+
+        EvaluationResult finish() {
+            long start = System.nanoTime();
+            condition.finish(events);
+            metrics.recordFinish(System.nanoTime() - start);
+            return new EvaluationResult(rule, events, priority, metrics.complete(events));
+        }
+    }
+
+    /**
+     * A rule that only adapts the definition of another rule, e.g. while the rule is still being created by the fluent API.
+     * Allows to unwrap the actual rule to evaluate, e.g. for {@link ArchRulesEvaluator}.
+     */
+    @Internal
+    interface Delegating extends ArchRule {
+        ArchRule getDelegate();
+    }
+
     @Internal
     interface Transformation {
         ArchRule apply(ArchRule rule);
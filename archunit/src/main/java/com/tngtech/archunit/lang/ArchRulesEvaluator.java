@@ -0,0 +1,178 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.DescribedIterable;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule.Evaluation;
+import com.tngtech.archunit.lang.ArchRule.Factory.SimpleArchRule;
+import com.tngtech.archunit.lang.syntax.ClassesIdentityTransformer;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Evaluates many {@link ArchRule ArchRules} against the same {@link JavaClasses} together. Rules on the same
+ * {@link ClassesTransformer}, or on all classes in general, share the transformation of the classes, even if they
+ * select different objects via {@link ClassesTransformer#that(DescribedPredicate) that(..)}. Objects selected by
+ * equal predicates are only filtered once, and instead of each rule iterating over its objects on its own,
+ * every object is visited once and checked against the conditions of all rules selecting the same objects
+ * (unless a condition is checked in parallel, compare {@link ArchCondition#canBeCheckedConcurrently()}).
+ * Each rule still checks its objects in the same order and gets its own {@link EvaluationResult},
+ * equal to the result of {@link ArchRule#evaluate(JavaClasses)}.<br>
+ * Rules, that can't be split into their single steps, e.g. a {@link com.tngtech.archunit.library.Architectures.LayeredArchitecture},
+ * are evaluated on their own.<br>
+ * Note that the {@code ArchUnitRunner} of {@code archunit-junit} doesn't use this evaluator, but checks each rule
+ * on its own, since it reports every rule as a separate test, including its duration, extensions and ignore patterns.
+ */
+public final class ArchRulesEvaluator {
+    private ArchRulesEvaluator() {
+    }
+
+    /**
+     * @param classes The classes to evaluate the rules against
+     * @param rules The rules to evaluate
+     * @return the results of the rules in the same order as the rules were passed
+     */
+    @PublicAPI(usage = ACCESS)
+    public static List<EvaluationResult> evaluate(JavaClasses classes, List<? extends ArchRule> rules) {
+        EvaluationResult[] results = new EvaluationResult[rules.size()];
+        Map<Object, List<Integer>> rulesByBaseTransformer = new LinkedHashMap<>();
+        for (int i = 0; i < rules.size(); i++) {
+            Optional<SimpleArchRule<?>> simpleRule = SimpleArchRule.unwrap(rules.get(i));
+            if (simpleRule.isPresent()) {
+                Object baseTransformer = groupingKeyOf(baseOf(simpleRule.get().getClassesTransformer()));
+                if (!rulesByBaseTransformer.containsKey(baseTransformer)) {
+                    rulesByBaseTransformer.put(baseTransformer, new ArrayList<Integer>());
+                }
+                rulesByBaseTransformer.get(baseTransformer).add(i);
+            } else {
+                results[i] = rules.get(i).evaluate(classes);
+            }
+        }
+
+        for (List<Integer> ruleIndexes : rulesByBaseTransformer.values()) {
+            evaluateOnSameBase(classes, rules, ruleIndexes, results);
+        }
+        return Arrays.asList(results);
+    }
+
+    // NOTE: ClassesTransformers don't define equality, but all identity transformers transform classes the same way
+    private static Object groupingKeyOf(ClassesTransformer<?> transformer) {
+        return transformer instanceof ClassesIdentityTransformer ? ClassesIdentityTransformer.class : transformer;
+    }
+
+    private static <T> ClassesTransformer<T> baseOf(ClassesTransformer<T> transformer) {
+        return transformer instanceof AbstractClassesTransformer<?>
+                ? ((AbstractClassesTransformer<T>) transformer).getBase()
+                : transformer;
+    }
+
+    private static <T> List<DescribedPredicate<? super T>> predicatesOf(ClassesTransformer<T> transformer) {
+        return transformer instanceof AbstractClassesTransformer<?>
+                ? ((AbstractClassesTransformer<T>) transformer).getPredicates()
+                : Collections.<DescribedPredicate<? super T>>emptyList();
+    }
+
+    @SuppressWarnings("unchecked") // all rules share an equivalent base transformer, thus they evaluate the same type of objects
+    private static <T> void evaluateOnSameBase(JavaClasses classes, List<? extends ArchRule> rules, List<Integer> ruleIndexes,
+            EvaluationResult[] results) {
+
+        Map<List<DescribedPredicate<? super T>>, List<Integer>> rulesByPredicates = new LinkedHashMap<>();
+        for (int index : ruleIndexes) {
+            SimpleArchRule<T> simpleRule = (SimpleArchRule<T>) SimpleArchRule.unwrap(rules.get(index)).get();
+            List<DescribedPredicate<? super T>> predicates = predicatesOf(simpleRule.getClassesTransformer());
+            if (!rulesByPredicates.containsKey(predicates)) {
+                rulesByPredicates.put(predicates, new ArrayList<Integer>());
+            }
+            rulesByPredicates.get(predicates).add(index);
+        }
+
+        SimpleArchRule<T> firstRule = (SimpleArchRule<T>) SimpleArchRule.unwrap(rules.get(ruleIndexes.get(0))).get();
+        FilteredObjects<T> filteredObjects = new FilteredObjects<>(baseOf(firstRule.getClassesTransformer()), classes);
+        for (Map.Entry<List<DescribedPredicate<? super T>>, List<Integer>> rulesWithSamePredicates : rulesByPredicates.entrySet()) {
+            long start = System.nanoTime();
+            Iterable<T> objects = filteredObjects.filteredBy(rulesWithSamePredicates.getKey());
+            long transformDuration = System.nanoTime() - start;
+            evaluateTogether(classes, rules, rulesWithSamePredicates.getValue(), objects, transformDuration, results);
+        }
+    }
+
+    @SuppressWarnings("unchecked") // all rules share an equivalent transformer, thus they evaluate the same type of objects
+    private static <T> void evaluateTogether(JavaClasses classes, List<? extends ArchRule> rules, List<Integer> ruleIndexes,
+            Iterable<T> objects, long transformDuration, EvaluationResult[] results) {
+
+        List<Evaluation<T>> evaluations = new ArrayList<>();
+        for (int index : ruleIndexes) {
+            ArchRule rule = rules.get(index);
+            SimpleArchRule<T> simpleRule = (SimpleArchRule<T>) SimpleArchRule.unwrap(rule).get();
+            EvaluationMetrics.Recorder metrics = new EvaluationMetrics.Recorder();
+            if (evaluations.isEmpty()) {
+                metrics.recordTransform(transformDuration);
+            }
+            Iterable<T> describedObjects = DescribedIterable.From.iterable(objects, simpleRule.getClassesTransformer().getDescription());
+            evaluations.add(simpleRule.startEvaluation(rule, describedObjects, classes, EvaluationMode.full(), metrics));
+        }
+
+        Evaluation.checkAll(evaluations);
+
+        for (int i = 0; i < ruleIndexes.size(); i++) {
+            results[ruleIndexes.get(i)] = evaluations.get(i).finish();
+        }
+    }
+
+    /**
+     * The objects transformed by a base transformer, filtered by the predicates of the rules on this base. Objects filtered
+     * by the same predicates are only filtered once, e.g. rules filtering by [A, B] and [A, C] only filter by A once.
+     */
+    private static class FilteredObjects<T> {
+        private final Map<List<DescribedPredicate<? super T>>, Iterable<T>> objectsByPredicates = new HashMap<>();
+
+        FilteredObjects(ClassesTransformer<T> baseTransformer, JavaClasses classes) {
+            // NOTE: We need the plain transformation, since JavaClasses can be filtered by an index, while a DescribedIterable can't
+            Iterable<T> baseObjects = baseTransformer instanceof AbstractClassesTransformer<?>
+                    ? ((AbstractClassesTransformer<T>) baseTransformer).doTransform(classes)
+                    : baseTransformer.transform(classes);
+            objectsByPredicates.put(Collections.<DescribedPredicate<? super T>>emptyList(), baseObjects);
+        }
+
+        Iterable<T> filteredBy(List<DescribedPredicate<? super T>> predicates) {
+            Iterable<T> result = objectsByPredicates.get(predicates);
+            if (result == null) {
+                Iterable<T> unfiltered = filteredBy(predicates.subList(0, predicates.size() - 1));
+                result = materialize(AbstractClassesTransformer.filter(unfiltered, predicates.get(predicates.size() - 1)));
+                objectsByPredicates.put(ImmutableList.copyOf(predicates), result);
+            }
+            return result;
+        }
+
+        private Iterable<T> materialize(Iterable<T> objects) {
+            return objects instanceof JavaClasses ? objects : Lists.newArrayList(objects);
+        }
+    }
+}
@@ -24,4 +24,10 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 public interface CanBeEvaluated extends HasDescription {
     @PublicAPI(usage = ACCESS)
     EvaluationResult evaluate(JavaClasses classes);
+
+    /**
+     * @see EvaluationMode
+     */
+    @PublicAPI(usage = ACCESS)
+    EvaluationResult evaluate(JavaClasses classes, EvaluationMode mode);
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Checks a list of objects against an {@link ArchCondition}, that {@link ArchCondition#canBeCheckedConcurrently() can be
+ * checked concurrently}, on a {@link ForkJoinPool}. The list is split into partitions, each recording its own
+ * {@link ConditionEvents}. Those are merged in the order of the partitions, thus the events end up in the same order,
+ * as if all objects had been checked one after another.<br>
+ * Each check uses its own {@link ForkJoinPool}, which is shut down once all objects have been checked,
+ * so no threads outlive the evaluation of a rule.
+ */
+class ConcurrentCheck<T> extends RecursiveTask<ConditionEvents> {
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_PARTITION_SIZE = 16;
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    private final List<T> objects;
+    private final int offset;
+    private final ArchCondition<T> condition;
+    private final ConditionEvents eventsPrototype;
+    private final int partitionSize;
+    private final AtomicInteger firstExhaustedOffset;
+
+    private ConcurrentCheck(List<T> objects, int offset, ArchCondition<T> condition, ConditionEvents eventsPrototype,
+            int partitionSize, AtomicInteger firstExhaustedOffset) {
+        this.objects = objects;
+        this.offset = offset;
+        this.condition = condition;
+        this.eventsPrototype = eventsPrototype;
+        this.partitionSize = partitionSize;
+        this.firstExhaustedOffset = firstExhaustedOffset;
+    }
+
+    static <T> void checkAll(List<T> objects, ArchCondition<T> condition, ConditionEvents events) {
+        ForkJoinPool forkJoinPool = new ForkJoinPool();
+        try {
+            int partitionSize = Math.max(MIN_PARTITION_SIZE, objects.size() / (forkJoinPool.getParallelism() * PARTITIONS_PER_THREAD));
+            events.addAll(forkJoinPool.invoke(
+                    new ConcurrentCheck<>(objects, 0, condition, events.emptyCopy(), partitionSize, new AtomicInteger(Integer.MAX_VALUE))));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    // NOTE: Once the events of the preceding partitions exhaust the violation budget, a sequential check would have
+    //       stopped, so we drop the events of all following partitions
+    @Override
+    protected ConditionEvents compute() {
+        if (objects.size() <= partitionSize) {
+            return checkPartition();
+        }
+
+        int middle = objects.size() / 2;
+        ConcurrentCheck<T> second = partition(middle, objects.size());
+        second.fork();
+        ConditionEvents result = partition(0, middle).compute();
+        ConditionEvents secondResult = second.join();
+        if (!result.isViolationBudgetExhausted()) {
+            result.addAll(secondResult);
+        }
+        return result;
+    }
+
+    private ConcurrentCheck<T> partition(int fromIndex, int toIndex) {
+        return new ConcurrentCheck<>(objects.subList(fromIndex, toIndex), offset + fromIndex,
+                condition, eventsPrototype, partitionSize, firstExhaustedOffset);
+    }
+
+    // NOTE: Each partition can only judge the violation budget by its own events, i.e. it might check some more objects
+    //       than a sequential check, if the preceding partitions have already found violations. Thus in case of
+    //       an exhausted budget, the events contain all events of a sequential check, but possibly some more violations
+    //       of the partition exhausting the budget. A partition can only stop the partitions following it,
+    //       since the preceding ones must still record all their events.
+    private ConditionEvents checkPartition() {
+        ConditionEvents events = eventsPrototype.emptyCopy();
+        for (T object : objects) {
+            if (firstExhaustedOffset.get() < offset) {
+                break;
+            }
+            condition.check(object, events);
+            if (events.isViolationBudgetExhausted()) {
+                markExhausted();
+                break;
+            }
+        }
+        return events;
+    }
+
+    private void markExhausted() {
+        int current = firstExhaustedOffset.get();
+        while (offset < current && !firstExhaustedOffset.compareAndSet(current, offset)) {
+            current = firstExhaustedOffset.get();
+        }
+    }
+}
@@ -29,8 +29,17 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 
 public final class ConditionEvents implements Iterable<ConditionEvent> {
 
+    private final EvaluationMode evaluationMode;
+    private final AffectedClasses affectedClasses;
+
     @PublicAPI(usage = ACCESS)
     public ConditionEvents() {
+        this(EvaluationMode.full(), AffectedClasses.all());
+    }
+
+    ConditionEvents(EvaluationMode evaluationMode, AffectedClasses affectedClasses) {
+        this.evaluationMode = evaluationMode;
+        this.affectedClasses = affectedClasses;
     }
 
     private final Multimap<Type, ConditionEvent> eventsByViolation = ArrayListMultimap.create();
@@ -40,6 +49,17 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
         eventsByViolation.get(Type.from(event.isViolation())).add(event);
     }
 
+    /**
+     * @return new empty events, that are collected for the same evaluation as these events
+     */
+    ConditionEvents emptyCopy() {
+        return new ConditionEvents(evaluationMode, affectedClasses);
+    }
+
+    void addAll(ConditionEvents events) {
+        eventsByViolation.putAll(events.eventsByViolation);
+    }
+
     @PublicAPI(usage = ACCESS)
     public Collection<ConditionEvent> getViolating() {
         return eventsByViolation.get(Type.VIOLATION);
@@ -55,6 +75,25 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
         return !getViolating().isEmpty();
     }
 
+    /**
+     * @return true, if the {@link EvaluationMode} these events are collected for doesn't need any further violations.
+     * Conditions doing expensive work to find violations, e.g. detecting cycles, can use this to stop early.
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean isViolationBudgetExhausted() {
+        return evaluationMode.isExhaustedBy(this);
+    }
+
+    /**
+     * @return the classes, whose evaluation might have changed (compare {@link EvaluationMode#withChangedClasses(Collection)}).
+     * Conditions evaluating all objects at once, e.g. cycle detection, can use this to only report violations
+     * involving affected classes.
+     */
+    @PublicAPI(usage = ACCESS)
+    public AffectedClasses getAffectedClasses() {
+        return affectedClasses;
+    }
+
     @PublicAPI(usage = ACCESS)
     public boolean isEmpty() {
         return getAllowed().isEmpty() && getViolating().isEmpty();
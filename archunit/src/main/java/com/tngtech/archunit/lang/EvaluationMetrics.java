@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.concurrent.TimeUnit;
+
+import com.tngtech.archunit.PublicAPI;
+
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Measurements taken while evaluating an {@link ArchRule}, i.e. how long each phase took,
+ * how many objects were checked and how many events were recorded. The phases are
+ * <ul>
+ *     <li>transform: creating the objects to check from the imported classes (compare {@link ClassesTransformer#transform(com.tngtech.archunit.core.domain.JavaClasses)})</li>
+ *     <li>init: {@link ArchCondition#init(Iterable)}</li>
+ *     <li>check: all calls of {@link ArchCondition#check(Object, ConditionEvents)}</li>
+ *     <li>finish: {@link ArchCondition#finish(ConditionEvents)}</li>
+ * </ul>
+ * All durations are measured in nanoseconds of wall clock time. Rules checked together within one pass over the same
+ * objects (compare {@link ArchRulesEvaluator}) all report the duration of the whole pass as the duration of their check.
+ */
+public final class EvaluationMetrics {
+    private final long transformNanos;
+    private final long initNanos;
+    private final long checkNanos;
+    private final long finishNanos;
+    private final int numberOfCheckedObjects;
+    private final int numberOfAllowedEvents;
+    private final int numberOfViolations;
+
+    private EvaluationMetrics(Recorder recorder, ConditionEvents events) {
+        this(recorder.transformNanos, recorder.initNanos, recorder.checkNanos, recorder.finishNanos,
+                recorder.numberOfCheckedObjects, events.getAllowed().size(), events.getViolating().size());
+    }
+
+    private EvaluationMetrics(long transformNanos, long initNanos, long checkNanos, long finishNanos,
+            int numberOfCheckedObjects, int numberOfAllowedEvents, int numberOfViolations) {
+        this.transformNanos = transformNanos;
+        this.initNanos = initNanos;
+        this.checkNanos = checkNanos;
+        this.finishNanos = finishNanos;
+        this.numberOfCheckedObjects = numberOfCheckedObjects;
+        this.numberOfAllowedEvents = numberOfAllowedEvents;
+        this.numberOfViolations = numberOfViolations;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getTransformNanos() {
+        return transformNanos;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getInitNanos() {
+        return initNanos;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getCheckNanos() {
+        return checkNanos;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getFinishNanos() {
+        return finishNanos;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public long getTotalNanos() {
+        return transformNanos + initNanos + checkNanos + finishNanos;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getNumberOfCheckedObjects() {
+        return numberOfCheckedObjects;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getNumberOfAllowedEvents() {
+        return numberOfAllowedEvents;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getNumberOfViolations() {
+        return numberOfViolations;
+    }
+
+    /**
+     * @return the measurements of both evaluations together, e.g. if the result of a rule consists of several parts
+     *         (compare {@link EvaluationResult#add(EvaluationResult)})
+     */
+    EvaluationMetrics plus(EvaluationMetrics other) {
+        return new EvaluationMetrics(
+                transformNanos + other.transformNanos,
+                initNanos + other.initNanos,
+                checkNanos + other.checkNanos,
+                finishNanos + other.finishNanos,
+                numberOfCheckedObjects + other.numberOfCheckedObjects,
+                numberOfAllowedEvents + other.numberOfAllowedEvents,
+                numberOfViolations + other.numberOfViolations);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "transform=" + format(transformNanos) +
+                ", init=" + format(initNanos) +
+                ", check=" + format(checkNanos) +
+                ", finish=" + format(finishNanos) +
+                ", checkedObjects=" + numberOfCheckedObjects +
+                ", allowedEvents=" + numberOfAllowedEvents +
+                ", violations=" + numberOfViolations +
+                '}';
+    }
+
+    private static String format(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos) + "ms";
+    }
+
+    /**
+     * Accumulates the measurements of an evaluation, which may be split into several steps
+     * (compare {@link ArchRulesEvaluator}).
+     */
+    static class Recorder {
+        private long transformNanos;
+        private long initNanos;
+        private long checkNanos;
+        private long finishNanos;
+        private int numberOfCheckedObjects;
+
+        void recordTransform(long nanos) {
+            transformNanos += nanos;
+        }
+
+        void recordInit(long nanos) {
+            initNanos += nanos;
+        }
+
+        void recordCheck(long nanos, int numberOfObjects) {
+            checkNanos += nanos;
+            numberOfCheckedObjects += numberOfObjects;
+        }
+
+        void recordFinish(long nanos) {
+            finishNanos += nanos;
+        }
+
+        EvaluationMetrics complete(ConditionEvents events) {
+            return new EvaluationMetrics(this, events);
+        }
+    }
+}
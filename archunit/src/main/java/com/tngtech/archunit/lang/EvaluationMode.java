@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Determines how thoroughly an {@link ArchRule} is evaluated. By default, i.e. {@link #full()}, all objects
+ * are checked and all violations are reported. If only the information if a rule is violated at all matters,
+ * e.g. for a quick check before committing, the evaluation can stop early:
+ * <br><br>
+ * <pre><code>
+ * rule.evaluate(classes, EvaluationMode.failAfter(10));
+ * </code></pre>
+ * This evaluation stops checking further objects, as soon as at least 10 violations have been recorded.
+ * Conditions evaluating all objects at once, e.g. cycle detection, can query
+ * {@link ConditionEvents#isViolationBudgetExhausted()} to stop early as well.
+ * <br><br>
+ * If only some classes have changed since the last evaluation, e.g. within a pull request, the evaluation can
+ * be restricted to those objects, whose result might have changed:
+ * <br><br>
+ * <pre><code>
+ * rule.evaluate(classes, EvaluationMode.full().withChangedClasses(namesOfChangedClasses));
+ * </code></pre>
+ * Compare {@link AffectedClasses} for details.
+ */
+public final class EvaluationMode {
+    private static final EvaluationMode FULL = new EvaluationMode(Integer.MAX_VALUE, Optional.<Set<String>>absent());
+
+    private final int maxViolations;
+    private final Optional<Set<String>> changedClassNames;
+
+    private EvaluationMode(int maxViolations, Optional<Set<String>> changedClassNames) {
+        this.maxViolations = maxViolations;
+        this.changedClassNames = changedClassNames;
+    }
+
+    /**
+     * @return an {@link EvaluationMode} that checks all objects and records all violations
+     */
+    @PublicAPI(usage = ACCESS)
+    public static EvaluationMode full() {
+        return FULL;
+    }
+
+    /**
+     * @return an {@link EvaluationMode} that stops the evaluation as soon as the first violation has been recorded
+     */
+    @PublicAPI(usage = ACCESS)
+    public static EvaluationMode failFast() {
+        return failAfter(1);
+    }
+
+    /**
+     * @param numberOfViolations The number of violations after which the evaluation may stop
+     * @return an {@link EvaluationMode} that stops the evaluation as soon as the given number of violations has been recorded
+     */
+    @PublicAPI(usage = ACCESS)
+    public static EvaluationMode failAfter(int numberOfViolations) {
+        checkArgument(numberOfViolations > 0, "Number of violations must be positive, but was %s", numberOfViolations);
+        return new EvaluationMode(numberOfViolations, Optional.<Set<String>>absent());
+    }
+
+    /**
+     * Restricts the evaluation to objects, whose result might be affected by changes of the given classes.
+     * Objects are only skipped, if their condition declares to only depend on the affected classes
+     * (compare {@link ArchCondition#canBeCheckedIncrementally()}), other conditions can query
+     * {@link ConditionEvents#getAffectedClasses()} to restrict their evaluation.
+     *
+     * @param changedClassNames The fully qualified names of all changed classes, e.g. obtained from the version control system
+     * @return an {@link EvaluationMode} like this one, that only evaluates objects affected by the changed classes
+     * @see AffectedClasses
+     */
+    @PublicAPI(usage = ACCESS)
+    public EvaluationMode withChangedClasses(Collection<String> changedClassNames) {
+        return new EvaluationMode(maxViolations, Optional.<Set<String>>of(ImmutableSet.copyOf(changedClassNames)));
+    }
+
+    /**
+     * @param result A (partial) result of an evaluation in this mode
+     * @return true, if the result contains enough violations, so the evaluation may stop
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean isExhaustedBy(EvaluationResult result) {
+        return isExhaustedBy(result.getEvents());
+    }
+
+    boolean isExhaustedBy(ConditionEvents events) {
+        return events.getViolating().size() >= maxViolations;
+    }
+
+    AffectedClasses affectedClassesOf(JavaClasses classes) {
+        return changedClassNames.isPresent()
+                ? AffectedClasses.of(classes, changedClassNames.get())
+                : AffectedClasses.all();
+    }
+
+    @Override
+    public String toString() {
+        String budget = maxViolations == Integer.MAX_VALUE ? "full" : "failAfter=" + maxViolations;
+        String changes = changedClassNames.isPresent() ? ", changedClasses=" + changedClassNames.get() : "";
+        return getClass().getSimpleName() + "{" + budget + changes + "}";
+    }
+}
@@ -17,6 +17,7 @@ package com.tngtech.archunit.lang;
 
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClasses;
 
 import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
@@ -39,6 +40,7 @@ public final class EvaluationResult {
     private final HasDescription rule;
     private final ConditionEvents events;
     private final Priority priority;
+    private Optional<EvaluationMetrics> metrics;
 
     @PublicAPI(usage = ACCESS)
     public EvaluationResult(HasDescription rule, Priority priority) {
@@ -47,9 +49,18 @@ public final class EvaluationResult {
 
     @PublicAPI(usage = ACCESS)
     public EvaluationResult(HasDescription rule, ConditionEvents events, Priority priority) {
+        this(rule, events, priority, Optional.<EvaluationMetrics>absent());
+    }
+
+    EvaluationResult(HasDescription rule, ConditionEvents events, Priority priority, EvaluationMetrics metrics) {
+        this(rule, events, priority, Optional.of(metrics));
+    }
+
+    private EvaluationResult(HasDescription rule, ConditionEvents events, Priority priority, Optional<EvaluationMetrics> metrics) {
         this.rule = rule;
         this.events = events;
         this.priority = priority;
+        this.metrics = metrics;
     }
 
     @PublicAPI(usage = ACCESS)
@@ -64,6 +75,11 @@ public final class EvaluationResult {
         for (ConditionEvent event : part.events) {
             events.add(event);
         }
+        if (part.metrics.isPresent()) {
+            metrics = metrics.isPresent()
+                    ? Optional.of(metrics.get().plus(part.metrics.get()))
+                    : part.metrics;
+        }
     }
 
     /**
@@ -78,4 +94,22 @@ public final class EvaluationResult {
     public boolean hasViolation() {
         return events.containViolation();
     }
+
+    /**
+     * @return the {@link EvaluationMetrics} measured while evaluating the rule, if this result stems from an actual
+     *         evaluation (e.g. not if it was created manually or reused from a previous run); if parts were
+     *         {@link #add(EvaluationResult) added}, the measurements of all evaluated parts together
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Optional<EvaluationMetrics> getMetrics() {
+        return metrics;
+    }
+
+    ConditionEvents getEvents() {
+        return events;
+    }
+
+    Priority getPriority() {
+        return priority;
+    }
 }
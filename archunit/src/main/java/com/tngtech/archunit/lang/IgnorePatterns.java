@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableList;
+
+import static com.google.common.io.Resources.readLines;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The patterns of violations to ignore, read from a file in the classpath, where each line is a regular expression.
+ * The file is read and compiled only once per JVM. Where possible, the patterns are combined into a single
+ * {@link Pattern}, so each message only needs to be matched once.
+ */
+class IgnorePatterns {
+    private static final Pattern LINE_BREAKS = Pattern.compile("\r*\n");
+    // NOTE: Within a combined pattern, back references would refer to shifted group numbers, named groups might be
+    //       declared several times, and inline flags like (?x) would also apply to all following patterns
+    private static final Pattern NOT_COMBINABLE = Pattern.compile("\\\\[1-9]|\\\\k<|\\(\\?<[a-zA-Z]|\\(\\?[a-zA-Z-]+\\)");
+
+    private static final ConcurrentMap<String, IgnorePatterns> cache = new ConcurrentHashMap<>();
+
+    private final List<Pattern> patterns;
+    private final List<Pattern> combinedPatterns;
+
+    private IgnorePatterns(List<Pattern> patterns) {
+        this.patterns = patterns;
+        this.combinedPatterns = combine(patterns);
+    }
+
+    static IgnorePatterns readFrom(String fileNameInClassPath) {
+        IgnorePatterns result = cache.get(fileNameInClassPath);
+        if (result == null) {
+            result = new IgnorePatterns(readPatternsFrom(fileNameInClassPath));
+            IgnorePatterns concurrentlyRead = cache.putIfAbsent(fileNameInClassPath, result);
+            result = concurrentlyRead != null ? concurrentlyRead : result;
+        }
+        return result;
+    }
+
+    /**
+     * Only for tests, which change the file within the same JVM
+     */
+    static void reset() {
+        cache.clear();
+    }
+
+    boolean isEmpty() {
+        return patterns.isEmpty();
+    }
+
+    Predicate<String> notMatchedByAny() {
+        return new Predicate<String>() {
+            @Override
+            public boolean apply(String message) {
+                String normalizedMessage = LINE_BREAKS.matcher(message).replaceAll(" ");
+                for (Pattern pattern : combinedPatterns) {
+                    if (pattern.matcher(normalizedMessage).matches()) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    private static List<Pattern> combine(List<Pattern> patterns) {
+        ImmutableList.Builder<Pattern> result = ImmutableList.builder();
+        ImmutableList.Builder<String> combinable = ImmutableList.builder();
+        for (Pattern pattern : patterns) {
+            if (NOT_COMBINABLE.matcher(pattern.pattern()).find()) {
+                result.add(pattern);
+            } else {
+                combinable.add("(?:" + pattern.pattern() + ")");
+            }
+        }
+        List<String> combinablePatterns = combinable.build();
+        if (combinablePatterns.isEmpty()) {
+            return result.build();
+        }
+        try {
+            return result.add(Pattern.compile(Joiner.on("|").join(combinablePatterns))).build();
+        } catch (PatternSyntaxException e) {
+            return patterns;
+        }
+    }
+
+    private static List<Pattern> readPatternsFrom(String fileNameInClassPath) {
+        URL resource = IgnorePatterns.class.getResource('/' + fileNameInClassPath);
+        if (resource == null) {
+            return ImmutableList.of();
+        }
+        try {
+            ImmutableList.Builder<Pattern> result = ImmutableList.builder();
+            for (String line : readLines(resource, UTF_8)) {
+                result.add(Pattern.compile(line));
+            }
+            return result.build();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
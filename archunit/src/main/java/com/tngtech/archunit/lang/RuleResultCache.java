@@ -0,0 +1,217 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.Source;
+import com.tngtech.archunit.lang.ArchRule.Evaluation;
+import com.tngtech.archunit.lang.ArchRule.Factory.SimpleArchRule;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Persists the results of rules within the directory configured by {@link ArchConfiguration#getRuleResultCacheDirectory()}.
+ * If the same rule is checked against the same classes again, the persisted result is reported instead of evaluating the rule.<br>
+ * Only rules, whose condition {@link ArchCondition#canBeCheckedIncrementally() can be checked incrementally},
+ * are cached, since only those declare which classes their result depends on. The key of a result consists of
+ * <ul>
+ *     <li>the rule description, its priority and the types of its {@link ClassesTransformer} and {@link ArchCondition}</li>
+ *     <li>the names of the classes the checked objects belong to</li>
+ *     <li>the names and {@link Source.Md5sum md5 sums} of all classes affecting the checked objects
+ *     (compare {@link AffectedClasses})</li>
+ * </ul>
+ * Thus the results can only be cached, if md5 sums are enabled via {@link ArchConfiguration#setMd5InClassSourcesEnabled(boolean)}.<br>
+ * This is an unsafe opt-in: A rule is identified by its description, so changing the implementation of a condition
+ * or predicate without changing the description can lead to stale results.<br>
+ * A restored result contains the messages of all violations, but each violation's corresponding object
+ * is the message itself.
+ */
+class RuleResultCache {
+    private static final int FORMAT_VERSION = 3;
+    static final int MAX_NUMBER_OF_RESULTS = 1000;
+
+    private static final String RESULT_FILE_SUFFIX = ".result";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private RuleResultCache() {
+    }
+
+    static EvaluationResult evaluate(ArchRule rule, JavaClasses classes) {
+        Optional<String> directory = ArchConfiguration.get().getRuleResultCacheDirectory();
+        if (!directory.isPresent()) {
+            return rule.evaluate(classes);
+        }
+        Optional<SimpleArchRule<?>> simpleRule = SimpleArchRule.unwrap(rule);
+        if (!simpleRule.isPresent() || !simpleRule.get().getCondition().canBeCheckedIncrementally()) {
+            return rule.evaluate(classes);
+        }
+        return evaluate(rule, simpleRule.get(), classes, new File(directory.get()));
+    }
+
+    private static <T> EvaluationResult evaluate(ArchRule rule, SimpleArchRule<T> simpleRule, JavaClasses classes, File directory) {
+        EvaluationMetrics.Recorder metrics = new EvaluationMetrics.Recorder();
+        Iterable<T> allObjects = simpleRule.transform(rule, classes, metrics);
+        Optional<String> key = keyOf(rule, simpleRule, classes, allObjects);
+        Optional<File> cacheFile = key.isPresent()
+                ? Optional.of(new File(directory, key.get() + RESULT_FILE_SUFFIX))
+                : Optional.<File>absent();
+        if (cacheFile.isPresent()) {
+            Optional<EvaluationResult> cachedResult = tryRead(rule, simpleRule.getPriority(), cacheFile.get());
+            if (cachedResult.isPresent()) {
+                return cachedResult.get();
+            }
+        }
+
+        Evaluation<T> evaluation = simpleRule.startEvaluation(rule, allObjects, classes, EvaluationMode.full(), metrics);
+        evaluation.checkAll();
+        EvaluationResult result = evaluation.finish();
+        if (cacheFile.isPresent()) {
+            tryWrite(result, cacheFile.get());
+            evictOldestResultsIn(directory);
+        }
+        return result;
+    }
+
+    // NOTE: The order of the objects is not stable between imports, so we digest the classes ordered by name
+    private static <T> Optional<String> keyOf(ArchRule rule, SimpleArchRule<T> simpleRule, JavaClasses classes, Iterable<T> allObjects) {
+        Set<JavaClass> checkedClasses = new HashSet<>();
+        for (T object : allObjects) {
+            Optional<Set<JavaClass>> owners = AffectedClasses.ownersOf(object);
+            if (!owners.isPresent()) {
+                return Optional.absent();
+            }
+            checkedClasses.addAll(owners.get());
+        }
+
+        SortedSet<String> checkedClassNames = new TreeSet<>();
+        for (JavaClass javaClass : checkedClasses) {
+            checkedClassNames.add(javaClass.getName());
+        }
+        SortedMap<String, byte[]> md5sumsByName = new TreeMap<>();
+        for (JavaClass javaClass : AffectedClasses.affecting(checkedClasses)) {
+            byte[] md5sum = md5sumOf(javaClass);
+            // NOTE: Classes outside of the import, e.g. stubs of unresolved dependencies, might not have any source
+            if (md5sum.length == 0 && classes.contain(javaClass.getName())) {
+                return Optional.absent();
+            }
+            md5sumsByName.put(javaClass.getName(), md5sum);
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putInt(FORMAT_VERSION)
+                .putString(rule.getDescription(), UTF_8)
+                .putString(simpleRule.getPriority().name(), UTF_8)
+                .putString(simpleRule.getClassesTransformer().getClass().getName(), UTF_8)
+                .putString(simpleRule.getCondition().getClass().getName(), UTF_8);
+        hasher.putInt(checkedClassNames.size());
+        for (String checkedClassName : checkedClassNames) {
+            hasher.putString(checkedClassName, UTF_8);
+        }
+        hasher.putInt(md5sumsByName.size());
+        for (Map.Entry<String, byte[]> entry : md5sumsByName.entrySet()) {
+            hasher.putString(entry.getKey(), UTF_8).putBytes(entry.getValue());
+        }
+        return Optional.of(hasher.hash().toString());
+    }
+
+    private static byte[] md5sumOf(JavaClass javaClass) {
+        Optional<Source> source = javaClass.getSource();
+        return source.isPresent() ? source.get().getMd5sum().asBytes() : new byte[0];
+    }
+
+    private static Optional<EvaluationResult> tryRead(ArchRule rule, Priority priority, File cacheFile) {
+        if (!cacheFile.isFile()) {
+            return Optional.absent();
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(cacheFile))) {
+            ConditionEvents events = new ConditionEvents();
+            int numberOfViolations = in.readInt();
+            for (int i = 0; i < numberOfViolations; i++) {
+                String message = in.readUTF();
+                events.add(SimpleConditionEvent.violated(message, message));
+            }
+            // NOTE: We track the last usage, to evict the results that have not been used for the longest time
+            cacheFile.setLastModified(System.currentTimeMillis());
+            return Optional.of(new EvaluationResult(rule, events, priority));
+        } catch (IOException ignore) {
+            return Optional.absent();
+        }
+    }
+
+    private static void tryWrite(EvaluationResult result, File cacheFile) {
+        File tempFile = new File(cacheFile.getParentFile(), cacheFile.getName() + TEMP_FILE_SUFFIX);
+        tempFile.getParentFile().mkdirs();
+        List<String> violations = result.getFailureReport().getDetails();
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tempFile))) {
+            out.writeInt(violations.size());
+            for (String violation : violations) {
+                out.writeUTF(violation);
+            }
+        } catch (IOException ignore) {
+            tempFile.delete();
+            return;
+        }
+        // NOTE: We rename the complete file, so concurrent builds never read partially written results
+        if (!tempFile.renameTo(cacheFile)) {
+            tempFile.delete();
+        }
+    }
+
+    // NOTE: The directory might be shared with other files, so we only ever delete our own results
+    private static void evictOldestResultsIn(File directory) {
+        File[] results = directory.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.endsWith(RESULT_FILE_SUFFIX);
+            }
+        });
+        if (results == null || results.length <= MAX_NUMBER_OF_RESULTS) {
+            return;
+        }
+        Arrays.sort(results, new Comparator<File>() {
+            @Override
+            public int compare(File first, File second) {
+                return Long.compare(first.lastModified(), second.lastModified());
+            }
+        });
+        for (int i = 0; i < results.length - MAX_NUMBER_OF_RESULTS; i++) {
+            results[i].delete();
+        }
+    }
+}
@@ -18,22 +18,110 @@ package com.tngtech.archunit.lang;
 import java.util.Collections;
 
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.Source;
+import com.tngtech.archunit.core.domain.properties.HasOwner;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 
+/**
+ * A {@link ConditionEvent} concerning a single object. The message of the event can be supplied lazily,
+ * either as a template with arguments (compare {@link #formatted(Object, boolean, String, Object...)})
+ * or as the description of some object, like a {@link JavaAccess}
+ * (compare {@link #describedBy(Object, boolean, HasDescription)}). In those cases the message is only rendered,
+ * if it is actually needed, e.g. to report a violation, which avoids building messages of events that are never reported.<br>
+ * Besides the message, the event offers the structured data of the corresponding object, i.e. its target
+ * (compare {@link #getTarget()}) and where it is located in the code (compare {@link #getSource()} and
+ * {@link #getLineNumber()}).
+ */
 @PublicAPI(usage = ACCESS)
 public final class SimpleConditionEvent implements ConditionEvent {
     private final Object correspondingObject;
     private final boolean conditionSatisfied;
-    private final String message;
+    private final HasDescription messageSource;
+    private volatile String message;
 
     public SimpleConditionEvent(Object correspondingObject, boolean conditionSatisfied, String message) {
+        this(correspondingObject, conditionSatisfied, new FixedMessage(message));
+        checkArgument(conditionSatisfied || !message.trim().isEmpty(), "Message may not be empty for violation");
+    }
+
+    private SimpleConditionEvent(Object correspondingObject, boolean conditionSatisfied, HasDescription messageSource) {
         this.correspondingObject = correspondingObject;
         this.conditionSatisfied = conditionSatisfied;
-        this.message = message;
-        checkArgument(conditionSatisfied || !this.message.trim().isEmpty(), "Message may not be empty for violation");
+        this.messageSource = messageSource;
+    }
+
+    /**
+     * @return the object this event concerns, e.g. the checked {@link JavaClass} or {@link JavaAccess}
+     */
+    @PublicAPI(usage = ACCESS)
+    public Object getCorrespondingObject() {
+        return correspondingObject;
+    }
+
+    /**
+     * @return the target of the corresponding object, i.e. the {@link JavaAccess#getTarget() target of an access}
+     * or the {@link Dependency#getTargetClass() target class of a dependency}; absent for any other object
+     */
+    @PublicAPI(usage = ACCESS)
+    public Optional<Object> getTarget() {
+        if (correspondingObject instanceof JavaAccess<?>) {
+            return Optional.<Object>of(((JavaAccess<?>) correspondingObject).getTarget());
+        }
+        if (correspondingObject instanceof Dependency) {
+            return Optional.<Object>of(((Dependency) correspondingObject).getTargetClass());
+        }
+        return Optional.absent();
+    }
+
+    /**
+     * @return the {@link Source} of the class the corresponding object is declared in or originates from,
+     * e.g. the origin class of a {@link Dependency}; absent, if the object is not related to any class,
+     * or the source is unknown
+     */
+    @PublicAPI(usage = ACCESS)
+    public Optional<Source> getSource() {
+        Optional<JavaClass> originClass = originClassOf(correspondingObject);
+        return originClass.isPresent() ? originClass.get().getSource() : Optional.<Source>absent();
+    }
+
+    /**
+     * @return the line number of the corresponding object within its {@link #getSource() source},
+     * if it is a {@link JavaAccess} or {@link Dependency}; 0, if the line number is unknown
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getLineNumber() {
+        if (correspondingObject instanceof JavaAccess<?>) {
+            return ((JavaAccess<?>) correspondingObject).getLineNumber();
+        }
+        if (correspondingObject instanceof Dependency) {
+            return ((Dependency) correspondingObject).getLineNumber();
+        }
+        return 0;
+    }
+
+    private static Optional<JavaClass> originClassOf(Object object) {
+        if (object instanceof JavaClass) {
+            return Optional.of((JavaClass) object);
+        }
+        if (object instanceof JavaAccess<?>) {
+            return Optional.of(((JavaAccess<?>) object).getOriginOwner());
+        }
+        if (object instanceof Dependency) {
+            return Optional.of(((Dependency) object).getOriginClass());
+        }
+        if (object instanceof HasOwner<?>) {
+            return originClassOf(((HasOwner<?>) object).getOwner());
+        }
+        return Optional.absent();
     }
 
     @Override
@@ -43,17 +131,25 @@ public final class SimpleConditionEvent implements ConditionEvent {
 
     @Override
     public void addInvertedTo(ConditionEvents events) {
-        events.add(new SimpleConditionEvent(correspondingObject, !conditionSatisfied, message));
+        events.add(new SimpleConditionEvent(correspondingObject, !conditionSatisfied, messageSource));
     }
 
     @Override
     public void describeTo(CollectsLines messages) {
-        messages.add(message);
+        messages.add(getMessage());
     }
 
     @Override
     public void handleWith(Handler handler) {
-        handler.handle(Collections.singleton(correspondingObject), message);
+        handler.handle(Collections.singleton(correspondingObject), getMessage());
+    }
+
+    private String getMessage() {
+        String result = message;
+        if (result == null) {
+            result = message = messageSource.getDescription();
+        }
+        return result;
     }
 
     @Override
@@ -61,10 +157,41 @@ public final class SimpleConditionEvent implements ConditionEvent {
         return toStringHelper(this)
                 .add("correspondingObject", correspondingObject)
                 .add("conditionSatisfied", conditionSatisfied)
-                .add("message", message)
+                .add("message", getMessage())
                 .toString();
     }
 
+    /**
+     * Creates an event, whose message is only rendered via {@link String#format(String, Object...)} if needed.
+     * Thus the arguments should not change after the event has been created.
+     *
+     * @param correspondingObject The object this event concerns
+     * @param conditionSatisfied Whether the object satisfied the condition
+     * @param messageTemplate The template of the message, compare {@link String#format(String, Object...)}
+     * @param args The arguments of the template
+     * @return The event with the formatted message
+     */
+    @PublicAPI(usage = ACCESS)
+    public static SimpleConditionEvent formatted(Object correspondingObject, boolean conditionSatisfied, String messageTemplate, Object... args) {
+        checkArgument(conditionSatisfied || !messageTemplate.trim().isEmpty(), "Message may not be empty for violation");
+        return new SimpleConditionEvent(correspondingObject, conditionSatisfied, new FormattedMessage(messageTemplate, args));
+    }
+
+    /**
+     * Creates an event, whose message is the description of the supplied object,
+     * which is only queried, if the message is needed.
+     *
+     * @param correspondingObject The object this event concerns
+     * @param conditionSatisfied Whether the object satisfied the condition
+     * @param messageSource The object describing the event, e.g. the {@link com.tngtech.archunit.core.domain.Dependency Dependency}
+     *                      checked by the condition
+     * @return The event described by the message source
+     */
+    @PublicAPI(usage = ACCESS)
+    public static SimpleConditionEvent describedBy(Object correspondingObject, boolean conditionSatisfied, HasDescription messageSource) {
+        return new SimpleConditionEvent(correspondingObject, conditionSatisfied, checkNotNull(messageSource));
+    }
+
     public static ConditionEvent violated(Object correspondingObject, String message) {
         return new SimpleConditionEvent(correspondingObject, false, message);
     }
@@ -72,4 +199,32 @@ public final class SimpleConditionEvent implements ConditionEvent {
     public static ConditionEvent satisfied(Object correspondingObject, String message) {
         return new SimpleConditionEvent(correspondingObject, true, message);
     }
+
+    private static class FixedMessage implements HasDescription {
+        private final String message;
+
+        FixedMessage(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public String getDescription() {
+            return message;
+        }
+    }
+
+    private static class FormattedMessage implements HasDescription {
+        private final String template;
+        private final Object[] args;
+
+        FormattedMessage(String template, Object[] args) {
+            this.template = checkNotNull(template);
+            this.args = args;
+        }
+
+        @Override
+        public String getDescription() {
+            return String.format(template, args);
+        }
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang.conditions;
+
+import java.util.Collection;
+import java.util.Objects;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.core.domain.JavaAccess;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The name of an owner together with the name of one of its members, e.g. of a field or method. Conditions looking for
+ * accesses to a specific member can narrow down the accesses of a class by it, thus their predicate only needs to be
+ * evaluated for the accesses to that member, instead of all accesses of the class.<br>
+ * Note that this only saves evaluating the predicate. Each condition still filters all accesses of the class on its own,
+ * i.e. the accesses of a class are not collected once and shared between several rules.
+ */
+class AccessedMember {
+    private final String ownerName;
+    private final String memberName;
+
+    AccessedMember(String ownerName, String memberName) {
+        this.ownerName = checkNotNull(ownerName);
+        this.memberName = checkNotNull(memberName);
+    }
+
+    /**
+     * @return The accesses to this member, in the order of the given accesses
+     */
+    <A extends JavaAccess<?>> Collection<A> filterAccessesTo(Collection<A> accesses) {
+        ImmutableList.Builder<A> result = ImmutableList.builder();
+        for (A access : accesses) {
+            if (isTargetOf(access)) {
+                result.add(access);
+            }
+        }
+        return result.build();
+    }
+
+    // NOTE: The member name differs for most accesses, so we compare it first
+    private boolean isTargetOf(JavaAccess<?> access) {
+        return memberName.equals(access.getTarget().getName()) && ownerName.equals(access.getTargetOwner().getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ownerName, memberName);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final AccessedMember other = (AccessedMember) obj;
+        return Objects.equals(this.ownerName, other.ownerName)
+                && Objects.equals(this.memberName, other.memberName);
+    }
+
+    @Override
+    public String toString() {
+        return ownerName + "." + memberName;
+    }
+}
@@ -38,6 +38,21 @@ abstract class AllAttributesMatchCondition<T> extends ArchCondition<JavaClass> {
 
     abstract Collection<T> relevantAttributes(JavaClass item);
 
+    @Override
+    public boolean canBeCheckedConcurrently() {
+        return condition.canBeCheckedConcurrently();
+    }
+
+    @Override
+    public boolean canBeCheckedIncrementally() {
+        return condition.canBeCheckedIncrementally();
+    }
+
+    @Override
+    public boolean canBeSkipped() {
+        return condition.canBeSkipped();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -29,7 +29,22 @@ class AllDependenciesOnClassCondition extends AllAttributesMatchCondition<Depend
         super(description, new ArchCondition<Dependency>(predicate.getDescription()) {
             @Override
             public void check(Dependency item, ConditionEvents events) {
-                events.add(new SimpleConditionEvent(item, predicate.apply(item), item.getDescription()));
+                events.add(SimpleConditionEvent.describedBy(item, predicate.apply(item), item));
+            }
+
+            @Override
+            public boolean canBeCheckedConcurrently() {
+                return true;
+            }
+
+            @Override
+            public boolean canBeCheckedIncrementally() {
+                return true;
+            }
+
+            @Override
+            public boolean canBeSkipped() {
+                return true;
             }
         });
     }
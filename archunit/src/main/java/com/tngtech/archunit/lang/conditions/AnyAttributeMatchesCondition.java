@@ -17,9 +17,15 @@ package com.tngtech.archunit.lang.conditions;
 
 import java.util.Collection;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ForwardingCollection;
+import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvent;
 import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.conditions.ContainAnyCondition.AnyConditionEvent;
 
 import static com.tngtech.archunit.lang.conditions.ArchConditions.containAnyElementThat;
 
@@ -37,11 +43,69 @@ abstract class AnyAttributeMatchesCondition<T> extends ArchCondition<JavaClass>
 
     @Override
     public final void check(JavaClass item, ConditionEvents events) {
-        containAnyElementThat(condition).check(relevantAttributes(item), events);
+        Collection<T> attributes = relevantAttributes(item);
+        Optional<Collection<T>> candidates = candidateAttributes(attributes);
+        if (candidates.isPresent()) {
+            checkCandidates(attributes, candidates.get(), events);
+        } else {
+            containAnyElementThat(condition).check(attributes, events);
+        }
     }
 
     abstract Collection<T> relevantAttributes(JavaClass item);
 
+    /**
+     * @return The only relevant attributes that can possibly match the condition, if they can be determined
+     * more cheaply than by checking every relevant attribute (e.g. the accesses to a specific field)
+     */
+    Optional<Collection<T>> candidateAttributes(Collection<T> relevantAttributes) {
+        return Optional.absent();
+    }
+
+    // NOTE: Any attribute besides the candidates can only cause violated events. These events are only
+    //       needed to describe the violation if no candidate matches, so we only check the other attributes then
+    private void checkCandidates(final Collection<T> attributes, Collection<T> candidates, ConditionEvents events) {
+        if (attributes.isEmpty()) {
+            return;
+        }
+        ConditionEvents candidateEvents = new ConditionEvents();
+        for (T candidate : candidates) {
+            condition.check(candidate, candidateEvents);
+        }
+        events.add(new AnyConditionEvent(attributes, candidateEvents.getAllowed(), new ForwardingCollection<ConditionEvent>() {
+            private final Supplier<Collection<ConditionEvent>> violating = Suppliers.memoize(new Supplier<Collection<ConditionEvent>>() {
+                @Override
+                public Collection<ConditionEvent> get() {
+                    ConditionEvents allEvents = new ConditionEvents();
+                    for (T attribute : attributes) {
+                        condition.check(attribute, allEvents);
+                    }
+                    return allEvents.getViolating();
+                }
+            });
+
+            @Override
+            protected Collection<ConditionEvent> delegate() {
+                return violating.get();
+            }
+        }));
+    }
+
+    @Override
+    public boolean canBeCheckedConcurrently() {
+        return condition.canBeCheckedConcurrently();
+    }
+
+    @Override
+    public boolean canBeCheckedIncrementally() {
+        return condition.canBeCheckedIncrementally();
+    }
+
+    @Override
+    public boolean canBeSkipped() {
+        return condition.canBeSkipped();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
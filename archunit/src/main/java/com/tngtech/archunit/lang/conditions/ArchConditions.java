@@ -80,7 +80,7 @@ public final class ArchConditions {
 
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> getField(final String ownerName, final String fieldName) {
-        return getFieldWhere(ownerAndNameAre(ownerName, fieldName))
+        return new ClassGetsFieldCondition(ownerAndNameAre(ownerName, fieldName), new AccessedMember(ownerName, fieldName))
                 .as("get field %s.%s", ensureSimpleName(ownerName), fieldName);
     }
 
@@ -97,7 +97,7 @@ public final class ArchConditions {
 
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> setField(final String ownerName, final String fieldName) {
-        return setFieldWhere(ownerAndNameAre(ownerName, fieldName))
+        return new ClassSetsFieldCondition(ownerAndNameAre(ownerName, fieldName), new AccessedMember(ownerName, fieldName))
                 .as("set field %s.%s", ensureSimpleName(ownerName), fieldName);
     }
 
@@ -114,7 +114,7 @@ public final class ArchConditions {
 
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> accessField(final String ownerName, final String fieldName) {
-        return accessFieldWhere(ownerAndNameAre(ownerName, fieldName))
+        return new ClassAccessesFieldCondition(ownerAndNameAre(ownerName, fieldName), new AccessedMember(ownerName, fieldName))
                 .as("access field %s.%s", ensureSimpleName(ownerName), fieldName);
     }
 
@@ -126,7 +126,7 @@ public final class ArchConditions {
 
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> callMethod(Class<?> owner, String methodName, Class<?>... parameterTypes) {
-        return callMethodWhere(JavaCall.Predicates.target(owner(type(owner)))
+        return callMethodOf(new AccessedMember(owner.getName(), methodName), JavaCall.Predicates.target(owner(type(owner)))
                 .and(JavaCall.Predicates.target(name(methodName)))
                 .and(JavaCall.Predicates.target(parameterTypes(parameterTypes))))
                 .as("call method %s", Formatters.formatMethodSimple(
@@ -135,7 +135,7 @@ public final class ArchConditions {
 
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> callMethod(String ownerName, String methodName, String... parameterTypeNames) {
-        return callMethodWhere(JavaCall.Predicates.target(With.<JavaClass>owner(name(ownerName)))
+        return callMethodOf(new AccessedMember(ownerName, methodName), JavaCall.Predicates.target(With.<JavaClass>owner(name(ownerName)))
                 .and(JavaCall.Predicates.target(name(methodName)))
                 .and(JavaCall.Predicates.target(parameterTypes(parameterTypeNames))))
                 .as("call method %s", Formatters.formatMethodSimple(
@@ -150,7 +150,7 @@ public final class ArchConditions {
 
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> callConstructor(Class<?> owner, Class<?>... parameterTypes) {
-        return callConstructorWhere(JavaCall.Predicates.target(owner(type(owner)))
+        return callConstructorOf(new AccessedMember(owner.getName(), CONSTRUCTOR_NAME), JavaCall.Predicates.target(owner(type(owner)))
                 .and(JavaCall.Predicates.target(name(CONSTRUCTOR_NAME)))
                 .and(JavaCall.Predicates.target(parameterTypes(parameterTypes))))
                 .as("call constructor %s", Formatters.formatMethodSimple(
@@ -159,7 +159,7 @@ public final class ArchConditions {
 
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> callConstructor(String ownerName, String... parameterTypeNames) {
-        return callConstructorWhere(JavaCall.Predicates.target(With.<JavaClass>owner(name(ownerName)))
+        return callConstructorOf(new AccessedMember(ownerName, CONSTRUCTOR_NAME), JavaCall.Predicates.target(With.<JavaClass>owner(name(ownerName)))
                 .and(JavaCall.Predicates.target(name(CONSTRUCTOR_NAME)))
                 .and(JavaCall.Predicates.target(parameterTypes(parameterTypeNames))))
                 .as("call constructor %s", Formatters.formatMethodSimple(
@@ -172,6 +172,17 @@ public final class ArchConditions {
                 .as("call constructor where " + predicate.getDescription());
     }
 
+    // NOTE: The calls to the target can be looked up directly, since the predicate only accepts calls to the target
+    private static ArchCondition<JavaClass> callMethodOf(AccessedMember target, DescribedPredicate<? super JavaMethodCall> predicate) {
+        return new ClassCallsCodeUnitCondition(new CallMethodPredicate(predicate), target)
+                .as("call method where " + predicate.getDescription());
+    }
+
+    private static ArchCondition<JavaClass> callConstructorOf(AccessedMember target, DescribedPredicate<? super JavaConstructorCall> predicate) {
+        return new ClassCallsCodeUnitCondition(new CallConstructorPredicate(predicate), target)
+                .as("call constructor where " + predicate.getDescription());
+    }
+
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> callCodeUnitWhere(DescribedPredicate<? super JavaCall<?>> predicate) {
         return new ClassCallsCodeUnitCondition(predicate);
@@ -279,16 +290,15 @@ public final class ArchConditions {
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> haveFullyQualifiedName(final String name) {
         final DescribedPredicate<HasName> haveFullyQualifiedName = have(fullyQualifiedName(name));
-        return new ArchCondition<JavaClass>(haveFullyQualifiedName.getDescription()) {
+        return new StatelessCondition<JavaClass>(haveFullyQualifiedName.getDescription()) {
             @Override
             public void check(JavaClass clazz, ConditionEvents events) {
                 boolean satisfied = haveFullyQualifiedName.apply(clazz);
-                String message = String.format("class %s %s fully qualified name '%s' in %s",
+                events.add(SimpleConditionEvent.formatted(clazz, satisfied, "class %s %s fully qualified name '%s' in %s",
                         clazz.getName(),
                         satisfied ? "has" : "doesn't have",
                         name,
-                        formatLocation(clazz, 0));
-                events.add(new SimpleConditionEvent(clazz, satisfied, message));
+                        locationOf(clazz)));
             }
         };
     }
@@ -307,16 +317,15 @@ public final class ArchConditions {
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> haveSimpleName(final String name) {
         final DescribedPredicate<JavaClass> haveSimpleName = have(simpleName(name));
-        return new ArchCondition<JavaClass>(haveSimpleName.getDescription()) {
+        return new StatelessCondition<JavaClass>(haveSimpleName.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = haveSimpleName.apply(item);
-                String message = String.format("class %s %s simple name '%s' in %s",
+                events.add(SimpleConditionEvent.formatted(item, satisfied, "class %s %s simple name '%s' in %s",
                         item.getName(),
                         satisfied ? "has" : "doesn't have",
                         name,
-                        formatLocation(item, 0));
-                events.add(new SimpleConditionEvent(item, satisfied, message));
+                        locationOf(item)));
             }
         };
     }
@@ -330,16 +339,15 @@ public final class ArchConditions {
     public static ArchCondition<JavaClass> haveSimpleNameStartingWith(final String prefix) {
         final DescribedPredicate<JavaClass> predicate = have(simpleNameStartingWith(prefix));
 
-        return new ArchCondition<JavaClass>(predicate.getDescription()) {
+        return new StatelessCondition<JavaClass>(predicate.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = predicate.apply(item);
-                String message = String.format("simple name of %s %s with '%s' in %s",
+                events.add(SimpleConditionEvent.formatted(item, satisfied, "simple name of %s %s with '%s' in %s",
                         item.getName(),
                         satisfied ? "starts" : "doesn't start",
                         prefix,
-                        formatLocation(item, 0));
-                events.add(new SimpleConditionEvent(item, satisfied, message));
+                        locationOf(item)));
             }
         };
     }
@@ -353,16 +361,15 @@ public final class ArchConditions {
     public static ArchCondition<JavaClass> haveSimpleNameContaining(final String infix) {
         final DescribedPredicate<JavaClass> predicate = have(simpleNameContaining(infix));
 
-        return new ArchCondition<JavaClass>(predicate.getDescription()) {
+        return new StatelessCondition<JavaClass>(predicate.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = predicate.apply(item);
-                String message = String.format("simple name of %s %s '%s' in %s",
+                events.add(SimpleConditionEvent.formatted(item, satisfied, "simple name of %s %s '%s' in %s",
                         item.getName(),
                         satisfied ? "contains" : "doesn't contain",
                         infix,
-                        formatLocation(item, 0));
-                events.add(new SimpleConditionEvent(item, satisfied, message));
+                        locationOf(item)));
             }
         };
     }
@@ -376,16 +383,15 @@ public final class ArchConditions {
     public static ArchCondition<JavaClass> haveSimpleNameEndingWith(final String suffix) {
         final DescribedPredicate<JavaClass> predicate = have(simpleNameEndingWith(suffix));
 
-        return new ArchCondition<JavaClass>(predicate.getDescription()) {
+        return new StatelessCondition<JavaClass>(predicate.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = predicate.apply(item);
-                String message = String.format("simple name of %s %s with '%s' in %s",
+                events.add(SimpleConditionEvent.formatted(item, satisfied, "simple name of %s %s with '%s' in %s",
                         item.getName(),
                         satisfied ? "ends" : "doesn't end",
                         suffix,
-                        formatLocation(item, 0));
-                events.add(new SimpleConditionEvent(item, satisfied, message));
+                        locationOf(item)));
             }
         };
     }
@@ -398,16 +404,15 @@ public final class ArchConditions {
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> haveNameMatching(final String regex) {
         final DescribedPredicate<HasName> haveNameMatching = have(nameMatching(regex));
-        return new ArchCondition<JavaClass>(haveNameMatching.getDescription()) {
+        return new StatelessCondition<JavaClass>(haveNameMatching.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = haveNameMatching.apply(item);
-                String message = String.format("class %s %s '%s' in %s",
+                events.add(SimpleConditionEvent.formatted(item, satisfied, "class %s %s '%s' in %s",
                         item.getName(),
                         satisfied ? "matches" : "doesn't match",
                         regex,
-                        formatLocation(item, 0));
-                events.add(new SimpleConditionEvent(item, satisfied, message));
+                        locationOf(item)));
             }
         };
     }
@@ -438,16 +443,15 @@ public final class ArchConditions {
     }
 
     private static ArchCondition<JavaClass> residesConditionForPredicate(final DescribedPredicate<JavaClass> resideInAPackage) {
-        return new ArchCondition<JavaClass>(resideInAPackage.getDescription()) {
+        return new StatelessCondition<JavaClass>(resideInAPackage.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = resideInAPackage.apply(item);
-                String message = String.format("Class %s %s %s in %s",
+                events.add(SimpleConditionEvent.formatted(item, satisfied, "Class %s %s %s in %s",
                         item.getName(),
                         satisfied ? "does" : "doesn't",
                         resideInAPackage.getDescription(),
-                        formatLocation(item, 0));
-                events.add(new SimpleConditionEvent(item, satisfied, message));
+                        locationOf(item)));
             }
         };
     }
@@ -455,16 +459,15 @@ public final class ArchConditions {
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> haveModifier(final JavaModifier modifier) {
         final DescribedPredicate<HasModifiers> haveModifier = have(modifier(modifier));
-        return new ArchCondition<JavaClass>(haveModifier.getDescription()) {
+        return new StatelessCondition<JavaClass>(haveModifier.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = haveModifier.apply(item);
-                String message = String.format("class %s %s modifier %s in %s",
+                events.add(SimpleConditionEvent.formatted(item, satisfied, "class %s %s modifier %s in %s",
                         item.getName(),
                         satisfied ? "has" : "doesn't have",
                         modifier,
-                        formatLocation(item, 0));
-                events.add(new SimpleConditionEvent(item, satisfied, message));
+                        locationOf(item)));
             }
         };
     }
@@ -548,16 +551,15 @@ public final class ArchConditions {
     }
 
     private static ArchCondition<JavaClass> createAnnotatedCondition(final DescribedPredicate<CanBeAnnotated> annotatedWith) {
-        return new ArchCondition<JavaClass>(be(annotatedWith).getDescription()) {
+        return new StatelessCondition<JavaClass>(be(annotatedWith).getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = annotatedWith.apply(item);
-                String message = String.format("class %s is %s%s in %s",
+                events.add(SimpleConditionEvent.formatted(item, satisfied, "class %s is %s%s in %s",
                         item.getName(),
                         satisfied ? "" : "not ",
                         annotatedWith.getDescription(),
-                        formatLocation(item, 0));
-                events.add(new SimpleConditionEvent(item, satisfied, message));
+                        locationOf(item)));
             }
         };
     }
@@ -593,18 +595,16 @@ public final class ArchConditions {
     }
 
     private static ArchCondition<JavaClass> createImplementsCondition(final DescribedPredicate<? super JavaClass> implement) {
-        return new ArchCondition<JavaClass>(implement.getDescription()) {
+        final String satisfiedDescription = implement.getDescription().replace("implement", "implements");
+        final String violatedDescription = implement.getDescription().replace("implement", "doesn't implement");
+        return new StatelessCondition<JavaClass>(implement.getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = implement.apply(item);
-                String description = satisfied
-                        ? implement.getDescription().replace("implement", "implements")
-                        : implement.getDescription().replace("implement", "doesn't implement");
-                String message = String.format("class %s %s in %s",
+                events.add(SimpleConditionEvent.formatted(item, satisfied, "class %s %s in %s",
                         item.getName(),
-                        description,
-                        formatLocation(item, 0));
-                events.add(new SimpleConditionEvent(item, satisfied, message));
+                        satisfied ? satisfiedDescription : violatedDescription,
+                        locationOf(item)));
             }
         };
     }
@@ -671,15 +671,14 @@ public final class ArchConditions {
 
     @PublicAPI(usage = ACCESS)
     public static ArchCondition<JavaClass> beInterfaces() {
-        return new ArchCondition<JavaClass>("be interfaces") {
+        return new StatelessCondition<JavaClass>("be interfaces") {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean isInterface = item.isInterface();
-                String message = String.format("class %s is %s interface in %s",
+                events.add(SimpleConditionEvent.formatted(item, isInterface, "class %s is %s interface in %s",
                         item.getName(),
                         isInterface ? "an" : "not an",
-                        formatLocation(item, 0));
-                events.add(new SimpleConditionEvent(item, isInterface, message));
+                        locationOf(item)));
             }
         };
     }
@@ -690,16 +689,15 @@ public final class ArchConditions {
     }
 
     private static ArchCondition<JavaClass> createAssignableCondition(final DescribedPredicate<JavaClass> assignable) {
-        return new ArchCondition<JavaClass>(be(assignable).getDescription()) {
+        return new StatelessCondition<JavaClass>(be(assignable).getDescription()) {
             @Override
             public void check(JavaClass item, ConditionEvents events) {
                 boolean satisfied = assignable.apply(item);
-                String message = String.format("class %s is %s%s in %s",
+                events.add(SimpleConditionEvent.formatted(item, satisfied, "class %s is %s%s in %s",
                         item.getName(),
                         satisfied ? "" : "not ",
                         assignable.getDescription(),
-                        formatLocation(item, 0));
-                events.add(new SimpleConditionEvent(item, satisfied, message));
+                        locationOf(item)));
             }
         };
     }
@@ -731,4 +729,49 @@ public final class ArchConditions {
             return input instanceof JavaConstructorCall && predicate.apply((JavaConstructorCall) input);
         }
     }
+
+    private static Location locationOf(JavaClass javaClass) {
+        return new Location(javaClass);
+    }
+
+    /**
+     * The location of a class within a message, which is only formatted if the message is needed
+     */
+    private static class Location {
+        private final JavaClass javaClass;
+
+        Location(JavaClass javaClass) {
+            this.javaClass = javaClass;
+        }
+
+        @Override
+        public String toString() {
+            return formatLocation(javaClass, 0);
+        }
+    }
+
+    /**
+     * Base for the conditions created within {@link ArchConditions}, which only depend on the checked object
+     * and the supplied predicates (compare {@link ArchCondition#canBeCheckedConcurrently()})
+     */
+    private abstract static class StatelessCondition<T> extends ArchCondition<T> {
+        StatelessCondition(String description) {
+            super(description);
+        }
+
+        @Override
+        public boolean canBeCheckedConcurrently() {
+            return true;
+        }
+
+        @Override
+        public boolean canBeCheckedIncrementally() {
+            return true;
+        }
+
+        @Override
+        public boolean canBeSkipped() {
+            return true;
+        }
+    }
 }
@@ -18,18 +18,29 @@ package com.tngtech.archunit.lang.conditions;
 import java.util.Collection;
 
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaFieldAccess;
 import com.tngtech.archunit.lang.conditions.FieldAccessCondition.FieldGetAccessCondition;
 import com.tngtech.archunit.lang.conditions.FieldAccessCondition.FieldSetAccessCondition;
 
 class ClassAccessesFieldCondition extends AnyAttributeMatchesCondition<JavaFieldAccess> {
+    private final Optional<AccessedMember> target;
+
     ClassAccessesFieldCondition(DescribedPredicate<? super JavaFieldAccess> predicate) {
-        this(new FieldAccessCondition(predicate));
+        this(new FieldAccessCondition(predicate), Optional.<AccessedMember>absent());
+    }
+
+    /**
+     * @param target The field, the predicate only accepts accesses to
+     */
+    ClassAccessesFieldCondition(DescribedPredicate<? super JavaFieldAccess> predicate, AccessedMember target) {
+        this(new FieldAccessCondition(predicate), Optional.of(target));
     }
 
-    ClassAccessesFieldCondition(FieldAccessCondition condition) {
+    ClassAccessesFieldCondition(FieldAccessCondition condition, Optional<AccessedMember> target) {
         super(condition.getDescription(), condition);
+        this.target = target;
     }
 
     @Override
@@ -37,15 +48,30 @@ class ClassAccessesFieldCondition extends AnyAttributeMatchesCondition<JavaField
         return item.getFieldAccessesFromSelf();
     }
 
+    @Override
+    Optional<Collection<JavaFieldAccess>> candidateAttributes(Collection<JavaFieldAccess> relevantAttributes) {
+        return target.isPresent()
+                ? Optional.of(target.get().filterAccessesTo(relevantAttributes))
+                : Optional.<Collection<JavaFieldAccess>>absent();
+    }
+
     static class ClassGetsFieldCondition extends ClassAccessesFieldCondition {
         ClassGetsFieldCondition(DescribedPredicate<? super JavaFieldAccess> predicate) {
-            super(new FieldGetAccessCondition(predicate));
+            super(new FieldGetAccessCondition(predicate), Optional.<AccessedMember>absent());
+        }
+
+        ClassGetsFieldCondition(DescribedPredicate<? super JavaFieldAccess> predicate, AccessedMember target) {
+            super(new FieldGetAccessCondition(predicate), Optional.of(target));
         }
     }
 
     static class ClassSetsFieldCondition extends ClassAccessesFieldCondition {
         ClassSetsFieldCondition(DescribedPredicate<? super JavaFieldAccess> predicate) {
-            super(new FieldSetAccessCondition(predicate));
+            super(new FieldSetAccessCondition(predicate), Optional.<AccessedMember>absent());
+        }
+
+        ClassSetsFieldCondition(DescribedPredicate<? super JavaFieldAccess> predicate, AccessedMember target) {
+            super(new FieldSetAccessCondition(predicate), Optional.of(target));
         }
     }
 }
@@ -18,16 +18,38 @@ package com.tngtech.archunit.lang.conditions;
 import java.util.Collection;
 
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaCall;
 import com.tngtech.archunit.core.domain.JavaClass;
 
 class ClassCallsCodeUnitCondition extends AnyAttributeMatchesCondition<JavaCall<?>> {
+    private final Optional<AccessedMember> target;
+
     ClassCallsCodeUnitCondition(DescribedPredicate<? super JavaCall<?>> predicate) {
+        this(predicate, Optional.<AccessedMember>absent());
+    }
+
+    /**
+     * @param target The code unit, the predicate only accepts calls to
+     */
+    ClassCallsCodeUnitCondition(DescribedPredicate<? super JavaCall<?>> predicate, AccessedMember target) {
+        this(predicate, Optional.of(target));
+    }
+
+    private ClassCallsCodeUnitCondition(DescribedPredicate<? super JavaCall<?>> predicate, Optional<AccessedMember> target) {
         super(new CodeUnitCallCondition(predicate));
+        this.target = target;
     }
 
     @Override
     Collection<JavaCall<?>> relevantAttributes(JavaClass item) {
         return item.getCallsFromSelf();
     }
+
+    @Override
+    Optional<Collection<JavaCall<?>>> candidateAttributes(Collection<JavaCall<?>> relevantAttributes) {
+        return target.isPresent()
+                ? Optional.of(target.get().filterAccessesTo(relevantAttributes))
+                : Optional.<Collection<JavaCall<?>>>absent();
+    }
 }
@@ -31,6 +31,21 @@ class CodeUnitCallCondition extends ArchCondition<JavaCall<?>> {
 
     @Override
     public void check(JavaCall<?> item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, callIdentifier.apply(item), item.getDescription()));
+        events.add(SimpleConditionEvent.describedBy(item, callIdentifier.apply(item), item));
+    }
+
+    @Override
+    public boolean canBeCheckedConcurrently() {
+        return true;
+    }
+
+    @Override
+    public boolean canBeCheckedIncrementally() {
+        return true;
+    }
+
+    @Override
+    public boolean canBeSkipped() {
+        return true;
     }
 }
@@ -42,6 +42,26 @@ class ContainsOnlyCondition<T> extends ArchCondition<Collection<? extends T>> {
         }
     }
 
+    @Override
+    public boolean canBeCheckedConcurrently() {
+        return condition.canBeCheckedConcurrently();
+    }
+
+    @Override
+    public boolean canBeCheckedIncrementally() {
+        return condition.canBeCheckedIncrementally();
+    }
+
+    @Override
+    public boolean canBeSkipped() {
+        return condition.canBeSkipped();
+    }
+
+    @Override
+    public int getCostHint() {
+        return condition.getCostHint();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
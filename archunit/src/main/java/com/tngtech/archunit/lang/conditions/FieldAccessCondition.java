@@ -19,6 +19,7 @@ import java.util.EnumSet;
 import java.util.Set;
 
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.core.domain.JavaFieldAccess;
 import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
 import com.tngtech.archunit.lang.ArchCondition;
@@ -48,9 +49,28 @@ class FieldAccessCondition extends ArchCondition<JavaFieldAccess> {
     }
 
     @Override
-    public void check(JavaFieldAccess item, ConditionEvents events) {
-        String message = item.getDescriptionWithTemplate(descriptionTemplate);
-        events.add(new SimpleConditionEvent(item, fieldAccessIdentifier.apply(item), message));
+    public void check(final JavaFieldAccess item, ConditionEvents events) {
+        events.add(SimpleConditionEvent.describedBy(item, fieldAccessIdentifier.apply(item), new HasDescription() {
+            @Override
+            public String getDescription() {
+                return item.getDescriptionWithTemplate(descriptionTemplate);
+            }
+        }));
+    }
+
+    @Override
+    public boolean canBeCheckedConcurrently() {
+        return true;
+    }
+
+    @Override
+    public boolean canBeCheckedIncrementally() {
+        return true;
+    }
+
+    @Override
+    public boolean canBeSkipped() {
+        return true;
     }
 
     static class FieldGetAccessCondition extends FieldAccessCondition {
@@ -32,7 +32,22 @@ class JavaAccessCondition extends ArchCondition<JavaAccess<?>> {
     @Override
     public void check(JavaAccess<?> item, ConditionEvents events) {
         if (!item.getOriginOwner().equals(item.getTargetOwner())) {
-            events.add(new SimpleConditionEvent(item, predicate.apply(item), item.getDescription()));
+            events.add(SimpleConditionEvent.describedBy(item, predicate.apply(item), item));
         }
     }
+
+    @Override
+    public boolean canBeCheckedConcurrently() {
+        return true;
+    }
+
+    @Override
+    public boolean canBeCheckedIncrementally() {
+        return true;
+    }
+
+    @Override
+    public boolean canBeSkipped() {
+        return true;
+    }
 }
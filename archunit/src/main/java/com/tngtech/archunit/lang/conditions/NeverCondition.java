@@ -50,6 +50,26 @@ class NeverCondition<T> extends ArchCondition<T> {
         }
     }
 
+    @Override
+    public boolean canBeCheckedConcurrently() {
+        return condition.canBeCheckedConcurrently();
+    }
+
+    @Override
+    public boolean canBeCheckedIncrementally() {
+        return condition.canBeCheckedIncrementally();
+    }
+
+    @Override
+    public boolean canBeSkipped() {
+        return condition.canBeSkipped();
+    }
+
+    @Override
+    public int getCostHint() {
+        return condition.getCostHint();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
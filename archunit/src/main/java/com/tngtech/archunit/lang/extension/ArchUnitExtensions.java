@@ -15,20 +15,37 @@
  */
 package com.tngtech.archunit.lang.extension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.Internal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Suppliers.memoize;
+import static com.google.common.collect.Iterables.concat;
+
 @Internal
 public class ArchUnitExtensions {
     private static final Logger LOG = LoggerFactory.getLogger(ArchUnitExtensions.class);
 
     private static final String ENABLED_PROPERTY = "enabled";
+    private static final Properties NO_PROPERTIES = new Properties();
 
     private final ArchUnitExtensionLoader extensionLoader;
+    private final List<ArchUnitExtension> builtInExtensions = ImmutableList.<ArchUnitExtension>of(new EvaluationMetricsReport());
+    private final Map<ArchUnitExtension, Properties> configuredProperties = new MapMaker().weakKeys().makeMap();
+    private final Supplier<AsyncDispatcher> asyncDispatcher = memoize(new Supplier<AsyncDispatcher>() {
+        @Override
+        public AsyncDispatcher get() {
+            return new AsyncDispatcher(ArchConfiguration.get().getAsyncExtensionDispatchQueueSize());
+        }
+    });
 
     public ArchUnitExtensions() {
         this(new ArchUnitExtensionLoader());
@@ -39,15 +56,47 @@ public class ArchUnitExtensions {
         this.extensionLoader = extensionLoader;
     }
 
-    public void dispatch(EvaluatedRule evaluatedRule) {
-        for (ArchUnitExtension extension : extensionLoader.getAll()) {
-            dispatch(evaluatedRule, extension);
+    /**
+     * Passes the evaluated rule to all enabled extensions, by a background thread, if
+     * {@link ArchConfiguration#asyncExtensionDispatchEnabled() asynchronous dispatch is enabled}.
+     */
+    public void dispatch(final EvaluatedRule evaluatedRule) {
+        ArchConfiguration configuration = ArchConfiguration.get();
+        // NOTE: The properties must be the ones present when the rule was evaluated, not once a background thread runs
+        final Map<String, Properties> extensionProperties = configuration.getAllExtensionProperties();
+        if (configuration.asyncExtensionDispatchEnabled()) {
+            asyncDispatcher.get().submit(new Runnable() {
+                @Override
+                public void run() {
+                    dispatchToAll(evaluatedRule, extensionProperties);
+                }
+            });
+        } else {
+            dispatchToAll(evaluatedRule, extensionProperties);
         }
     }
 
-    private void dispatch(EvaluatedRule evaluatedRule, ArchUnitExtension extension) {
-        ArchConfiguration configuration = ArchConfiguration.get();
-        Properties extensionProperties = configuration.getExtensionProperties(extension.getUniqueIdentifier());
+    /**
+     * Waits until all evaluated rules dispatched asynchronously so far have been handled by the extensions
+     */
+    public void awaitAsyncDispatch() throws InterruptedException {
+        if (ArchConfiguration.get().asyncExtensionDispatchEnabled()) {
+            asyncDispatcher.get().flush();
+        }
+    }
+
+    private void dispatchToAll(EvaluatedRule evaluatedRule, Map<String, Properties> extensionProperties) {
+        for (ArchUnitExtension extension : concat(builtInExtensions, extensionLoader.getAll())) {
+            dispatch(evaluatedRule, extension, propertiesOf(extension, extensionProperties));
+        }
+    }
+
+    private Properties propertiesOf(ArchUnitExtension extension, Map<String, Properties> extensionProperties) {
+        Properties result = extensionProperties.get(extension.getUniqueIdentifier());
+        return result != null ? result : NO_PROPERTIES;
+    }
+
+    private void dispatch(EvaluatedRule evaluatedRule, ArchUnitExtension extension, Properties extensionProperties) {
         if (isEnabled(extensionProperties)) {
             configureAndDispatch(extension, extensionProperties, evaluatedRule);
         } else if (LOG.isDebugEnabled()) {
@@ -62,10 +111,26 @@ public class ArchUnitExtensions {
 
     private void configureAndDispatch(ArchUnitExtension extension, Properties extensionProperties, EvaluatedRule evaluatedRule) {
         try {
-            extension.configure(extensionProperties);
+            configureIfChanged(extension, extensionProperties);
             extension.handle(evaluatedRule);
         } catch (RuntimeException e) {
             LOG.warn(String.format("Error in extension '%s'", extension.getUniqueIdentifier()), e);
         }
     }
+
+    // NOTE: Extensions are only configured again, if their properties have changed in between. Unchanged properties
+    //       are usually the very same instance, so the comparison by equality is mostly skipped
+    private void configureIfChanged(ArchUnitExtension extension, Properties extensionProperties) {
+        Properties configured = configuredProperties.get(extension);
+        if (configured != extensionProperties && !extensionProperties.equals(configured)) {
+            extension.configure(copy(extensionProperties));
+            configuredProperties.put(extension, extensionProperties);
+        }
+    }
+
+    private static Properties copy(Properties properties) {
+        Properties result = new Properties();
+        result.putAll(properties);
+        return result;
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang.extension;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Runs dispatches to extensions one after another on a single background thread, thus extensions neither slow down
+ * the evaluation of rules, nor need to be thread safe. The number of waiting dispatches is bounded; if too many dispatches
+ * are waiting, submitting a further dispatch blocks until there is capacity again. Pending dispatches are completed
+ * before the JVM shuts down.
+ */
+class AsyncDispatcher {
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncDispatcher.class);
+
+    private static final long SHUTDOWN_TIMEOUT_MINUTES = 1;
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore capacity;
+
+    // NOTE: The capacity is bounded by a semaphore instead of the queue of the executor, so a dispatch is either accepted
+    //       by the executor, and thus completed by its shutdown, or rejected and run right away, without any gap in between
+    AsyncDispatcher(int queueSize) {
+        checkArgument(queueSize > 0, "Queue size must be positive, but was %s", queueSize);
+        executor = new ThreadPoolExecutor(1, 1, 0, MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(), new DaemonThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        capacity = new Semaphore(queueSize);
+        Runtime.getRuntime().addShutdownHook(new Thread(AsyncDispatcher.class.getSimpleName() + "-shutdown") {
+            @Override
+            public void run() {
+                shutdown();
+            }
+        });
+    }
+
+    void submit(final Runnable dispatch) {
+        try {
+            capacity.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dispatch.run();
+            return;
+        }
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        dispatch.run();
+                    } finally {
+                        capacity.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // NOTE: After shutdown has started (e.g. rules checked within another shutdown hook) we dispatch synchronously
+            capacity.release();
+            dispatch.run();
+        }
+    }
+
+    /**
+     * Waits until all dispatches submitted so far are completed
+     */
+    void flush() throws InterruptedException {
+        FutureTask<Void> marker = new FutureTask<>(new Runnable() {
+            @Override
+            public void run() {
+            }
+        }, null);
+        submit(marker);
+        try {
+            marker.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                LOG.warn("Extensions did not handle all evaluated rules within {} minute(s), {} evaluated rules are dropped",
+                        SHUTDOWN_TIMEOUT_MINUTES, executor.getQueue().size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "archunit-extension-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang.extension;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Properties;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.lang.EvaluationMetrics;
+
+import static com.google.common.collect.Iterables.size;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.nCopies;
+
+/**
+ * Built-in extension appending the {@link EvaluationMetrics} of each evaluated rule as a line to a CSV file,
+ * so slow rules can be identified and tracked over time. To enable this extension, configure
+ * <pre><code>
+ * extension.archunit-evaluation-metrics.enabled=true
+ * extension.archunit-evaluation-metrics.reportFile=build/archunit_evaluation_metrics.csv
+ * </code></pre>
+ * where <code>reportFile</code> defaults to <code>{@value #DEFAULT_REPORT_FILE}</code>. If the file doesn't exist yet,
+ * or is empty, a header line is written first. All durations are reported in nanoseconds. Results without
+ * metrics (e.g. results reused from a previous run) leave the respective columns empty.
+ */
+class EvaluationMetricsReport implements ArchUnitExtension {
+    static final String UNIQUE_IDENTIFIER = "archunit-evaluation-metrics";
+    static final String REPORT_FILE_PROPERTY = "reportFile";
+    static final String DEFAULT_REPORT_FILE = "archunit_evaluation_metrics.csv";
+
+    private static final List<String> HEADER = ImmutableList.of(
+            "rule", "importedClasses", "transformNanos", "initNanos", "checkNanos", "finishNanos", "totalNanos",
+            "checkedObjects", "allowedEvents", "violations");
+
+    private volatile File reportFile = new File(DEFAULT_REPORT_FILE);
+
+    @Override
+    public String getUniqueIdentifier() {
+        return UNIQUE_IDENTIFIER;
+    }
+
+    @Override
+    public void configure(Properties properties) {
+        reportFile = new File(properties.getProperty(REPORT_FILE_PROPERTY, DEFAULT_REPORT_FILE));
+    }
+
+    @Override
+    public synchronized void handle(EvaluatedRule evaluatedRule) {
+        File file = reportFile;
+        boolean writeHeader = !file.exists() || file.length() == 0;
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file, true), UTF_8)) {
+            if (writeHeader) {
+                writeLine(writer, HEADER);
+            }
+            writeLine(writer, columnsOf(evaluatedRule));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write evaluation metrics to " + file.getAbsolutePath(), e);
+        }
+    }
+
+    private List<String> columnsOf(EvaluatedRule evaluatedRule) {
+        return ImmutableList.<String>builder()
+                .add(quote(evaluatedRule.getRule().getDescription()))
+                .add(String.valueOf(size(evaluatedRule.getClasses())))
+                .addAll(metricColumnsOf(evaluatedRule.getResult().getMetrics()))
+                .build();
+    }
+
+    private List<String> metricColumnsOf(Optional<EvaluationMetrics> metrics) {
+        if (!metrics.isPresent()) {
+            return nCopies(HEADER.size() - 2, "");
+        }
+        return ImmutableList.of(
+                String.valueOf(metrics.get().getTransformNanos()),
+                String.valueOf(metrics.get().getInitNanos()),
+                String.valueOf(metrics.get().getCheckNanos()),
+                String.valueOf(metrics.get().getFinishNanos()),
+                String.valueOf(metrics.get().getTotalNanos()),
+                String.valueOf(metrics.get().getNumberOfCheckedObjects()),
+                String.valueOf(metrics.get().getNumberOfAllowedEvents()),
+                String.valueOf(metrics.get().getNumberOfViolations()));
+    }
+
+    private void writeLine(Writer writer, List<String> columns) throws IOException {
+        writer.write(Joiner.on(',').join(columns));
+        writer.write(System.lineSeparator());
+    }
+
+    // NOTE: Rule descriptions may contain commas, quotes and line breaks, thus we always quote them (compare RFC 4180)
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
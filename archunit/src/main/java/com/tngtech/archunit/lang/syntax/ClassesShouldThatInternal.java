@@ -26,6 +26,7 @@ import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaModifier;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationMode;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.syntax.elements.ClassesShould;
 import com.tngtech.archunit.lang.syntax.elements.ClassesShouldConjunction;
@@ -41,7 +42,7 @@ import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.nam
 import static com.tngtech.archunit.lang.conditions.ArchPredicates.are;
 import static com.tngtech.archunit.lang.conditions.ArchPredicates.have;
 
-class ClassesShouldThatInternal implements ClassesShouldThat, ClassesShouldConjunction {
+class ClassesShouldThatInternal implements ClassesShouldThat, ClassesShouldConjunction, ArchRule.Delegating {
     private final ClassesShouldInternal classesShould;
     private final PredicateAggregator<JavaClass> predicateAggregator;
     private final Function<DescribedPredicate<JavaClass>, ArchCondition<JavaClass>> createCondition;
@@ -325,11 +326,21 @@ class ClassesShouldThatInternal implements ClassesShouldThat, ClassesShouldConju
         return finishedRule.get().getDescription();
     }
 
+    @Override
+    public ArchRule getDelegate() {
+        return finishedRule.get();
+    }
+
     @Override
     public EvaluationResult evaluate(JavaClasses classes) {
         return finishedRule.get().evaluate(classes);
     }
 
+    @Override
+    public EvaluationResult evaluate(JavaClasses classes, EvaluationMode mode) {
+        return finishedRule.get().evaluate(classes, mode);
+    }
+
     @Override
     public void check(JavaClasses classes) {
         finishedRule.get().check(classes);
@@ -24,12 +24,13 @@ import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ClassesTransformer;
+import com.tngtech.archunit.lang.EvaluationMode;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
 
 import static com.google.common.base.Preconditions.checkState;
 
-class ObjectsShouldInternal<T> implements ArchRule {
+class ObjectsShouldInternal<T> implements ArchRule.Delegating {
     private final Supplier<ArchRule> finishedRule = Suppliers.memoize(new FinishedRule());
 
     final ConditionAggregator<T> conditionAggregator;
@@ -65,11 +66,21 @@ class ObjectsShouldInternal<T> implements ArchRule {
         return finishedRule.get().getDescription();
     }
 
+    @Override
+    public ArchRule getDelegate() {
+        return finishedRule.get();
+    }
+
     @Override
     public EvaluationResult evaluate(JavaClasses classes) {
         return finishedRule.get().evaluate(classes);
     }
 
+    @Override
+    public EvaluationResult evaluate(JavaClasses classes, EvaluationMode mode) {
+        return finishedRule.get().evaluate(classes, mode);
+    }
+
     @Override
     public void check(JavaClasses classes) {
         finishedRule.get().check(classes);
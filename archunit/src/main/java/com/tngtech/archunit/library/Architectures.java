@@ -15,16 +15,18 @@
  */
 package com.tngtech.archunit.library;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -33,20 +35,23 @@ import com.tngtech.archunit.base.PackageMatchers;
 import com.tngtech.archunit.core.domain.Dependency;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.CollectsLines;
+import com.tngtech.archunit.lang.ConditionEvent;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.EvaluationMode;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
 import com.tngtech.archunit.lang.syntax.PredicateAggregator;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependency;
-import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependencyOrigin;
-import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_PACKAGE;
 import static com.tngtech.archunit.core.domain.JavaClass.Predicates.equivalentTo;
 import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
-import static com.tngtech.archunit.lang.conditions.ArchConditions.onlyHaveDependentsWhere;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 import static java.lang.System.lineSeparator;
 import static java.util.Arrays.asList;
@@ -145,28 +150,14 @@ public final class Architectures {
 
         @Override
         public EvaluationResult evaluate(JavaClasses classes) {
-            EvaluationResult result = new EvaluationResult(this, Priority.MEDIUM);
-            for (LayerDependencySpecification specification : dependencySpecifications) {
-                SortedSet<String> packagesOfOwnLayer = packagesOf(specification.layerName);
-                SortedSet<String> packagesOfAllowedAccessors = packagesOf(specification.allowedAccessors);
-                packagesOfAllowedAccessors.addAll(packagesOfOwnLayer);
-
-                EvaluationResult partial = classes().that().resideInAnyPackage(toArray(packagesOfOwnLayer))
-                        .should(onlyHaveDependentsWhere(originPackageMatchesIfDependencyIsRelevant(packagesOfAllowedAccessors)))
-                        .evaluate(classes);
-
-                result.add(partial);
-            }
-            return result;
+            return evaluate(classes, EvaluationMode.full());
         }
 
-        private DescribedPredicate<Dependency> originPackageMatchesIfDependencyIsRelevant(SortedSet<String> packagesOfAllowedAccessors) {
-            DescribedPredicate<Dependency> originPackageMatches =
-                    dependencyOrigin(GET_PACKAGE.is(PackageMatchers.of(toArray(packagesOfAllowedAccessors))));
-
-            return irrelevantDependenciesPredicate.isPresent() ?
-                    originPackageMatches.or(irrelevantDependenciesPredicate.get()) :
-                    originPackageMatches;
+        @Override
+        public EvaluationResult evaluate(JavaClasses classes, EvaluationMode mode) {
+            EvaluationResult result = new EvaluationResult(this, Priority.MEDIUM);
+            result.add(classes().should(new LayerDependenciesCondition()).evaluate(classes, mode));
+            return result;
         }
 
         @Override
@@ -204,26 +195,151 @@ public final class Architectures {
                     irrelevantDependenciesPredicate.add(dependency(origin, target)), overriddenDescription);
         }
 
-        private String[] toArray(Set<String> strings) {
-            return strings.toArray(new String[strings.size()]);
+        @PublicAPI(usage = ACCESS)
+        public LayerDependencySpecification whereLayer(String name) {
+            checkArgument(layerDefinitions.containsKey(name), "There is no layer named '%s'", name);
+            return new LayerDependencySpecification(name);
         }
 
-        private SortedSet<String> packagesOf(String layerName) {
-            return packagesOf(Collections.singleton(layerName));
-        }
+        // NOTE: Instead of evaluating one rule per dependency specification, each scanning all classes and all dependencies
+        //       on them, we assign each class to its layers once, and then check each dependency on a class once against
+        //       the layers allowed to access the layers of that class
+        private final class LayerDependenciesCondition extends ArchCondition<JavaClass> {
+            private final List<LayerDefinition> layers = ImmutableList.copyOf(layerDefinitions.values());
+            private final List<LayerDependencySpecification> specifications = ImmutableList.copyOf(dependencySpecifications);
+            private final int[] restrictedLayerBySpecification = new int[specifications.size()];
+            private final BitSet[] allowedOriginLayersBySpecification = new BitSet[specifications.size()];
+            private final List<PackageMatchers> layerMatchers = new ArrayList<>();
+            // NOTE: Origins of dependencies are not necessarily part of the checked classes (e.g. if only some classes
+            //       are checked), so we resolve the layers of any class by its package, once per package
+            private final ConcurrentMap<String, BitSet> layersByPackage = new ConcurrentHashMap<>();
+
+            LayerDependenciesCondition() {
+                super("only be accessed by allowed layers");
+                for (LayerDefinition layer : layers) {
+                    layerMatchers.add(PackageMatchers.of(layer.packageIdentifiers.toArray(new String[0])));
+                }
+                for (int i = 0; i < specifications.size(); i++) {
+                    LayerDependencySpecification specification = specifications.get(i);
+                    restrictedLayerBySpecification[i] = indexOfLayer(specification.layerName);
+                    allowedOriginLayersBySpecification[i] = new BitSet();
+                    allowedOriginLayersBySpecification[i].set(restrictedLayerBySpecification[i]);
+                    for (String allowedAccessor : specification.allowedAccessors) {
+                        allowedOriginLayersBySpecification[i].set(indexOfLayer(allowedAccessor));
+                    }
+                }
+            }
+
+            private int indexOfLayer(String name) {
+                int result = ImmutableList.copyOf(layerDefinitions.keySet()).indexOf(name);
+                checkArgument(result >= 0, "There is no layer named '%s'", name);
+                return result;
+            }
+
+            @Override
+            public void check(JavaClass javaClass, ConditionEvents events) {
+                BitSet layersOfClass = layersOf(javaClass);
+                for (int i = 0; i < specifications.size(); i++) {
+                    if (layersOfClass.get(restrictedLayerBySpecification[i])) {
+                        checkDependenciesOn(javaClass, allowedOriginLayersBySpecification[i], events);
+                    }
+                }
+            }
+
+            private void checkDependenciesOn(JavaClass javaClass, BitSet allowedOriginLayers, ConditionEvents events) {
+                List<ConditionEvent> violations = new ArrayList<>();
+                for (Dependency dependency : javaClass.getDirectDependenciesToSelf()) {
+                    if (!layersOf(dependency.getOriginClass()).intersects(allowedOriginLayers) && !isIrrelevant(dependency)) {
+                        violations.add(SimpleConditionEvent.describedBy(dependency, false, dependency));
+                    }
+                }
+                if (!violations.isEmpty()) {
+                    events.add(new ViolatingDependentsEvent(violations));
+                }
+            }
+
+            private BitSet layersOf(JavaClass javaClass) {
+                BitSet result = layersByPackage.get(javaClass.getPackage());
+                if (result == null) {
+                    result = layersOf(javaClass.getPackage());
+                    layersByPackage.put(javaClass.getPackage(), result);
+                }
+                return result;
+            }
+
+            private BitSet layersOf(String aPackage) {
+                BitSet result = new BitSet();
+                for (int i = 0; i < layerMatchers.size(); i++) {
+                    if (layerMatchers.get(i).apply(aPackage)) {
+                        result.set(i);
+                    }
+                }
+                return result;
+            }
+
+            private boolean isIrrelevant(Dependency dependency) {
+                return irrelevantDependenciesPredicate.isPresent() && irrelevantDependenciesPredicate.get().apply(dependency);
+            }
 
-        private SortedSet<String> packagesOf(Set<String> allowedAccessorLayerNames) {
-            SortedSet<String> packageIdentifiers = new TreeSet<>();
-            for (String accessor : allowedAccessorLayerNames) {
-                packageIdentifiers.addAll(layerDefinitions.get(accessor).packageIdentifiers);
+            // NOTE: The only mutable state are the layers per package, which always resolve to equal values
+            @Override
+            public boolean canBeCheckedConcurrently() {
+                return true;
+            }
+
+            // NOTE: Only depends on the layers of the checked class and its direct dependents
+            @Override
+            public boolean canBeCheckedIncrementally() {
+                return true;
+            }
+
+            @Override
+            public boolean canBeSkipped() {
+                return true;
             }
-            return packageIdentifiers;
         }
 
-        @PublicAPI(usage = ACCESS)
-        public LayerDependencySpecification whereLayer(String name) {
-            checkArgument(layerDefinitions.containsKey(name), "There is no layer named '%s'", name);
-            return new LayerDependencySpecification(name);
+        /**
+         * All violating dependencies on a class of a restricted layer. Each class is reported by one event,
+         * which describes and handles every violating dependency on its own.
+         */
+        private static class ViolatingDependentsEvent implements ConditionEvent {
+            private final List<ConditionEvent> violations;
+
+            ViolatingDependentsEvent(List<ConditionEvent> violations) {
+                this.violations = violations;
+            }
+
+            @Override
+            public boolean isViolation() {
+                return true;
+            }
+
+            @Override
+            public void addInvertedTo(ConditionEvents events) {
+                for (ConditionEvent violation : violations) {
+                    violation.addInvertedTo(events);
+                }
+            }
+
+            @Override
+            public void describeTo(CollectsLines messages) {
+                for (ConditionEvent violation : violations) {
+                    violation.describeTo(messages);
+                }
+            }
+
+            @Override
+            public void handleWith(Handler handler) {
+                for (ConditionEvent violation : violations) {
+                    violation.handleWith(handler);
+                }
+            }
+
+            @Override
+            public String toString() {
+                return getClass().getSimpleName() + "{violations=" + violations + "}";
+            }
         }
 
         public final class LayerDefinition {
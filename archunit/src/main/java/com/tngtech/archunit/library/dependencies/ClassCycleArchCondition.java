@@ -0,0 +1,192 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.common.base.Joiner;
+import com.google.common.primitives.Ints;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.AffectedClasses;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ConditionEvent;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+
+class ClassCycleArchCondition extends ArchCondition<JavaClass> {
+    private static final String MESSAGE_TEMPLATE = "Cycle detected: %s%n%s";
+    private static final Comparator<JavaClass> BY_NAME = new Comparator<JavaClass>() {
+        @Override
+        public int compare(JavaClass first, JavaClass second) {
+            return first.getName().compareTo(second.getName());
+        }
+    };
+
+    private final DescribedPredicate<? super Dependency> ignoredDependencies;
+    private List<JavaClass> topLevelClasses;
+    private List<Set<JavaClass>> classesOfNodes;
+    private Map<JavaClass, Integer> nodes;
+    private List<Set<Integer>> successors;
+
+    ClassCycleArchCondition(String description, DescribedPredicate<? super Dependency> ignoredDependencies) {
+        super(description);
+        this.ignoredDependencies = ignoredDependencies;
+    }
+
+    // NOTE: A nested class and its enclosing class depend on each other by nature, e.g. via synthetic accessors,
+    //       so each node of the graph is a top level class together with all its nested classes under test.
+    //       The nodes are sorted by name, so the first node of each component is the one with the minimal name.
+    @Override
+    public void init(Iterable<JavaClass> allObjectsToTest) {
+        Map<JavaClass, Set<JavaClass>> classesByTopLevelClass = new TreeMap<>(BY_NAME);
+        for (JavaClass javaClass : allObjectsToTest) {
+            JavaClass topLevelClass = topLevelClassOf(javaClass);
+            if (!classesByTopLevelClass.containsKey(topLevelClass)) {
+                classesByTopLevelClass.put(topLevelClass, new LinkedHashSet<JavaClass>());
+            }
+            classesByTopLevelClass.get(topLevelClass).add(javaClass);
+        }
+        topLevelClasses = new ArrayList<>();
+        classesOfNodes = new ArrayList<>();
+        nodes = new IdentityHashMap<>();
+        successors = new ArrayList<>();
+        for (Map.Entry<JavaClass, Set<JavaClass>> entry : classesByTopLevelClass.entrySet()) {
+            nodes.put(entry.getKey(), topLevelClasses.size());
+            topLevelClasses.add(entry.getKey());
+            classesOfNodes.add(entry.getValue());
+            successors.add(new TreeSet<Integer>());
+        }
+    }
+
+    private static JavaClass topLevelClassOf(JavaClass javaClass) {
+        JavaClass result = javaClass;
+        while (result.getEnclosingClass().isPresent()) {
+            result = result.getEnclosingClass().get();
+        }
+        return result;
+    }
+
+    @Override
+    public void check(JavaClass javaClass, ConditionEvents events) {
+        Integer node = nodes.get(topLevelClassOf(javaClass));
+        if (node != null) {
+            addSuccessors(node, javaClass);
+        }
+    }
+
+    private void addSuccessors(int node, JavaClass javaClass) {
+        for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
+            Integer target = nodes.get(topLevelClassOf(dependency.getTargetClass()));
+            if (target != null && target != node && !ignoredDependencies.apply(dependency)) {
+                successors.get(node).add(target);
+            }
+        }
+    }
+
+    // NOTE: Every class on a cycle lies within a strongly connected component. Instead of enumerating all cycles,
+    //       which is exponential, we report one shortest cycle per component, which suffices to show each tangle.
+    //       Components not containing any affected class can't have changed, so we skip those.
+    @Override
+    public void finish(ConditionEvents events) {
+        IntGraph graph = new IntGraph(successorArrays());
+        AffectedClasses affectedClasses = events.getAffectedClasses();
+        int maxNumberOfReportedCycles = ArchConfiguration.get().getMaxNumberOfReportedCycles();
+        int numberOfReportedCycles = 0;
+        for (int[] component : graph.getComponentsWithCycles()) {
+            if (events.isViolationBudgetExhausted() || numberOfReportedCycles >= maxNumberOfReportedCycles) {
+                return;
+            }
+            if (affectedClasses.containAnyOf(nestedClassesOf(component))) {
+                events.add(newEvent(topLevelClassesOf(graph.getShortestCycleThroughFirstNodeOf(component))));
+                numberOfReportedCycles++;
+            }
+        }
+    }
+
+    private int[][] successorArrays() {
+        int[][] result = new int[successors.size()][];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Ints.toArray(successors.get(i));
+        }
+        return result;
+    }
+
+    private List<JavaClass> topLevelClassesOf(int[] nodes) {
+        List<JavaClass> result = new ArrayList<>(nodes.length);
+        for (int node : nodes) {
+            result.add(topLevelClasses.get(node));
+        }
+        return result;
+    }
+
+    private List<JavaClass> nestedClassesOf(int[] nodes) {
+        List<JavaClass> result = new ArrayList<>();
+        for (int node : nodes) {
+            result.addAll(classesOfNodes.get(node));
+        }
+        return result;
+    }
+
+    // NOTE: The description of a cycle contains the descriptions of all its dependencies,
+    //       so we only create it, if the violation is reported
+    private ConditionEvent newEvent(final List<JavaClass> cycle) {
+        return SimpleConditionEvent.describedBy(cycle, false, new HasDescription() {
+            @Override
+            public String getDescription() {
+                return describe(cycle);
+            }
+        });
+    }
+
+    private String describe(List<JavaClass> cycle) {
+        List<String> names = new ArrayList<>();
+        List<String> details = new ArrayList<>();
+        for (int i = 0; i < cycle.size(); i++) {
+            JavaClass origin = cycle.get(i);
+            JavaClass target = cycle.get((i + 1) % cycle.size());
+            names.add(origin.getName());
+            details.add(String.format("Dependencies of %s", origin.getName()));
+            details.addAll(CycleDetails.describeDependenciesOfEdge(dependenciesBetween(origin, target)));
+        }
+        names.add(names.get(0));
+        return String.format(MESSAGE_TEMPLATE, Joiner.on(" -> ").join(names), Joiner.on(System.lineSeparator()).join(details));
+    }
+
+    private Set<Dependency> dependenciesBetween(JavaClass origin, JavaClass target) {
+        Set<Dependency> result = new HashSet<>();
+        for (JavaClass originClass : classesOfNodes.get(nodes.get(origin))) {
+            for (Dependency dependency : originClass.getDirectDependenciesFromSelf()) {
+                if (topLevelClassOf(dependency.getTargetClass()) == target && !ignoredDependencies.apply(dependency)) {
+                    result.add(dependency);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.ArchCondition;
+
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.base.DescribedPredicate.alwaysFalse;
+
+/**
+ * Conditions to check classes for cyclic dependencies between each other, e.g.
+ * <pre><code>
+ * classes().that().resideInAPackage("..myapp..").should(beFreeOfCycles())
+ * </code></pre>
+ * All classes within a cycle are mutually dependent, thus cycles are detected as strongly connected components
+ * of the dependencies between the classes under test. For each such component one shortest cycle is reported,
+ * at most {@link com.tngtech.archunit.ArchConfiguration#getMaxNumberOfReportedCycles()} cycles per rule.<br>
+ * Nested classes are considered part of their top level class, i.e. dependencies between a class and its nested classes
+ * never form a cycle, and cycles through nested classes are reported as cycles between their top level classes.
+ */
+public final class CycleConditions {
+    private CycleConditions() {
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public static ArchCondition<JavaClass> beFreeOfCycles() {
+        return new ClassCycleArchCondition("be free of cycles", alwaysFalse());
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public static ArchCondition<JavaClass> beFreeOfCyclesIgnoring(DescribedPredicate<? super Dependency> ignoredDependencies) {
+        return new ClassCycleArchCondition(
+                "be free of cycles ignoring " + ignoredDependencies.getDescription(), ignoredDependencies);
+    }
+}
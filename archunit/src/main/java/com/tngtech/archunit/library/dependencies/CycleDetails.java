@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.Dependency;
+
+class CycleDetails {
+    private CycleDetails() {
+    }
+
+    /**
+     * @return the sorted descriptions of the dependencies of one edge of a cycle, limited to
+     * {@link ArchConfiguration#getMaxNumberOfReportedDependenciesPerEdge()} lines, followed by the number of omitted dependencies
+     */
+    static List<String> describeDependenciesOfEdge(Collection<Dependency> dependencies) {
+        int maxNumberOfDependencies = ArchConfiguration.get().getMaxNumberOfReportedDependenciesPerEdge();
+        TreeSet<Dependency> sortedDependencies = new TreeSet<>(dependencies);
+        List<String> result = new ArrayList<>();
+        for (Dependency dependency : sortedDependencies) {
+            if (result.size() >= maxNumberOfDependencies) {
+                result.add(String.format("(%d further dependencies omitted)", sortedDependencies.size() - maxNumberOfDependencies));
+                break;
+            }
+            result.add(dependency.getDescription());
+        }
+        return result;
+    }
+}
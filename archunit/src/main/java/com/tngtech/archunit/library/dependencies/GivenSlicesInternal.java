@@ -15,6 +15,9 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.Dependency;
@@ -29,6 +32,7 @@ import com.tngtech.archunit.library.dependencies.syntax.GivenSlicesConjunction;
 import com.tngtech.archunit.library.dependencies.syntax.SlicesShould;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Iterables.addAll;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.Guava.Iterables.filter;
 
@@ -108,15 +112,42 @@ class GivenSlicesInternal implements GivenSlices, SlicesShould, GivenSlicesConju
 
     private ArchCondition<Slice> notDependOnEachOther(final Slices.Transformer inputTransformer, final DescribedPredicate<Dependency> predicate) {
         return new ArchCondition<Slice>("not depend on each other") {
+            private SliceDependencyMatrix dependencyMatrix;
+
+            // NOTE: Targets outside of the slices under test (e.g. not imported or not matching that(..)) violate the rule
+            //       as well, thus the targets are sliced from the dependencies of all slices under test at once
+            @Override
+            public void init(Iterable<Slice> allObjectsToTest) {
+                Set<Dependency> relevantDependencies = new HashSet<>();
+                for (Slice slice : allObjectsToTest) {
+                    addAll(relevantDependencies, filter(slice.getDependencies(), predicate));
+                }
+                Slices targets = inputTransformer.transform(relevantDependencies);
+                dependencyMatrix = SliceDependencyMatrix.of(allObjectsToTest, targets, predicate);
+            }
+
             @Override
             public void check(Slice slice, ConditionEvents events) {
-                Iterable<Dependency> relevantDependencies = filter(slice.getDependencies(), predicate);
-                Slices dependencySlices = inputTransformer.transform(relevantDependencies);
-                for (Slice dependencySlice : dependencySlices) {
-                    SliceDependency dependency = SliceDependency.of(slice, relevantDependencies, dependencySlice);
-                    events.add(SimpleConditionEvent.violated(dependency, dependency.getDescription()));
+                for (Slice dependencySlice : dependencyMatrix.getTargetsOf(slice)) {
+                    SliceDependency dependency = SliceDependency.of(slice, dependencyMatrix.getDependencies(slice, dependencySlice), dependencySlice);
+                    events.add(SimpleConditionEvent.describedBy(dependency, false, dependency));
                 }
             }
+
+            @Override
+            public boolean canBeCheckedConcurrently() {
+                return true;
+            }
+
+            @Override
+            public boolean canBeCheckedIncrementally() {
+                return true;
+            }
+
+            @Override
+            public boolean canBeSkipped() {
+                return true;
+            }
         };
     }
 }
@@ -15,29 +15,34 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
-import java.util.Collection;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
+import com.google.common.primitives.Ints;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.Collections.singleton;
 
 class Graph<T, ATTACHMENT> {
-    private final Set<T> nodes = new HashSet<>();
+    private final Set<T> nodes = new LinkedHashSet<>();
     private final Multimap<T, Edge<T, ATTACHMENT>> outgoingEdges = HashMultimap.create();
-    private final Set<Cycle<T, ATTACHMENT>> cycles = new HashSet<>();
 
     void add(T node, Set<Edge<T, ATTACHMENT>> connectingEdges) {
         nodes.add(checkNotNull(node));
         for (Edge<T, ATTACHMENT> edge : connectingEdges) {
             addEdge(edge);
         }
-        cycles.addAll(cyclesThrough(node));
     }
 
     private void addEdge(Edge<T, ATTACHMENT> edge) {
@@ -47,38 +52,30 @@ class Graph<T, ATTACHMENT> {
     }
 
     Set<Cycle<T, ATTACHMENT>> getCycles() {
-        return ImmutableSet.copyOf(cycles);
+        return getCyclesThrough(nodes);
     }
 
-    private Set<Cycle<T, ATTACHMENT>> cyclesThrough(T node) {
-        Set<Cycle<T, ATTACHMENT>> result = new HashSet<>();
-        for (Path<T, ATTACHMENT> pathThroughNode : follow(outgoingEdges.get(node), new Path<T, ATTACHMENT>(), singleton(node))) {
-            if (pathThroughNode.isCycle()) {
-                result.add(Cycle.from(pathThroughNode));
-            }
-        }
-        return result;
-    }
-
-    private Set<Path<T, ATTACHMENT>> follow(Collection<Edge<T, ATTACHMENT>> edges, Path<T, ATTACHMENT> incomingPath, Set<T> visitedNodes) {
-        Set<Path<T, ATTACHMENT>> result = new HashSet<>();
-        for (Edge<T, ATTACHMENT> edge : edges) {
-            result.addAll(follow(edge, incomingPath, visitedNodes));
-        }
-        return result;
+    /**
+     * @return all cycles passing at least one of the supplied nodes
+     */
+    Set<Cycle<T, ATTACHMENT>> getCyclesThrough(Iterable<T> startNodes) {
+        return ImmutableSet.copyOf(findCyclesThrough(startNodes));
     }
 
-    private Set<Path<T, ATTACHMENT>> follow(Edge<T, ATTACHMENT> edge, Path<T, ATTACHMENT> incomingPath, Set<T> visitedNodes) {
-        Path<T, ATTACHMENT> newPath = new Path<>(incomingPath).append(edge);
-        if (visitedNodes.contains(newPath.getEnd())) {
-            return singleton(newPath);
-        }
-        Set<T> nowVisited = union(visitedNodes, edge.getTo());
-        return follow(outgoingEdges.get(edge.getTo()), newPath, nowVisited);
-    }
-
-    private Set<T> union(Set<T> set, T additionalElement) {
-        return ImmutableSet.<T>builder().addAll(set).add(additionalElement).build();
+    /**
+     * Like {@link #getCyclesThrough(Iterable)}, but instead of collecting all cycles upfront, each cycle is
+     * only searched for, once the previous one has been consumed. Thus callers can stop at any time,
+     * and at no time more than the current path has to be kept.
+     *
+     * @return all cycles passing at least one of the supplied nodes, found one after another
+     */
+    Iterable<Cycle<T, ATTACHMENT>> findCyclesThrough(final Iterable<T> startNodes) {
+        return new Iterable<Cycle<T, ATTACHMENT>>() {
+            @Override
+            public Iterator<Cycle<T, ATTACHMENT>> iterator() {
+                return new CycleIterator(startNodes.iterator());
+            }
+        };
     }
 
     @Override
@@ -88,4 +85,121 @@ class Graph<T, ATTACHMENT> {
                 ", edges=" + outgoingEdges.values() +
                 '}';
     }
+
+    // NOTE: Once all cycles through a node are known, we don't follow any edges to that node anymore,
+    //       thus each cycle is only detected once, starting from the first of its nodes.
+    //       Since every cycle lies within a strongly connected component, we never leave the component of the start node,
+    //       which spares following all the paths that can't lead back anyway.
+    private class CycleIterator extends AbstractIterator<Cycle<T, ATTACHMENT>> {
+        private static final int NO_COMPONENT = -1;
+
+        private final Iterator<T> startNodes;
+        private final Map<T, Integer> indexes = new HashMap<>();
+        private final List<List<Edge<T, ATTACHMENT>>> edgesByNode = new ArrayList<>();
+        private final int[][] successors;
+        private final int[] componentOf;
+        private final boolean[] completed;
+        private final boolean[] onPath;
+        private final int[] path;
+        private final int[] nextEdge;
+        private int depth = 0;
+        private int start = -1;
+
+        CycleIterator(Iterator<T> startNodes) {
+            this.startNodes = startNodes;
+            for (T node : nodes) {
+                indexes.put(node, indexes.size());
+                edgesByNode.add(ImmutableList.copyOf(outgoingEdges.get(node)));
+            }
+            successors = new int[nodes.size()][];
+            for (int i = 0; i < successors.length; i++) {
+                successors[i] = indexesOfTargets(edgesByNode.get(i));
+            }
+            componentOf = componentsOf(successors);
+            completed = new boolean[nodes.size()];
+            onPath = new boolean[nodes.size()];
+            path = new int[nodes.size()];
+            nextEdge = new int[nodes.size()];
+        }
+
+        private int[] indexesOfTargets(List<Edge<T, ATTACHMENT>> edges) {
+            int[] result = new int[edges.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = indexes.get(edges.get(i).getTo());
+            }
+            return result;
+        }
+
+        private int[] componentsOf(int[][] successors) {
+            int[] result = new int[successors.length];
+            Arrays.fill(result, NO_COMPONENT);
+            List<int[]> components = new IntGraph(successors).getComponentsWithCycles();
+            for (int component = 0; component < components.size(); component++) {
+                for (int node : components.get(component)) {
+                    result[node] = component;
+                }
+            }
+            int nextComponent = components.size();
+            for (int node = 0; node < successors.length; node++) {
+                if (result[node] == NO_COMPONENT && Ints.contains(successors[node], node)) {
+                    result[node] = nextComponent++;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        protected Cycle<T, ATTACHMENT> computeNext() {
+            while (depth > 0 || nextStart()) {
+                int node = path[depth - 1];
+                if (nextEdge[depth - 1] >= successors[node].length) {
+                    pop();
+                    continue;
+                }
+                int target = successors[node][nextEdge[depth - 1]++];
+                if (target == start) {
+                    return currentCycle();
+                }
+                if (!completed[target] && !onPath[target] && componentOf[target] == componentOf[start]) {
+                    push(target);
+                }
+            }
+            return endOfData();
+        }
+
+        private boolean nextStart() {
+            if (start >= 0) {
+                completed[start] = true;
+            }
+            while (startNodes.hasNext()) {
+                Integer candidate = indexes.get(startNodes.next());
+                if (candidate != null && !completed[candidate] && componentOf[candidate] != NO_COMPONENT) {
+                    start = candidate;
+                    push(start);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void push(int node) {
+            path[depth] = node;
+            nextEdge[depth] = 0;
+            onPath[node] = true;
+            depth++;
+        }
+
+        private void pop() {
+            depth--;
+            onPath[path[depth]] = false;
+        }
+
+        private Cycle<T, ATTACHMENT> currentCycle() {
+            List<Edge<T, ATTACHMENT>> edges = new ArrayList<>(depth);
+            for (int i = 0; i < depth; i++) {
+                edges.add(edgesByNode.get(path[i]).get(nextEdge[i] - 1));
+            }
+            return new Cycle<>(edges);
+        }
+    }
 }
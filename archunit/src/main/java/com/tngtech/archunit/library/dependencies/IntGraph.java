@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A directed graph of the nodes {@code 0..n-1}, where {@code successors[i]} contains the targets of all edges from node {@code i}.
+ * In contrast to {@link Graph}, this graph does not enumerate all cycles, but only finds the strongly connected components
+ * (i.e. the maximal sets of nodes, where each node can reach each other node) in linear time and one shortest cycle
+ * within a component on demand.
+ */
+class IntGraph {
+    private static final int UNVISITED = -1;
+    private static final Comparator<int[]> BY_FIRST_NODE = new Comparator<int[]>() {
+        @Override
+        public int compare(int[] first, int[] second) {
+            return Integer.compare(first[0], second[0]);
+        }
+    };
+
+    private final int[][] successors;
+
+    IntGraph(int[][] successors) {
+        for (int[] targets : successors) {
+            for (int target : targets) {
+                checkArgument(target >= 0 && target < successors.length, "Target %s of edge is not part of the graph", target);
+            }
+        }
+        this.successors = successors;
+    }
+
+    /**
+     * @return all strongly connected components consisting of more than one node, i.e. containing cycles.
+     * The nodes of each component are sorted ascending, the components are sorted by their first node.
+     */
+    // NOTE: This is Tarjan's algorithm, we keep our own call stack, since recursion would overflow the stack for large graphs
+    List<int[]> getComponentsWithCycles() {
+        int numberOfNodes = successors.length;
+        int[] index = new int[numberOfNodes];
+        Arrays.fill(index, UNVISITED);
+        int[] lowLink = new int[numberOfNodes];
+        boolean[] onStack = new boolean[numberOfNodes];
+        int[] stack = new int[numberOfNodes];
+        int stackSize = 0;
+        int[] callStack = new int[numberOfNodes];
+        int[] nextSuccessor = new int[numberOfNodes];
+        int nextIndex = 0;
+
+        List<int[]> result = new ArrayList<>();
+        for (int start = 0; start < numberOfNodes; start++) {
+            if (index[start] != UNVISITED) {
+                continue;
+            }
+            int depth = 0;
+            callStack[depth++] = start;
+            index[start] = lowLink[start] = nextIndex++;
+            stack[stackSize++] = start;
+            onStack[start] = true;
+            nextSuccessor[start] = 0;
+
+            while (depth > 0) {
+                int node = callStack[depth - 1];
+                if (nextSuccessor[node] < successors[node].length) {
+                    int target = successors[node][nextSuccessor[node]++];
+                    if (index[target] == UNVISITED) {
+                        callStack[depth++] = target;
+                        index[target] = lowLink[target] = nextIndex++;
+                        stack[stackSize++] = target;
+                        onStack[target] = true;
+                        nextSuccessor[target] = 0;
+                    } else if (onStack[target]) {
+                        lowLink[node] = Math.min(lowLink[node], index[target]);
+                    }
+                    continue;
+                }
+
+                depth--;
+                if (depth > 0) {
+                    int caller = callStack[depth - 1];
+                    lowLink[caller] = Math.min(lowLink[caller], lowLink[node]);
+                }
+                if (lowLink[node] == index[node]) {
+                    int componentStart = stackSize;
+                    do {
+                        onStack[stack[--componentStart]] = false;
+                    } while (stack[componentStart] != node);
+                    if (stackSize - componentStart > 1) {
+                        int[] component = Arrays.copyOfRange(stack, componentStart, stackSize);
+                        Arrays.sort(component);
+                        result.add(component);
+                    }
+                    stackSize = componentStart;
+                }
+            }
+        }
+        Collections.sort(result, BY_FIRST_NODE);
+        return result;
+    }
+
+    /**
+     * @param component a strongly connected component as returned by {@link #getComponentsWithCycles()}
+     * @return the nodes of a shortest cycle through the first node of the component, starting with this node
+     * (i.e. the last node has an edge back to the first node)
+     */
+    // NOTE: A breadth first search from the start node within the component finds the shortest way back to the start node
+    int[] getShortestCycleThroughFirstNodeOf(int[] component) {
+        int start = component[0];
+        int[] predecessorPositions = new int[component.length];
+        Arrays.fill(predecessorPositions, UNVISITED);
+        int[] queue = new int[component.length];
+        int queueStart = 0;
+        int queueEnd = 0;
+        queue[queueEnd++] = 0;
+        while (queueStart < queueEnd) {
+            int position = queue[queueStart++];
+            for (int target : successors[component[position]]) {
+                int targetPosition = Arrays.binarySearch(component, target);
+                if (targetPosition == 0) {
+                    return pathTo(position, predecessorPositions, component);
+                }
+                if (targetPosition > 0 && predecessorPositions[targetPosition] == UNVISITED) {
+                    predecessorPositions[targetPosition] = position;
+                    queue[queueEnd++] = targetPosition;
+                }
+            }
+        }
+        throw new IllegalArgumentException(String.format("Node %d is not part of any cycle within %s", start, Arrays.toString(component)));
+    }
+
+    private int[] pathTo(int endPosition, int[] predecessorPositions, int[] component) {
+        int length = 1;
+        for (int position = endPosition; position != 0; position = predecessorPositions[position]) {
+            length++;
+        }
+        int[] result = new int[length];
+        for (int position = endPosition; length > 0; position = predecessorPositions[position]) {
+            result[--length] = component[position];
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "IntGraph{successors=" + Arrays.deepToString(successors) + '}';
+    }
+}
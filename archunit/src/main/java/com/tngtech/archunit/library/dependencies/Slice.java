@@ -36,11 +36,19 @@ public final class Slice extends ForwardingSet<JavaClass> implements HasDescript
     private final List<String> matchingGroups;
     private Description description;
     private final Set<JavaClass> classes;
+    private final SliceAssignment assignment;
+    private final int sliceId;
 
-    private Slice(List<String> matchingGroups, Set<JavaClass> classes) {
+    private Slice(SliceAssignment assignment, int sliceId, List<String> matchingGroups, Set<JavaClass> classes) {
         this.matchingGroups = matchingGroups;
         this.description = new Description("Slice " + Joiner.on(" - ").join(ascendingCaptures(matchingGroups)));
         this.classes = ImmutableSet.copyOf(classes);
+        this.assignment = assignment;
+        this.sliceId = sliceId;
+    }
+
+    static Slice assigned(SliceAssignment assignment, int sliceId, List<String> matchingGroups, ImmutableSet<JavaClass> classes) {
+        return new Slice(assignment, sliceId, matchingGroups, classes);
     }
 
     private List<String> ascendingCaptures(List<String> matchingGroups) {
@@ -89,6 +97,17 @@ public final class Slice extends ForwardingSet<JavaClass> implements HasDescript
         return result;
     }
 
+    /**
+     * @return The {@link SliceAssignment} this slice was created from
+     */
+    SliceAssignment getAssignment() {
+        return assignment;
+    }
+
+    int getSliceId() {
+        return sliceId;
+    }
+
     @Override
     public String toString() {
         return getDescription();
@@ -123,26 +142,4 @@ public final class Slice extends ForwardingSet<JavaClass> implements HasDescript
             return result;
         }
     }
-
-    static class Builder {
-        private final List<String> matchingGroups;
-        private final Set<JavaClass> classes = new HashSet<>();
-
-        private Builder(List<String> matchingGroups) {
-            this.matchingGroups = matchingGroups;
-        }
-
-        static Builder from(List<String> matchingGroups) {
-            return new Builder(matchingGroups);
-        }
-
-        Builder addClass(JavaClass clazz) {
-            classes.add(clazz);
-            return this;
-        }
-
-        Slice build() {
-            return new Slice(matchingGroups, classes);
-        }
-    }
 }
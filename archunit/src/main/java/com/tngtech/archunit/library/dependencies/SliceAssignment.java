@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.base.PackageMatcher;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import static com.tngtech.archunit.base.PackageMatcher.TO_GROUPS;
+
+/**
+ * Assigns each of some {@link JavaClasses} to the slice its package matches according to a package identifier
+ * (compare {@link Slices#matching(String)}). Slices are numbered by the order they first occur, and the slice id of
+ * each class is kept in a single map by class.<br>
+ * Since all classes of a package belong to the same slice, each package is only matched once. The assignment is
+ * computed once per {@link JavaClasses} and package identifier and shared by all rules on those slices.
+ */
+class SliceAssignment {
+    static final int NO_SLICE = -1;
+
+    // NOTE: Weak keys are compared by identity and don't keep discarded imports alive
+    private static final ConcurrentMap<JavaClasses, ConcurrentMap<String, SliceAssignment>> cache = new MapMaker().weakKeys().makeMap();
+
+    private final PackageMatcher packageMatcher;
+    private final ConcurrentMap<String, Optional<List<String>>> matchingGroupsByPackage = new ConcurrentHashMap<>();
+    // NOTE: JavaClass doesn't override equals, so identity gives the same result without calling hashCode()
+    private final Map<JavaClass, Integer> sliceIdByClass = new IdentityHashMap<>();
+    private final List<List<String>> matchingGroupsBySliceId;
+    private final List<ImmutableSet<JavaClass>> classesBySliceId;
+
+    private SliceAssignment(JavaClasses classes, String packageIdentifier) {
+        packageMatcher = PackageMatcher.of(packageIdentifier);
+        Map<List<String>, Integer> sliceIdsByMatchingGroups = new LinkedHashMap<>();
+        List<ImmutableSet.Builder<JavaClass>> classesOfSlices = new ArrayList<>();
+        for (JavaClass javaClass : classes) {
+            Optional<List<String>> matchingGroups = matchingGroupsOf(javaClass.getPackage());
+            if (!matchingGroups.isPresent()) {
+                continue;
+            }
+            if (!sliceIdsByMatchingGroups.containsKey(matchingGroups.get())) {
+                sliceIdsByMatchingGroups.put(matchingGroups.get(), classesOfSlices.size());
+                classesOfSlices.add(ImmutableSet.<JavaClass>builder());
+            }
+            int sliceId = sliceIdsByMatchingGroups.get(matchingGroups.get());
+            classesOfSlices.get(sliceId).add(javaClass);
+            sliceIdByClass.put(javaClass, sliceId);
+        }
+        matchingGroupsBySliceId = ImmutableList.copyOf(sliceIdsByMatchingGroups.keySet());
+        classesBySliceId = build(classesOfSlices);
+    }
+
+    private static List<ImmutableSet<JavaClass>> build(List<ImmutableSet.Builder<JavaClass>> builders) {
+        ImmutableList.Builder<ImmutableSet<JavaClass>> result = ImmutableList.builder();
+        for (ImmutableSet.Builder<JavaClass> builder : builders) {
+            result.add(builder.build());
+        }
+        return result.build();
+    }
+
+    static SliceAssignment of(JavaClasses classes, String packageIdentifier) {
+        ConcurrentMap<String, SliceAssignment> assignmentsOfClasses = cache.get(classes);
+        if (assignmentsOfClasses == null) {
+            cache.putIfAbsent(classes, new ConcurrentHashMap<String, SliceAssignment>());
+            assignmentsOfClasses = cache.get(classes);
+        }
+        SliceAssignment result = assignmentsOfClasses.get(packageIdentifier);
+        if (result == null) {
+            assignmentsOfClasses.putIfAbsent(packageIdentifier, new SliceAssignment(classes, packageIdentifier));
+            result = assignmentsOfClasses.get(packageIdentifier);
+        }
+        return result;
+    }
+
+    int getNumberOfSlices() {
+        return classesBySliceId.size();
+    }
+
+    /**
+     * @return The id of the slice the class is assigned to, or {@link #NO_SLICE}, if the class is not part of the
+     * assigned {@link JavaClasses}, or its package doesn't match
+     */
+    int getSliceIdOf(JavaClass javaClass) {
+        Integer sliceId = sliceIdByClass.get(javaClass);
+        return sliceId != null ? sliceId : NO_SLICE;
+    }
+
+    /**
+     * @return The groups the package identifier captures from the package, if it matches. Packages of classes outside
+     * of the assigned {@link JavaClasses} (e.g. targets of dependencies) are matched on demand and remembered as well.
+     */
+    Optional<List<String>> matchingGroupsOf(String packageName) {
+        Optional<List<String>> result = matchingGroupsByPackage.get(packageName);
+        if (result == null) {
+            result = packageMatcher.match(packageName).transform(TO_GROUPS);
+            matchingGroupsByPackage.put(packageName, result);
+        }
+        return result;
+    }
+
+    /**
+     * @return A new {@link Slice} for each slice id; since slices can be renamed, they can't be shared between rules
+     */
+    List<Slice> createSlices() {
+        List<Slice> result = new ArrayList<>();
+        for (int sliceId = 0; sliceId < getNumberOfSlices(); sliceId++) {
+            result.add(Slice.assigned(this, sliceId, matchingGroupsBySliceId.get(sliceId), classesBySliceId.get(sliceId)));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{packageMatcher=" + packageMatcher + ", slices=" + matchingGroupsBySliceId + '}';
+    }
+}
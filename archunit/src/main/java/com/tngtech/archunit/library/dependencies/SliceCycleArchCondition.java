@@ -16,37 +16,32 @@
 package com.tngtech.archunit.library.dependencies;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
-import com.google.common.collect.ForwardingSet;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Ordering;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.DescribedPredicate;
-import com.tngtech.archunit.base.Guava;
+import com.tngtech.archunit.base.HasDescription;
 import com.tngtech.archunit.core.domain.Dependency;
-import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.lang.AffectedClasses;
 import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ConditionEvent;
 import com.tngtech.archunit.lang.ConditionEvents;
 import com.tngtech.archunit.lang.SimpleConditionEvent;
 
 class SliceCycleArchCondition extends ArchCondition<Slice> {
-    private final ClassesToSlicesMapping classesToSlicesMapping = new ClassesToSlicesMapping();
     private final DescribedPredicate<Dependency> predicate;
+    private SliceDependencyMatrix dependencyMatrix;
     private DependencyGraph graph;
-    private final EventRecorder eventRecorder = new EventRecorder();
+    private EventRecorder eventRecorder;
     private Iterable<Slice> allObjectsToTest;
 
     SliceCycleArchCondition(DescribedPredicate<Dependency> predicate) {
@@ -57,92 +52,68 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
     @Override
     public void init(Iterable<Slice> allObjectsToTest) {
         this.allObjectsToTest = allObjectsToTest;
+        dependencyMatrix = SliceDependencyMatrix.of(allObjectsToTest, predicate);
+        eventRecorder = new EventRecorder(dependencyMatrix);
         initGraph();
     }
 
     @Override
     public void check(Slice slice, ConditionEvents events) {
-        graph.add(slice, SliceDependencies.of(slice, classesToSlicesMapping, predicate));
+        graph.add(slice, edgesFrom(slice));
     }
 
+    // NOTE: Cycles not passing any affected slice can't have changed, so we only search for cycles through affected slices.
+    //       The number of cycles can grow exponentially, thus we add each cycle to the events as soon as it is found,
+    //       instead of collecting all cycles first, and stop searching, once the configured number of cycles has been reported.
+    //       The events are passed to ViolationHandlers by the EvaluationResult, i.e. only after the evaluation has finished.
     @Override
     public void finish(ConditionEvents events) {
-        for (Cycle<Slice, Dependency> cycle : graph.getCycles()) {
+        int maxNumberOfReportedCycles = ArchConfiguration.get().getMaxNumberOfReportedCycles();
+        int numberOfReportedCycles = 0;
+        for (Cycle<Slice, Dependency> cycle : graph.findCyclesThrough(affectedSlices(events.getAffectedClasses()))) {
+            if (events.isViolationBudgetExhausted() || numberOfReportedCycles >= maxNumberOfReportedCycles) {
+                return;
+            }
             eventRecorder.record(cycle, events);
+            numberOfReportedCycles++;
         }
     }
 
-    private void initGraph() {
-        if (graph != null) {
-            return;
-        }
-
-        graph = new DependencyGraph();
-        for (Slice slice : allObjectsToTest) {
-            graph.add(slice, Collections.<Edge<Slice, Dependency>>emptySet());
+    // NOTE: The edges don't carry the dependencies, these are only collected from the matrix if a cycle is reported
+    private Set<Edge<Slice, Dependency>> edgesFrom(Slice slice) {
+        ImmutableSet.Builder<Edge<Slice, Dependency>> result = ImmutableSet.builder();
+        for (Slice target : dependencyMatrix.getTargetsOf(slice)) {
+            result.add(new Edge<Slice, Dependency>(slice, target));
         }
+        return result.build();
     }
 
-    private class ClassesToSlicesMapping {
-        private Map<JavaClass, Slice> mapping;
-
-        public Slice get(JavaClass javaClass) {
-            return mapping().get(javaClass);
+    private Iterable<Slice> affectedSlices(AffectedClasses affectedClasses) {
+        if (affectedClasses.isAll()) {
+            return allObjectsToTest;
         }
-
-        private Map<JavaClass, Slice> mapping() {
-            if (mapping != null) {
-                return mapping;
-            }
-            ImmutableMap.Builder<JavaClass, Slice> result = ImmutableMap.builder();
-            for (Slice slice : allObjectsToTest) {
-                for (JavaClass javaClass : slice) {
-                    result.put(javaClass, slice);
-                }
+        List<Slice> result = new ArrayList<>();
+        for (Slice slice : allObjectsToTest) {
+            if (affectedClasses.containAnyOf(slice)) {
+                result.add(slice);
             }
-            return mapping = result.build();
-        }
-
-        public boolean containsKey(JavaClass javaClass) {
-            return mapping().containsKey(javaClass);
         }
+        return result;
     }
 
-    private static class DependencyGraph extends Graph<Slice, Dependency> {
-
-    }
-
-    private static class SliceDependencies extends ForwardingSet<Edge<Slice, Dependency>> {
-        private final Set<Edge<Slice, Dependency>> edges;
-
-        private SliceDependencies(Slice slice, ClassesToSlicesMapping classesToSlicesMapping, DescribedPredicate<Dependency> predicate) {
-            Multimap<Slice, Dependency> targetSlicesWithDependencies = targetsOf(slice, classesToSlicesMapping, predicate);
-            ImmutableSet.Builder<Edge<Slice, Dependency>> edgeBuilder = ImmutableSet.builder();
-            for (Map.Entry<Slice, Collection<Dependency>> entry : targetSlicesWithDependencies.asMap().entrySet()) {
-                edgeBuilder.add(new Edge<>(slice, entry.getKey(), entry.getValue()));
-            }
-            this.edges = edgeBuilder.build();
+    private void initGraph() {
+        if (graph != null) {
+            return;
         }
 
-        private Multimap<Slice, Dependency> targetsOf(Slice slice,
-                ClassesToSlicesMapping classesToSlicesMapping, DescribedPredicate<Dependency> predicate) {
-            Multimap<Slice, Dependency> result = HashMultimap.create();
-            for (Dependency dependency : Guava.Iterables.filter(slice.getDependencies(), predicate)) {
-                if (classesToSlicesMapping.containsKey(dependency.getTargetClass())) {
-                    result.put(classesToSlicesMapping.get(dependency.getTargetClass()), dependency);
-                }
-            }
-            return result;
+        graph = new DependencyGraph();
+        for (Slice slice : allObjectsToTest) {
+            graph.add(slice, Collections.<Edge<Slice, Dependency>>emptySet());
         }
+    }
 
-        @Override
-        protected Set<Edge<Slice, Dependency>> delegate() {
-            return edges;
-        }
+    private static class DependencyGraph extends Graph<Slice, Dependency> {
 
-        static SliceDependencies of(Slice slice, ClassesToSlicesMapping classesToSlicesMapping, DescribedPredicate<Dependency> predicate) {
-            return new SliceDependencies(slice, classesToSlicesMapping, predicate);
-        }
     }
 
     private static class EventRecorder {
@@ -154,17 +125,32 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
             }
         };
 
+        private final SliceDependencyMatrix dependencyMatrix;
+
+        EventRecorder(SliceDependencyMatrix dependencyMatrix) {
+            this.dependencyMatrix = dependencyMatrix;
+        }
+
         void record(Cycle<Slice, Dependency> cycle, ConditionEvents events) {
             events.add(newEvent(cycle));
         }
 
-        private ConditionEvent newEvent(Cycle<Slice, Dependency> cycle) {
+        // NOTE: The description of a cycle contains the descriptions of all its dependencies,
+        //       so we only create it, if the violation is reported
+        private ConditionEvent newEvent(final Cycle<Slice, Dependency> cycle) {
+            return SimpleConditionEvent.describedBy(cycle, false, new HasDescription() {
+                @Override
+                public String getDescription() {
+                    return describe(cycle);
+                }
+            });
+        }
+
+        private String describe(Cycle<Slice, Dependency> cycle) {
             Map<String, Edge<Slice, Dependency>> descriptionsToEdges = sortEdgesByDescription(cycle);
             String description = createDescription(descriptionsToEdges);
             String details = createDetails(descriptionsToEdges);
-            return new SimpleConditionEvent(cycle,
-                    false,
-                    String.format(MESSAGE_TEMPLATE, description, details));
+            return String.format(MESSAGE_TEMPLATE, description, details);
         }
 
         private Map<String, Edge<Slice, Dependency>> sortEdgesByDescription(Cycle<Slice, Dependency> cycle) {
@@ -190,17 +176,13 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
             List<String> details = new ArrayList<>();
             for (Map.Entry<String, Edge<Slice, Dependency>> edgeWithDescription : descriptionsToEdges.entrySet()) {
                 details.add(String.format("Dependencies of %s", edgeWithDescription.getKey()));
-                details.addAll(dependenciesDescription(edgeWithDescription));
+                details.addAll(CycleDetails.describeDependenciesOfEdge(dependenciesOf(edgeWithDescription.getValue())));
             }
             return Joiner.on(System.lineSeparator()).join(details);
         }
 
-        private List<String> dependenciesDescription(Map.Entry<String, Edge<Slice, Dependency>> edgeWithDescription) {
-            List<String> result = new ArrayList<>();
-            for (Dependency dependency : new TreeSet<>(edgeWithDescription.getValue().getAttachments())) {
-                result.add(dependency.getDescription());
-            }
-            return result;
+        private Set<Dependency> dependenciesOf(Edge<Slice, Dependency> edge) {
+            return dependencyMatrix.getDependencies(edge.getFrom(), edge.getTo());
         }
     }
 }
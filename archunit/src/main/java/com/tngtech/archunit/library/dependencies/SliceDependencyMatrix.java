@@ -0,0 +1,273 @@
+/*
+ * Copyright 2018 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClass;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * The dependencies between some {@link Slice slices}, e.g. to judge the dependency structure of a code base.
+ * For each pair of an origin and a different target slice, the matrix knows the number of
+ * {@link Dependency dependencies} from classes of the origin to classes of the target. Dependencies on
+ * classes that are not part of any of the slices are not considered. Equal slices, i.e. slices of the same classes,
+ * are only considered once.<br>
+ * The matrix is computed in a single pass over the dependencies of all slices and only keeps the number
+ * of dependencies per pair of slices. The dependencies themselves are collected on demand by
+ * {@link #getDependencies(Slice, Slice)}.
+ */
+public final class SliceDependencyMatrix {
+    private static final int NO_INDEX = -1;
+
+    private final List<Slice> origins;
+    private final List<Slice> targets;
+    private final boolean targetsAreOrigins;
+    private final Map<Slice, Integer> indexByOrigin;
+    private final Map<Slice, Integer> indexByTarget;
+    private final SliceIndexOfClass targetIndexOfClass;
+    private final DescribedPredicate<? super Dependency> predicate;
+    // NOTE: Most pairs of slices don't depend on each other, so for each origin we only keep the targets,
+    //       in ascending order, together with the respective number of dependencies
+    private final int[][] targetIndexesByOrigin;
+    private final int[][] numberOfDependenciesByOrigin;
+    private final ConcurrentMap<Long, Set<Dependency>> dependenciesByCell = new ConcurrentHashMap<>();
+
+    private SliceDependencyMatrix(Iterable<Slice> origins, Iterable<Slice> targets, DescribedPredicate<? super Dependency> predicate) {
+        // NOTE: Slices are equal, if they contain the same classes, so we only keep the first of equal slices.
+        //       Otherwise the index of a slice would differ from the index of its classes.
+        this.origins = ImmutableSet.copyOf(origins).asList();
+        this.targets = origins == targets ? this.origins : ImmutableSet.copyOf(targets).asList();
+        this.targetsAreOrigins = this.origins == this.targets;
+        this.predicate = checkNotNull(predicate);
+        indexByOrigin = indexesOf(this.origins);
+        indexByTarget = targetsAreOrigins ? indexByOrigin : indexesOf(this.targets);
+        targetIndexOfClass = SliceIndexOfClass.of(this.targets);
+        targetIndexesByOrigin = new int[this.origins.size()][];
+        numberOfDependenciesByOrigin = new int[this.origins.size()][];
+        countDependencies();
+    }
+
+    private static Map<Slice, Integer> indexesOf(List<Slice> slices) {
+        Map<Slice, Integer> result = new HashMap<>();
+        for (int i = 0; i < slices.size(); i++) {
+            result.put(slices.get(i), i);
+        }
+        return result;
+    }
+
+    private void countDependencies() {
+        int[] numberOfDependencies = new int[targets.size()];
+        for (int origin = 0; origin < origins.size(); origin++) {
+            int numberOfTargets = 0;
+            for (JavaClass javaClass : origins.get(origin)) {
+                for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
+                    int target = targetIndexOf(origin, dependency);
+                    if (target != NO_INDEX && numberOfDependencies[target]++ == 0) {
+                        numberOfTargets++;
+                    }
+                }
+            }
+            int[] targetIndexes = new int[numberOfTargets];
+            int[] numberOfDependenciesOfTargets = new int[numberOfTargets];
+            for (int target = 0, i = 0; i < numberOfTargets; target++) {
+                if (numberOfDependencies[target] > 0) {
+                    targetIndexes[i] = target;
+                    numberOfDependenciesOfTargets[i++] = numberOfDependencies[target];
+                    numberOfDependencies[target] = 0;
+                }
+            }
+            targetIndexesByOrigin[origin] = targetIndexes;
+            numberOfDependenciesByOrigin[origin] = numberOfDependenciesOfTargets;
+        }
+    }
+
+    private int targetIndexOf(int origin, Dependency dependency) {
+        int target = targetIndexOfClass.get(dependency.getTargetClass());
+        return target != NO_INDEX && !isWithinOrigin(origin, target, dependency) && predicate.apply(dependency) ? target : NO_INDEX;
+    }
+
+    private boolean isWithinOrigin(int origin, int target, Dependency dependency) {
+        return targetsAreOrigins ? origin == target : origins.get(origin).contains(dependency.getTargetClass());
+    }
+
+    /**
+     * @see #of(Iterable, DescribedPredicate)
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public static SliceDependencyMatrix of(Iterable<Slice> slices) {
+        return of(slices, DescribedPredicate.alwaysTrue());
+    }
+
+    /**
+     * @param slices The slices forming rows and columns of the matrix
+     * @param predicate Only dependencies matching this predicate are considered
+     * @return The matrix of dependencies between the supplied slices
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public static SliceDependencyMatrix of(Iterable<Slice> slices, DescribedPredicate<? super Dependency> predicate) {
+        return new SliceDependencyMatrix(slices, slices, predicate);
+    }
+
+    /**
+     * Like {@link #of(Iterable, DescribedPredicate)}, but with different slices as rows and columns, e.g. if the targets
+     * are sliced from the dependencies of the origins. Dependencies on classes of the origin itself are not considered.
+     */
+    static SliceDependencyMatrix of(Iterable<Slice> origins, Iterable<Slice> targets, DescribedPredicate<? super Dependency> predicate) {
+        return new SliceDependencyMatrix(origins, targets, predicate);
+    }
+
+    /**
+     * @return The slices of this matrix, in the order they were supplied, without duplicates
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public List<Slice> getSlices() {
+        return origins;
+    }
+
+    /**
+     * @return The slices the origin depends on, in the order of {@link #getSlices()}
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public List<Slice> getTargetsOf(Slice origin) {
+        int[] targetIndexes = targetIndexesByOrigin[indexOf(origin, indexByOrigin)];
+        List<Slice> result = new ArrayList<>(targetIndexes.length);
+        for (int target : targetIndexes) {
+            result.add(targets.get(target));
+        }
+        return result;
+    }
+
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public int getNumberOfDependencies(Slice origin, Slice target) {
+        int originIndex = indexOf(origin, indexByOrigin);
+        int i = Arrays.binarySearch(targetIndexesByOrigin[originIndex], indexOf(target, indexByTarget));
+        return i >= 0 ? numberOfDependenciesByOrigin[originIndex][i] : 0;
+    }
+
+    /**
+     * @return The dependencies from classes of the origin to classes of the target
+     */
+    @PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+    public Set<Dependency> getDependencies(Slice origin, Slice target) {
+        if (getNumberOfDependencies(origin, target) == 0) {
+            return Collections.emptySet();
+        }
+        int originIndex = indexOf(origin, indexByOrigin);
+        int targetIndex = indexOf(target, indexByTarget);
+        long cell = (long) originIndex * targets.size() + targetIndex;
+        Set<Dependency> result = dependenciesByCell.get(cell);
+        if (result == null) {
+            result = collectDependencies(originIndex, targetIndex);
+            dependenciesByCell.put(cell, result);
+        }
+        return result;
+    }
+
+    private Set<Dependency> collectDependencies(int origin, int target) {
+        ImmutableSet.Builder<Dependency> result = ImmutableSet.builder();
+        for (JavaClass javaClass : origins.get(origin)) {
+            for (Dependency dependency : javaClass.getDirectDependenciesFromSelf()) {
+                if (targetIndexOf(origin, dependency) == target) {
+                    result.add(dependency);
+                }
+            }
+        }
+        return result.build();
+    }
+
+    private int indexOf(Slice slice, Map<Slice, Integer> indexBySlice) {
+        Integer result = indexBySlice.get(slice);
+        checkArgument(result != null, "Slice %s is not part of this %s", slice, getClass().getSimpleName());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{slices=" + origins + '}';
+    }
+
+    private abstract static class SliceIndexOfClass {
+        abstract int get(JavaClass javaClass);
+
+        // NOTE: Slices created by Slices.matching(..) stem from the same SliceAssignment, so we can look up
+        //       the slice id of each class and don't need to map every class to its slice
+        static SliceIndexOfClass of(List<Slice> slices) {
+            SliceAssignment assignment = slices.isEmpty() ? null : slices.get(0).getAssignment();
+            for (Slice slice : slices) {
+                if (slice.getAssignment() != assignment) {
+                    assignment = null;
+                }
+            }
+            return assignment != null ? new BySliceId(assignment, slices) : new ByClass(slices);
+        }
+
+        private static class BySliceId extends SliceIndexOfClass {
+            private final SliceAssignment assignment;
+            private final int[] indexBySliceId;
+
+            BySliceId(SliceAssignment assignment, List<Slice> slices) {
+                this.assignment = assignment;
+                indexBySliceId = new int[assignment.getNumberOfSlices()];
+                Arrays.fill(indexBySliceId, NO_INDEX);
+                for (int i = 0; i < slices.size(); i++) {
+                    indexBySliceId[slices.get(i).getSliceId()] = i;
+                }
+            }
+
+            @Override
+            int get(JavaClass javaClass) {
+                int sliceId = assignment.getSliceIdOf(javaClass);
+                return sliceId != SliceAssignment.NO_SLICE ? indexBySliceId[sliceId] : NO_INDEX;
+            }
+        }
+
+        private static class ByClass extends SliceIndexOfClass {
+            private final Map<JavaClass, Integer> indexByClass = new HashMap<>();
+
+            ByClass(List<Slice> slices) {
+                for (int i = 0; i < slices.size(); i++) {
+                    for (JavaClass javaClass : slices.get(i)) {
+                        indexByClass.put(javaClass, i);
+                    }
+                }
+            }
+
+            @Override
+            int get(JavaClass javaClass) {
+                Integer result = indexByClass.get(javaClass);
+                return result != null ? result : NO_INDEX;
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ import com.tngtech.archunit.lang.ArchCondition;
 import com.tngtech.archunit.lang.ArchRule;
 import com.tngtech.archunit.lang.ArchRule.Transformation.As;
 import com.tngtech.archunit.lang.ArchRule.Transformation.Because;
+import com.tngtech.archunit.lang.EvaluationMode;
 import com.tngtech.archunit.lang.EvaluationResult;
 import com.tngtech.archunit.lang.Priority;
 
@@ -73,6 +74,11 @@ public final class SliceRule implements ArchRule {
         return getArchRule().evaluate(classes);
     }
 
+    @Override
+    public EvaluationResult evaluate(JavaClasses classes, EvaluationMode mode) {
+        return getArchRule().evaluate(classes, mode);
+    }
+
     @Override
     public String getDescription() {
         return getArchRule().getDescription();
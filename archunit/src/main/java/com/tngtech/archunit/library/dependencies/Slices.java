@@ -15,12 +15,7 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 import com.google.common.base.Joiner;
 import com.tngtech.archunit.PublicAPI;
@@ -38,7 +33,6 @@ import com.tngtech.archunit.lang.syntax.PredicateAggregator;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
-import static com.tngtech.archunit.base.PackageMatcher.TO_GROUPS;
 import static com.tngtech.archunit.core.domain.Dependency.toTargetClasses;
 
 /**
@@ -166,7 +160,10 @@ public final class Slices implements DescribedIterable<Slice> {
 
         @Override
         public Slices transform(JavaClasses classes) {
-            Slices slices = new Creator(classes).matching(packageIdentifier);
+            return adapt(new Creator(classes).matching(packageIdentifier));
+        }
+
+        private Slices adapt(Slices slices) {
             if (namingPattern.isPresent()) {
                 slices.namingSlices(namingPattern.get());
             }
@@ -264,42 +261,12 @@ public final class Slices implements DescribedIterable<Slice> {
          */
         @PublicAPI(usage = ACCESS)
         public Slices matching(String packageIdentifier) {
-            SliceBuilders sliceBuilders = new SliceBuilders();
-            PackageMatcher matcher = PackageMatcher.of(packageIdentifier);
-            for (JavaClass clazz : classes) {
-                Optional<List<String>> groups = matcher.match(clazz.getPackage()).transform(TO_GROUPS);
-                sliceBuilders.add(groups, clazz);
-            }
-            return new Slices(sliceBuilders.build()).as(slicesMatchingDescription(packageIdentifier));
+            SliceAssignment assignment = SliceAssignment.of(classes, packageIdentifier);
+            return new Slices(assignment.createSlices()).as(slicesMatchingDescription(packageIdentifier));
         }
     }
 
     private static String slicesMatchingDescription(String packageIdentifier) {
         return String.format("slices matching '%s'", packageIdentifier);
     }
-
-    private static class SliceBuilders {
-        private final Map<List<String>, Slice.Builder> sliceBuilders = new HashMap<>();
-
-        void add(Optional<List<String>> matchingGroups, JavaClass clazz) {
-            if (matchingGroups.isPresent()) {
-                put(matchingGroups.get(), clazz);
-            }
-        }
-
-        private void put(List<String> matchingGroups, JavaClass clazz) {
-            if (!sliceBuilders.containsKey(matchingGroups)) {
-                sliceBuilders.put(matchingGroups, Slice.Builder.from(matchingGroups));
-            }
-            sliceBuilders.get(matchingGroups).addClass(clazz);
-        }
-
-        Set<Slice> build() {
-            Set<Slice> result = new HashSet<>();
-            for (Slice.Builder builder : sliceBuilders.values()) {
-                result.add(builder.build());
-            }
-            return result;
-        }
-    }
 }
@@ -49,15 +49,29 @@ public class ArchConfigurationTest {
 
     @Test
     public void simple_properties_explicitly_set() {
-        writeProperties(ImmutableMap.of(
-                ArchConfiguration.RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, true,
-                ArchConfiguration.ENABLE_MD5_IN_CLASS_SOURCES, true
-        ));
+        writeProperties(ImmutableMap.<String, Object>builder()
+                .put(ArchConfiguration.RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, true)
+                .put(ArchConfiguration.ENABLE_MD5_IN_CLASS_SOURCES, true)
+                .put(ArchConfiguration.MAX_CACHED_PREDICATE_RESULTS, 100)
+                .put(ArchConfiguration.ENABLE_PARALLEL_EVALUATION, true)
+                .put(ArchConfiguration.RULE_RESULT_CACHE_DIRECTORY, "some/directory")
+                .put(ArchConfiguration.ENABLE_ASYNC_EXTENSION_DISPATCH, true)
+                .put(ArchConfiguration.ASYNC_EXTENSION_DISPATCH_QUEUE_SIZE, 5)
+                .put(ArchConfiguration.MAX_NUMBER_OF_REPORTED_CYCLES, 7)
+                .put(ArchConfiguration.MAX_NUMBER_OF_REPORTED_DEPENDENCIES_PER_EDGE, 3)
+                .build());
 
         ArchConfiguration configuration = testConfiguration(PROPERTIES_RESOURCE_NAME);
 
         assertThat(configuration.resolveMissingDependenciesFromClassPath()).isTrue();
         assertThat(configuration.md5InClassSourcesEnabled()).isTrue();
+        assertThat(configuration.getMaxCachedPredicateResults()).isEqualTo(100);
+        assertThat(configuration.parallelEvaluationEnabled()).isTrue();
+        assertThat(configuration.getRuleResultCacheDirectory()).contains("some/directory");
+        assertThat(configuration.asyncExtensionDispatchEnabled()).isTrue();
+        assertThat(configuration.getAsyncExtensionDispatchQueueSize()).isEqualTo(5);
+        assertThat(configuration.getMaxNumberOfReportedCycles()).isEqualTo(7);
+        assertThat(configuration.getMaxNumberOfReportedDependenciesPerEdge()).isEqualTo(3);
         assertThat(configuration.getClassResolver()).isAbsent();
         assertThat(configuration.getClassResolverArguments()).isEmpty();
     }
@@ -191,6 +205,13 @@ public class ArchConfigurationTest {
     private void assertDefault(ArchConfiguration configuration) {
         assertThat(configuration.resolveMissingDependenciesFromClassPath()).isFalse();
         assertThat(configuration.md5InClassSourcesEnabled()).isFalse();
+        assertThat(configuration.getMaxCachedPredicateResults()).isZero();
+        assertThat(configuration.parallelEvaluationEnabled()).isFalse();
+        assertThat(configuration.getRuleResultCacheDirectory()).isAbsent();
+        assertThat(configuration.asyncExtensionDispatchEnabled()).isFalse();
+        assertThat(configuration.getAsyncExtensionDispatchQueueSize()).isEqualTo(100);
+        assertThat(configuration.getMaxNumberOfReportedCycles()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(configuration.getMaxNumberOfReportedDependenciesPerEdge()).isEqualTo(Integer.MAX_VALUE);
     }
 
     private ArchConfiguration testConfiguration(String resourceName) {
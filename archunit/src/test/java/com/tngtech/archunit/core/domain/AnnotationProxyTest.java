@@ -225,6 +225,17 @@ public class AnnotationProxyTest {
         assertThat(annotation.toString()).is(matching(TestAnnotation.class, propertiesOf(TestAnnotation.class)));
     }
 
+    @Test
+    public void arrays_returned_are_not_shared_between_invocations() {
+        TestAnnotation annotation = getProxyFor(TestAnnotation.class);
+
+        annotation.strings()[0] = "changed";
+        annotation.primitives()[0] = -1;
+
+        assertThat(annotation.strings()).containsExactly("one", "two");
+        assertThat(annotation.primitives()).containsExactly(77, 88);
+    }
+
     @Test
     public void wrong_annotation_type_is_rejected() {
         JavaAnnotation mismatch = javaAnnotationFrom(TestAnnotation.class.getAnnotation(Retention.class));
@@ -125,6 +125,16 @@ public class JavaClassTest {
                 Object.class.getName());
     }
 
+    @Test
+    public void all_sub_classes_are_returned_as_an_immutable_set() {
+        JavaClasses classes = importClassesWithContext(ClassWithTwoFieldsAndTwoMethods.class, SuperClassWithFieldAndMethod.class, Parent.class);
+        JavaClass parent = classes.get(Parent.class);
+
+        assertThat(parent.getAllSubClasses()).containsOnly(
+                classes.get(SuperClassWithFieldAndMethod.class), classes.get(ClassWithTwoFieldsAndTwoMethods.class));
+        assertThat(parent.getAllSubClasses()).isInstanceOf(ImmutableSet.class);
+    }
+
     @Test
     public void hierarchy_is_found() {
         JavaClass clazz = importClassesWithContext(ClassWithTwoFieldsAndTwoMethods.class, SuperClassWithFieldAndMethod.class, Parent.class)
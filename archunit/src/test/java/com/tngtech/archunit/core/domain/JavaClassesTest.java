@@ -1,11 +1,30 @@
 package com.tngtech.archunit.core.domain;
 
+import java.io.File;
+import java.io.Serializable;
+import java.lang.annotation.Retention;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
 import org.junit.Test;
 
+import static com.tngtech.archunit.base.DescribedPredicate.not;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.implement;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAPackage;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.simpleNameEndingWith;
 import static com.tngtech.archunit.core.domain.TestUtils.importClassWithContext;
+import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
+import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Predicates.annotatedWith;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class JavaClassesTest {
@@ -16,6 +35,10 @@ public class JavaClassesTest {
             SomeOtherClass.class.getName(), SOME_OTHER_CLASS);
     public static final JavaClasses ALL_CLASSES = new JavaClasses(BY_TYPE_NAME, "classes");
 
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule()
+            .resolveAdditionalDependenciesFromClassPath(true);
+
     @Test
     public void restriction_on_classes_should_filter_the_elements() {
         JavaClasses onlySomeClass = ALL_CLASSES.that(haveTheNameOf(SomeClass.class));
@@ -42,6 +65,94 @@ public class JavaClassesTest {
         assertThat(allOriginalElements.getDescription()).isEqualTo("customized");
     }
 
+    @Test
+    public void restriction_on_classes_should_evaluate_the_predicate_only_once_per_class() {
+        final List<JavaClass> tested = new ArrayList<>();
+        DescribedPredicate<JavaClass> predicate = new DescribedPredicate<JavaClass>("are tested") {
+            @Override
+            public boolean apply(JavaClass input) {
+                tested.add(input);
+                return input.equals(SOME_CLASS);
+            }
+        };
+
+        JavaClasses onlySomeClass = ALL_CLASSES.that(predicate);
+        for (int i = 0; i < 3; i++) {
+            assertThat(onlySomeClass).containsExactly(SOME_CLASS);
+        }
+
+        assertThat(tested).containsOnly(SOME_CLASS, SOME_OTHER_CLASS).hasSize(2);
+    }
+
+    @Test
+    public void restriction_on_classes_should_evaluate_the_predicate_again_on_every_restriction() {
+        final AtomicReference<JavaClass> expected = new AtomicReference<>(SOME_CLASS);
+        DescribedPredicate<JavaClass> predicate = new DescribedPredicate<JavaClass>("are expected") {
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.equals(expected.get());
+            }
+        };
+
+        assertThat(ALL_CLASSES.that(predicate)).containsExactly(SOME_CLASS);
+
+        expected.set(SOME_OTHER_CLASS);
+        assertThat(ALL_CLASSES.that(predicate)).containsExactly(SOME_OTHER_CLASS);
+    }
+
+    @Test
+    public void restriction_on_classes_should_reuse_results_of_the_same_predicate_if_configured() {
+        ArchConfiguration.get().setMaxCachedPredicateResults(10);
+        JavaClasses classes = new JavaClasses(BY_TYPE_NAME, "classes");
+        final List<JavaClass> tested = new ArrayList<>();
+        RecordingPredicate predicate = new RecordingPredicate(tested, "have the name " + SomeClass.class.getSimpleName());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(classes.that(predicate)).containsExactly(SOME_CLASS);
+        }
+        assertThat(classes.that(new RecordingPredicate(tested, "other description"))).containsExactly(SOME_CLASS);
+
+        assertThat(tested).hasSize(4);
+    }
+
+    @Test
+    public void restriction_on_classes_should_reuse_results_of_equal_predicates_if_configured() {
+        ArchConfiguration.get().setMaxCachedPredicateResults(10);
+        JavaClasses classes = new JavaClasses(BY_TYPE_NAME, "classes");
+        final List<JavaClass> tested = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(classes.that(new EqualRecordingPredicate(tested, SomeClass.class))).containsExactly(SOME_CLASS);
+        }
+        assertThat(classes.that(new EqualRecordingPredicate(tested, SomeOtherClass.class))).containsExactly(SOME_OTHER_CLASS);
+
+        assertThat(tested).hasSize(4);
+    }
+
+    @Test
+    public void restriction_on_classes_should_not_mix_up_results_of_different_predicates_with_the_same_description() {
+        ArchConfiguration.get().setMaxCachedPredicateResults(10);
+        JavaClasses classes = new JavaClasses(BY_TYPE_NAME, "classes");
+
+        assertThat(classes.that(haveTheNameOf(SomeClass.class).as("x"))).containsExactly(SOME_CLASS);
+        assertThat(classes.that(haveTheNameOf(SomeOtherClass.class).as("x"))).containsExactly(SOME_OTHER_CLASS);
+
+        assertThat(classes.that(haveTheNameOfWithFixedDescription(SomeClass.class))).containsExactly(SOME_CLASS);
+        assertThat(classes.that(haveTheNameOfWithFixedDescription(SomeOtherClass.class))).containsExactly(SOME_OTHER_CLASS);
+    }
+
+    @Test
+    public void restriction_on_classes_should_not_reuse_results_of_equivalent_predicates_by_default() {
+        JavaClasses classes = new JavaClasses(BY_TYPE_NAME, "classes");
+        final List<JavaClass> tested = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            classes.that(new RecordingPredicate(tested, "same description"));
+        }
+
+        assertThat(tested).hasSize(6);
+    }
+
     @Test
     public void contain_type() {
         assertThat(ALL_CLASSES.contain(getClass())).isFalse();
@@ -62,6 +173,47 @@ public class JavaClassesTest {
         assertThat(ImmutableSet.copyOf(classes)).isEqualTo(iterable);
     }
 
+    @Test
+    public void restriction_on_classes_should_filter_by_annotation_type() {
+        JavaClass annotatedClass = importClassWithContext(SomeAnnotatedClass.class);
+        JavaClasses classes = JavaClasses.of(ImmutableSet.of(annotatedClass, SOME_CLASS));
+
+        assertThat(classes.that(annotatedWith(SomeAnnotation.class))).containsOnly(annotatedClass);
+        assertThat(classes.that(annotatedWith(Deprecated.class))).isEmpty();
+    }
+
+    @Test
+    public void restriction_on_classes_looked_up_from_the_index_should_filter_the_same_elements_in_the_same_order_as_a_scan() {
+        JavaClasses classes = importClasses(SomeClass.class, SomeAnnotatedClass.class,
+                ArrayList.class, LinkedList.class, File.class, String.class);
+
+        List<DescribedPredicate<? super JavaClass>> predicates = ImmutableList.<DescribedPredicate<? super JavaClass>>of(
+                resideInAPackage("java.util.."),
+                simpleNameEndingWith("List"),
+                simpleNameEndingWith(""),
+                annotatedWith(SomeAnnotation.class),
+                implement(Serializable.class),
+                resideInAPackage("java..").and(implement(Serializable.class)).as("customized"),
+                simpleNameEndingWith("Class").or(resideInAPackage("java.io")),
+                simpleNameEndingWith("List").and(not(resideInAPackage("java.util"))),
+                simpleNameEndingWith("List").or(not(resideInAPackage("java.util"))));
+
+        for (DescribedPredicate<? super JavaClass> predicate : predicates) {
+            assertThat(classes.that(predicate)).as(predicate.getDescription())
+                    .containsExactlyElementsOf(scan(classes, predicate));
+        }
+    }
+
+    private List<JavaClass> scan(JavaClasses classes, DescribedPredicate<? super JavaClass> predicate) {
+        List<JavaClass> result = new ArrayList<>();
+        for (JavaClass javaClass : classes) {
+            if (predicate.apply(javaClass)) {
+                result.add(javaClass);
+            }
+        }
+        return result;
+    }
+
     private DescribedPredicate<JavaClass> haveTheNameOf(final Class<?> clazz) {
         return new DescribedPredicate<JavaClass>("have the name " + clazz.getSimpleName()) {
             @Override
@@ -71,6 +223,57 @@ public class JavaClassesTest {
         };
     }
 
+    private DescribedPredicate<JavaClass> haveTheNameOfWithFixedDescription(final Class<?> clazz) {
+        return new DescribedPredicate<JavaClass>("have the expected name") {
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.getName().equals(clazz.getName());
+            }
+        };
+    }
+
+    private static class RecordingPredicate extends DescribedPredicate<JavaClass> {
+        private final List<JavaClass> tested;
+
+        RecordingPredicate(List<JavaClass> tested, String description) {
+            super(description);
+            this.tested = tested;
+        }
+
+        @Override
+        public boolean apply(JavaClass input) {
+            tested.add(input);
+            return input.equals(SOME_CLASS);
+        }
+    }
+
+    private static class EqualRecordingPredicate extends DescribedPredicate<JavaClass> {
+        private final List<JavaClass> tested;
+        private final Class<?> type;
+
+        EqualRecordingPredicate(List<JavaClass> tested, Class<?> type) {
+            super("have the name " + type.getSimpleName());
+            this.tested = tested;
+            this.type = type;
+        }
+
+        @Override
+        public boolean apply(JavaClass input) {
+            tested.add(input);
+            return input.isEquivalentTo(type);
+        }
+
+        @Override
+        public int hashCode() {
+            return type.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof EqualRecordingPredicate && ((EqualRecordingPredicate) obj).type.equals(type);
+        }
+    }
+
     private static final DescribedPredicate<JavaClass> EXIST = new DescribedPredicate<JavaClass>("exist") {
         @Override
         public boolean apply(JavaClass input) {
@@ -83,4 +286,12 @@ public class JavaClassesTest {
 
     private static class SomeOtherClass {
     }
+
+    @Retention(RUNTIME)
+    private @interface SomeAnnotation {
+    }
+
+    @SomeAnnotation
+    private static class SomeAnnotatedClass {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.tngtech.archunit.core.importer;
+
+import java.util.Set;
+
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMember;
+import com.tngtech.archunit.core.importer.testexamples.SomeClass;
+import com.tngtech.archunit.core.importer.testexamples.modifierfieldimport.ClassWithFieldsWithModifiers;
+import org.junit.Test;
+
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassFileImporterFootprintTest {
+    private static final String TEST_EXAMPLES_PACKAGE = ClassFileImporterFootprintTest.class.getPackage().getName() + ".testexamples";
+
+    @Test
+    public void classes_and_members_with_equal_modifiers_share_the_modifier_set() {
+        JavaClasses classes = new ClassFileImporter().importPackages(TEST_EXAMPLES_PACKAGE);
+
+        JavaClass someClass = classes.get(SomeClass.class);
+        JavaClass otherClass = classes.get(ClassWithFieldsWithModifiers.class);
+
+        assertThat(someClass.getModifiers()).isSameAs(otherClass.getModifiers());
+        assertThat(someClass.getField("other").getModifiers()).isSameAs(otherClass.getField("defaultField").getModifiers());
+    }
+
+    @Test
+    public void access_records_are_released_once_the_import_is_complete() {
+        ClassFileImportRecord importRecord = new ClassFileImportRecord();
+        ClassFileSource source = getOnlyElement(Locations.ofPackage(TEST_EXAMPLES_PACKAGE)).asClassFileSource(new ImportOptions());
+
+        JavaClasses classes = new ClassFileProcessor().process(source, importRecord);
+
+        assertThat(importRecord.getAccessRecords()).as("access records after the import").isEmpty();
+        assertThat(numberOfAccessesFrom(classes)).as("number of imported accesses").isPositive();
+    }
+
+    @Test
+    public void access_targets_are_resolved_to_the_imported_members_after_the_import() {
+        JavaClasses classes = new ClassFileImporter().importPackages(TEST_EXAMPLES_PACKAGE);
+
+        for (JavaClass javaClass : classes) {
+            for (JavaAccess<?> access : javaClass.getAccessesFromSelf()) {
+                for (JavaMember target : access.getTarget().resolve()) {
+                    if (classes.contain(target.getOwner().getName())) {
+                        assertThat(target.getOwner()).as("owner of resolved target of " + access)
+                                .isSameAs(classes.get(target.getOwner().getName()));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void hierarchy_closures_of_imported_classes_are_computed_once_and_consistent() {
+        JavaClasses classes = new ClassFileImporter().importPackages(TEST_EXAMPLES_PACKAGE);
+
+        for (JavaClass javaClass : classes) {
+            Set<JavaClass> assignableTo = javaClass.getAllClassesSelfIsAssignableTo();
+            assertThat(javaClass.getAllClassesSelfIsAssignableTo()).as("classes %s is assignable to", javaClass.getName())
+                    .isSameAs(assignableTo);
+            for (JavaClass superType : assignableTo) {
+                if (!superType.equals(javaClass)) {
+                    assertThat(superType.getAllSubClasses()).as("sub classes of %s", superType.getName()).contains(javaClass);
+                }
+            }
+        }
+    }
+
+    private static int numberOfAccessesFrom(JavaClasses classes) {
+        int result = 0;
+        for (JavaClass javaClass : classes) {
+            result += javaClass.getAccessesFromSelf().size();
+        }
+        return result;
+    }
+}
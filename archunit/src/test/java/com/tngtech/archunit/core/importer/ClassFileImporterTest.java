@@ -55,11 +55,14 @@ import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
 import com.tngtech.archunit.core.domain.JavaMethod;
 import com.tngtech.archunit.core.domain.JavaMethodCall;
 import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.domain.JavaType;
 import com.tngtech.archunit.core.domain.Source;
 import com.tngtech.archunit.core.domain.properties.HasName;
 import com.tngtech.archunit.core.domain.properties.HasOwner;
 import com.tngtech.archunit.core.importer.DomainBuilders.FieldAccessTargetBuilder;
 import com.tngtech.archunit.core.importer.DomainBuilders.MethodCallTargetBuilder;
+import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
+import com.tngtech.archunit.core.importer.resolvers.ClassResolver.ClassUriImporter;
 import com.tngtech.archunit.core.importer.testexamples.SomeAnnotation;
 import com.tngtech.archunit.core.importer.testexamples.annotatedclassimport.ClassAnnotationWithArrays;
 import com.tngtech.archunit.core.importer.testexamples.annotatedclassimport.ClassWithAnnotationWithEmptyArrays;
@@ -812,6 +815,24 @@ public class ClassFileImporterTest {
         assertThat(subSubClass.getSuperClass()).contains(subClass);
     }
 
+    @Test
+    public void hierarchy_of_classes_resolved_by_a_nested_import_contains_the_classes_of_the_outer_import() {
+        ArchConfiguration.get().setClassResolver(ResolverImportingClassHierarchyExamples.class);
+        try {
+            JavaClasses classes = new ClassFileImporter().importClasses(SubClass.class, SubSubClass.class);
+            JavaClass subClass = classes.get(SubClass.class);
+            JavaClass subSubClass = classes.get(SubSubClass.class);
+            JavaClass baseClass = subClass.getSuperClass().get();
+
+            assertThat(baseClass.getName()).isEqualTo(BaseClass.class.getName());
+            assertThat(baseClass.getAllSubClasses()).containsOnly(subClass, subSubClass);
+            assertThat(baseClass.isAssignableFrom(SubSubClass.class)).as("BaseClass is assignable from SubSubClass").isTrue();
+            assertThat(subSubClass.isAssignableTo(BaseClass.class)).as("SubSubClass is assignable to BaseClass").isTrue();
+        } finally {
+            ArchConfiguration.get().unsetClassResolver();
+        }
+    }
+
     @Test
     public void creates_relations_between_classes_and_interfaces() throws Exception {
         ImportedClasses classes = classesIn("testexamples/classhierarchyimport");
@@ -1065,6 +1086,21 @@ public class ClassFileImporterTest {
                 .inLineNumber(11);
     }
 
+    @Test
+    public void accesses_to_the_same_target_share_the_target() throws Exception {
+        ImportedClasses classes = classesIn("testexamples/fieldaccessimport");
+        JavaClass multipleFieldAccesses = classes.get(MultipleFieldAccessInSameMethod.class);
+
+        Set<JavaFieldAccess> setStringValues =
+                getByNameAndAccessType(multipleFieldAccesses.getFieldAccessesFromSelf(), "stringValue", SET);
+        assertThat(setStringValues).hasSize(2);
+
+        Iterator<JavaFieldAccess> accesses = setStringValues.iterator();
+        FieldAccessTarget first = accesses.next().getTarget();
+        FieldAccessTarget second = accesses.next().getTarget();
+        assertThat((Object) first).as("target of first access").isSameAs(second);
+    }
+
     @Test
     public void imports_other_field_accesses_from_constructor() throws Exception {
         ImportedClasses classes = classesIn("testexamples/fieldaccessimport");
@@ -1957,6 +1993,24 @@ public class ClassFileImporterTest {
         return checkNotNull(result, "No object with name '" + name + "' is present in " + thingsWithName);
     }
 
+    // NOTE: Queries the class hierarchy of the resolved classes, before the outer import has completed it
+    public static class ResolverImportingClassHierarchyExamples implements ClassResolver {
+        @Override
+        public void setClassUriImporter(ClassUriImporter classUriImporter) {
+        }
+
+        @Override
+        public Optional<JavaClass> tryResolve(String typeName) {
+            if (!typeName.startsWith(BaseClass.class.getPackage().getName())) {
+                return Optional.absent();
+            }
+            JavaClass resolved = new ClassFileImporter().importClass(JavaType.From.name(typeName).resolveClass());
+            resolved.getAllSubClasses();
+            resolved.isAssignableFrom(resolved.getName());
+            return Optional.of(resolved);
+        }
+    }
+
     private ImportedClasses classesIn(String path) throws Exception {
         return new ImportedClasses(path);
     }
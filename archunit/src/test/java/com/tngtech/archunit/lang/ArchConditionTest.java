@@ -233,6 +233,85 @@ public class ArchConditionTest {
         assertThat(events.containViolation()).as("Events contain violation").isFalse();
     }
 
+    @Test
+    public void or_only_checks_further_conditions_if_necessary() {
+        RecordingCondition first = new RecordingCondition(5);
+        RecordingCondition second = new RecordingCondition(7);
+        ArchCondition<Integer> condition = first.or(second);
+
+        ConditionEvents events = new ConditionEvents();
+        condition.check(6, events);
+        assertThat(events).containNoViolation();
+        assertThat(first.checkedItems).containsExactly(6);
+        assertThat(second.checkedItems).isEmpty();
+
+        events = new ConditionEvents();
+        condition.check(4, events);
+        assertThat(events).containViolations("4 is not greater than 5 and 4 is not greater than 7");
+        assertThat(first.checkedItems).containsExactly(6, 4);
+        assertThat(second.checkedItems).containsExactly(4);
+    }
+
+    @Test
+    public void and_checks_all_conditions_to_describe_a_violation() {
+        RecordingCondition first = new RecordingCondition(5);
+        RecordingCondition second = new RecordingCondition(7);
+        ArchCondition<Integer> condition = first.and(second);
+
+        ConditionEvents events = new ConditionEvents();
+        condition.check(4, events);
+        assertThat(first.checkedItems).containsExactly(4);
+        assertThat(second.checkedItems).containsExactly(4);
+
+        assertThat(events).containViolations("4 is not greater than 5", "4 is not greater than 7");
+        assertThat(first.checkedItems).containsExactly(4);
+        assertThat(second.checkedItems).containsExactly(4);
+    }
+
+    @Test
+    public void joined_conditions_are_checked_for_the_same_evaluation() {
+        final List<Boolean> budgetExhausted = new ArrayList<>();
+        ArchCondition<Integer> recordingBudget = new ArchCondition<Integer>("record budget") {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                events.add(greaterThanEvent(item, 5));
+                budgetExhausted.add(events.isViolationBudgetExhausted());
+            }
+        };
+        ArchCondition<Integer> condition = recordingBudget.or(recordingBudget);
+
+        condition.check(4, new ConditionEvents(EvaluationMode.failFast(), AffectedClasses.all()));
+
+        assertThat(budgetExhausted).containsExactly(true, true);
+    }
+
+    @Test
+    public void join_checks_conditions_that_can_not_be_skipped_first() {
+        RecordingCondition first = new RecordingCondition(5);
+        RecordingCondition second = new RecordingCondition(7).notSkippable();
+        ArchCondition<Integer> condition = first.or(second);
+
+        ConditionEvents events = new ConditionEvents();
+        condition.check(8, events);
+        assertThat(events).containNoViolation();
+        assertThat(first.checkedItems).isEmpty();
+        assertThat(second.checkedItems).containsExactly(8);
+    }
+
+    @Test
+    public void join_checks_conditions_in_order_of_cost() {
+        RecordingCondition first = new RecordingCondition(5).withCost(3);
+        RecordingCondition second = new RecordingCondition(7).withCost(2);
+        ArchCondition<Integer> condition = first.or(second);
+
+        ConditionEvents events = new ConditionEvents();
+        condition.check(8, events);
+        assertThat(events).containNoViolation();
+        assertThat(first.checkedItems).isEmpty();
+        assertThat(second.checkedItems).containsExactly(8);
+        assertThat(condition.getCostHint()).isEqualTo(5);
+    }
+
     private ArchCondition<Integer> greaterThan(final int... numbers) {
         return new ArchCondition<Integer>("greater than " + Arrays.toString(numbers)) {
             @Override
@@ -265,6 +344,44 @@ public class ArchConditionTest {
                         item, item <= number ? " not" : "", number));
     }
 
+    private class RecordingCondition extends ArchCondition<Integer> {
+        private final int number;
+        private boolean canBeSkipped = true;
+        private int costHint = 1;
+        final List<Integer> checkedItems = new ArrayList<>();
+
+        RecordingCondition(int number) {
+            super("greater than " + number);
+            this.number = number;
+        }
+
+        RecordingCondition notSkippable() {
+            canBeSkipped = false;
+            return this;
+        }
+
+        RecordingCondition withCost(int costHint) {
+            this.costHint = costHint;
+            return this;
+        }
+
+        @Override
+        public void check(Integer item, ConditionEvents events) {
+            checkedItems.add(item);
+            events.add(greaterThanEvent(item, number));
+        }
+
+        @Override
+        public boolean canBeSkipped() {
+            return canBeSkipped;
+        }
+
+        @Override
+        public int getCostHint() {
+            return costHint;
+        }
+    }
+
     public static class ConditionWithInitAndFinish extends ArchCondition<String> {
         public Iterable<String> allObjectsToTest;
         ConditionEvents eventsFromFinish;
@@ -2,19 +2,27 @@ package com.tngtech.archunit.lang;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.io.Files;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaClassesTest;
 import com.tngtech.archunit.lang.ArchConditionTest.ConditionWithInitAndFinish;
 import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeMatcher;
 import org.junit.After;
@@ -29,22 +37,28 @@ import static com.tngtech.archunit.core.domain.TestUtils.importClassesWithContex
 import static com.tngtech.archunit.lang.ArchRule.Assertions.ARCHUNIT_IGNORE_PATTERNS_FILE_NAME;
 import static com.tngtech.archunit.lang.Priority.HIGH;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
 import static com.tngtech.archunit.lang.syntax.ClassesIdentityTransformer.classes;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class ArchRuleTest {
     @Rule
     public final ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
 
     @Before
     public void setUp() {
         ignoreFile().delete();
+        IgnorePatterns.reset();
     }
 
     @After
     public void tearDown() {
         ignoreFile().delete();
+        IgnorePatterns.reset();
     }
 
     @Test
@@ -75,6 +89,34 @@ public class ArchRuleTest {
                 .check(importClassesWithContext(EvaluationResultTest.class));
     }
 
+    @Test
+    public void ignore_patterns_match_messages_with_line_breaks_and_may_contain_back_references() throws IOException {
+        writeIgnoreFileWithPatterns("(\\w+) and \\1", "first line second line", "other");
+
+        EvaluationResult result = all(classes())
+                .should(conditionThatReportsErrors("third and third", "first line\nsecond line", "fourth and fifth"))
+                .evaluate(importClassesWithContext(EvaluationResultTest.class));
+
+        thrown.expect(AssertionError.class);
+        thrown.expectMessage("was violated (1 times)");
+        thrown.expectMessage("fourth and fifth");
+        ArchRule.Assertions.assertNoViolation(result);
+    }
+
+    @Test
+    public void ignore_patterns_may_declare_the_same_named_groups_and_inline_flags() throws IOException {
+        writeIgnoreFileWithPatterns("(?<word>\\w+) one", "(?<word>\\w+) two", "(?x) third \\  three", "fourth four");
+
+        EvaluationResult result = all(classes())
+                .should(conditionThatReportsErrors("first one", "second two", "third three", "fourth four", "fifth five"))
+                .evaluate(importClassesWithContext(EvaluationResultTest.class));
+
+        thrown.expect(AssertionError.class);
+        thrown.expectMessage("was violated (1 times)");
+        thrown.expectMessage("fifth five");
+        ArchRule.Assertions.assertNoViolation(result);
+    }
+
     @Test
     public void if_all_messages_are_ignored_the_test_passes() throws IOException {
         writeIgnoreFileWithPatterns(".*");
@@ -123,6 +165,20 @@ public class ArchRuleTest {
         assertThat(result.getFailureReport().toString()).contains("(6 times)");
     }
 
+    @Test
+    public void evaluation_stops_once_the_violation_budget_is_exhausted() {
+        JavaClasses classes = importClassesWithContext(Object.class, String.class, Integer.class);
+
+        EvaluationResult result = all(classes()).should(addFixedNumberOfViolations(1)).evaluate(classes, EvaluationMode.failAfter(2));
+        assertThat(result.getFailureReport().toString()).contains("(2 times)");
+
+        result = all(classes()).should(addFixedNumberOfViolations(1)).evaluate(classes, EvaluationMode.failFast());
+        assertThat(result.getFailureReport().toString()).contains("(1 times)");
+
+        result = all(classes()).should(addFixedNumberOfViolations(1)).evaluate(classes, EvaluationMode.full());
+        assertThat(result.getFailureReport().toString()).contains("(3 times)");
+    }
+
     @Test
     public void reports_number_of_violations_separately_for_only_cases() {
         EvaluationResult result = ArchRuleDefinition.noClasses()
@@ -132,6 +188,36 @@ public class ArchRuleTest {
         assertThat(result.getFailureReport().toString()).contains("(2 times)");
     }
 
+    @Test
+    public void evaluation_records_metrics() {
+        EvaluationResult result = all(classes()).should(addFixedNumberOfViolations(3))
+                .evaluate(importClassesWithContext(Object.class, String.class));
+
+        EvaluationMetrics metrics = result.getMetrics().get();
+        assertThat(metrics.getNumberOfCheckedObjects()).isEqualTo(2);
+        assertThat(metrics.getNumberOfViolations()).isEqualTo(6);
+        assertThat(metrics.getNumberOfAllowedEvents()).isZero();
+        assertThat(metrics.getCheckNanos()).isPositive();
+        assertThat(metrics.getTotalNanos()).isEqualTo(
+                metrics.getTransformNanos() + metrics.getInitNanos() + metrics.getCheckNanos() + metrics.getFinishNanos());
+
+        assertThat(new EvaluationResult(all(classes()).should(ALWAYS_BE_VIOLATED), HIGH).getMetrics().isPresent())
+                .as("result created manually has metrics").isFalse();
+    }
+
+    @Test
+    public void adding_evaluated_results_sums_their_metrics() {
+        EvaluationResult result = new EvaluationResult(all(classes()).should(ALWAYS_BE_VIOLATED), HIGH);
+        result.add(all(classes()).should(addFixedNumberOfViolations(3))
+                .evaluate(importClassesWithContext(Object.class, String.class)));
+        result.add(all(classes()).should(addFixedNumberOfViolations(1))
+                .evaluate(importClassesWithContext(Object.class)));
+
+        EvaluationMetrics metrics = result.getMetrics().get();
+        assertThat(metrics.getNumberOfCheckedObjects()).isEqualTo(3);
+        assertThat(metrics.getNumberOfViolations()).isEqualTo(7);
+    }
+
     @Test
     public void rule_evaluation_inits_and_finishes_condition() {
         ConditionWithInitAndFinish condition = new ConditionWithInitAndFinish("irrelevant") {
@@ -151,6 +237,79 @@ public class ArchRuleTest {
         assertThat(condition.eventsFromFinish.getViolating()).hasSize(1);
     }
 
+    @Test
+    public void conditions_that_can_be_checked_concurrently_are_checked_in_parallel_reporting_events_in_order() {
+        ArchConfiguration.get().setParallelEvaluationEnabled(true);
+        RecordingThreadsCondition condition = new RecordingThreadsCondition(true);
+
+        EvaluationResult result = all(numbers(1000)).should(condition).evaluate(importClasses(getClass()));
+
+        assertThat(condition.checkingThreads).isNotEmpty().doesNotContain(Thread.currentThread());
+        List<Integer> violatingNumbers = new ArrayList<>();
+        result.handleViolations(recordViolatingNumbersIn(violatingNumbers));
+        assertThat(violatingNumbers).containsExactlyElementsOf(numbers(1000).transform(importClasses(getClass())));
+    }
+
+    @Test
+    public void conditions_that_cannot_be_checked_concurrently_are_checked_sequentially() {
+        ArchConfiguration.get().setParallelEvaluationEnabled(true);
+        RecordingThreadsCondition condition = new RecordingThreadsCondition(false);
+
+        all(numbers(1000)).should(condition).evaluate(importClasses(getClass()));
+
+        assertThat(condition.checkingThreads).containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    public void evaluation_can_be_restricted_to_objects_affected_by_changed_classes() {
+        JavaClasses classes = importClasses(ChangedClass.class, ClassDependingOnChangedClass.class, UnrelatedClass.class);
+        EvaluationMode onlyChanges = EvaluationMode.full().withChangedClasses(singleton(ChangedClass.class.getName()));
+
+        RecordingCheckedClassesCondition condition = new RecordingCheckedClassesCondition(true);
+        all(classes()).should(condition).evaluate(classes, onlyChanges);
+        assertThat(condition.checkedClasses).containsOnly(ChangedClass.class.getName(), ClassDependingOnChangedClass.class.getName());
+
+        condition = new RecordingCheckedClassesCondition(false);
+        all(classes()).should(condition).evaluate(classes, onlyChanges);
+        assertThat(condition.checkedClasses)
+                .as("classes checked by condition that cannot be checked incrementally")
+                .containsOnly(ChangedClass.class.getName(), ClassDependingOnChangedClass.class.getName(), UnrelatedClass.class.getName());
+    }
+
+    @Test
+    public void evaluation_restricted_to_changed_classes_checks_dependents_of_subclasses_of_changed_classes() {
+        JavaClasses classes = importClasses(ChangedClass.class, SubClassOfChangedClass.class,
+                ClassDependingOnSubClassOfChangedClass.class, ForbiddenInterface.class);
+        EvaluationMode onlyChanges = EvaluationMode.full().withChangedClasses(singleton(ChangedClass.class.getName()));
+
+        EvaluationResult result = noClasses().should().accessClassesThat().areAssignableTo(ForbiddenInterface.class)
+                .evaluate(classes, onlyChanges);
+
+        assertThat(result.getFailureReport().toString()).contains(ClassDependingOnSubClassOfChangedClass.class.getName());
+    }
+
+    private ClassesTransformer<Integer> numbers(final int count) {
+        return new AbstractClassesTransformer<Integer>("numbers") {
+            @Override
+            public Iterable<Integer> doTransform(JavaClasses collection) {
+                List<Integer> result = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    result.add(i);
+                }
+                return result;
+            }
+        };
+    }
+
+    private ViolationHandler<Integer> recordViolatingNumbersIn(final List<Integer> violatingNumbers) {
+        return new ViolationHandler<Integer>() {
+            @Override
+            public void handle(Collection<Integer> violatingObjects, String message) {
+                violatingNumbers.addAll(violatingObjects);
+            }
+        };
+    }
+
     private ClassesTransformer<String> strings() {
         return new AbstractClassesTransformer<String>("strings") {
             @Override
@@ -168,6 +327,7 @@ public class ArchRuleTest {
         File ignoreFile = ignoreFile();
         ignoreFile.delete();
         Files.write(Joiner.on("\n").join(patterns), ignoreFile, UTF_8);
+        IgnorePatterns.reset();
     }
 
     private File ignoreFile() {
@@ -234,6 +394,52 @@ public class ArchRuleTest {
         };
     }
 
+    private static class RecordingThreadsCondition extends ArchCondition<Integer> {
+        private final Set<Thread> checkingThreads = Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>());
+        private final boolean canBeCheckedConcurrently;
+
+        RecordingThreadsCondition(boolean canBeCheckedConcurrently) {
+            super("record checking threads");
+            this.canBeCheckedConcurrently = canBeCheckedConcurrently;
+        }
+
+        @Override
+        public void check(Integer item, ConditionEvents events) {
+            checkingThreads.add(Thread.currentThread());
+            events.add(SimpleConditionEvent.violated(item, "violated by " + item));
+        }
+
+        @Override
+        public boolean canBeCheckedConcurrently() {
+            return canBeCheckedConcurrently;
+        }
+    }
+
+    private static class RecordingCheckedClassesCondition extends ArchCondition<JavaClass> {
+        private final Set<String> checkedClasses = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        private final boolean canBeCheckedIncrementally;
+
+        RecordingCheckedClassesCondition(boolean canBeCheckedIncrementally) {
+            super("record checked classes");
+            this.canBeCheckedIncrementally = canBeCheckedIncrementally;
+        }
+
+        @Override
+        public void check(JavaClass item, ConditionEvents events) {
+            checkedClasses.add(item.getName());
+        }
+
+        @Override
+        public boolean canBeCheckedConcurrently() {
+            return true;
+        }
+
+        @Override
+        public boolean canBeCheckedIncrementally() {
+            return canBeCheckedIncrementally;
+        }
+    }
+
     private static final ArchCondition<JavaClass> ALWAYS_BE_VIOLATED =
             new ArchCondition<JavaClass>("always be violated") {
                 @Override
@@ -248,4 +454,28 @@ public class ArchRuleTest {
             "bar".replaceAll("a", "b");
         }
     }
-}
\ No newline at end of file
+
+    private interface ForbiddenInterface {
+    }
+
+    private static class ChangedClass implements ForbiddenInterface {
+    }
+
+    private static class SubClassOfChangedClass extends ChangedClass {
+    }
+
+    private static class ClassDependingOnSubClassOfChangedClass {
+        void execute() {
+            new SubClassOfChangedClass();
+        }
+    }
+
+    private static class ClassDependingOnChangedClass {
+        void execute() {
+            new ChangedClass();
+        }
+    }
+
+    private static class UnrelatedClass {
+    }
+}
@@ -0,0 +1,131 @@
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.domain.TestUtils.importClassesWithContext;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static com.tngtech.archunit.library.Architectures.layeredArchitecture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArchRulesEvaluatorTest {
+    private static final JavaClasses classes = importClassesWithContext(Object.class, String.class, List.class, ArrayList.class);
+
+    @Test
+    public void results_equal_the_results_of_evaluating_each_rule_on_its_own() {
+        List<ArchRule> rules = ImmutableList.of(
+                classes().should().haveSimpleNameEndingWith("List"),
+                noClasses().that().resideInAPackage("java.util..").should().accessClassesThat().haveSimpleName("Object"),
+                classes().that().resideInAPackage("java.lang").should().notBePublic().because("it's a test"),
+                layeredArchitecture()
+                        .layer("Lang").definedBy("java.lang..")
+                        .layer("Util").definedBy("java.util..")
+                        .whereLayer("Lang").mayNotBeAccessedByAnyLayer());
+
+        List<EvaluationResult> results = ArchRulesEvaluator.evaluate(classes, rules);
+
+        assertThat(results).hasSameSizeAs(rules);
+        for (int i = 0; i < rules.size(); i++) {
+            String expected = rules.get(i).evaluate(classes).getFailureReport().toString();
+            assertThat(results.get(i).getFailureReport().toString()).as("result of rule %d", i).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void each_object_is_checked_against_all_rules_on_classes_at_once() {
+        List<String> checked = new ArrayList<>();
+
+        ArchRulesEvaluator.evaluate(classes, ImmutableList.of(
+                classes().should(recordChecks("first", checked)),
+                classes().should(recordChecks("second", checked))));
+
+        assertThat(checked).hasSize(8);
+        for (String simpleName : ImmutableList.of("Object", "String", "List", "ArrayList")) {
+            assertThat(checked.indexOf("second " + simpleName))
+                    .as("index of the check of %s by the second rule", simpleName)
+                    .isEqualTo(checked.indexOf("first " + simpleName) + 1);
+        }
+    }
+
+    @Test
+    public void each_rule_checks_its_objects_in_the_same_order_as_on_its_own() {
+        List<String> checkedTogether = new ArrayList<>();
+        ArchRulesEvaluator.evaluate(classes, ImmutableList.of(
+                classes().should(recordChecks("first", checkedTogether)),
+                classes().that().resideInAPackage("java.util").should(recordChecks("second", checkedTogether)),
+                classes().that().haveSimpleNameEndingWith("List").should(recordChecks("third", checkedTogether))));
+
+        List<String> checkedOnOwn = new ArrayList<>();
+        classes().should(recordChecks("first", checkedOnOwn)).evaluate(classes);
+        classes().that().resideInAPackage("java.util").should(recordChecks("second", checkedOnOwn)).evaluate(classes);
+        classes().that().haveSimpleNameEndingWith("List").should(recordChecks("third", checkedOnOwn)).evaluate(classes);
+
+        for (String prefix : ImmutableList.of("first", "second", "third")) {
+            assertThat(startingWith(prefix, checkedTogether))
+                    .as("checks of rule '%s'", prefix)
+                    .containsExactlyElementsOf(startingWith(prefix, checkedOnOwn));
+        }
+    }
+
+    @Test
+    public void rules_selecting_objects_by_the_same_predicate_share_the_selection() {
+        CountingPredicate inJavaUtil = new CountingPredicate("java.util");
+        List<String> checked = new ArrayList<>();
+
+        ArchRulesEvaluator.evaluate(classes, ImmutableList.of(
+                classes().that(inJavaUtil).should(recordChecks("first", checked)),
+                classes().that(inJavaUtil).should(recordChecks("second", checked)).as("renamed"),
+                classes().should(recordChecks("third", checked))));
+
+        assertThat(inJavaUtil.numberOfTests).as("number of tests of predicate").isEqualTo(4);
+        assertThat(startingWith("first", checked)).containsExactly("first List", "first ArrayList");
+        for (String simpleName : ImmutableList.of("List", "ArrayList")) {
+            assertThat(checked.indexOf("second " + simpleName))
+                    .as("index of the check of %s by the second rule", simpleName)
+                    .isEqualTo(checked.indexOf("first " + simpleName) + 1);
+        }
+        assertThat(startingWith("third", checked)).hasSize(4);
+    }
+
+    private static List<String> startingWith(String prefix, List<String> strings) {
+        List<String> result = new ArrayList<>();
+        for (String string : strings) {
+            if (string.startsWith(prefix)) {
+                result.add(string);
+            }
+        }
+        return result;
+    }
+
+    private static class CountingPredicate extends DescribedPredicate<JavaClass> {
+        private final String packageName;
+        int numberOfTests;
+
+        CountingPredicate(String packageName) {
+            super("reside in " + packageName);
+            this.packageName = packageName;
+        }
+
+        @Override
+        public boolean apply(JavaClass input) {
+            numberOfTests++;
+            return input.getPackage().equals(packageName);
+        }
+    }
+
+    private static ArchCondition<JavaClass> recordChecks(final String prefix, final List<String> checked) {
+        return new ArchCondition<JavaClass>("record checks") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                checked.add(prefix + " " + item.getSimpleName());
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.ContiguousSet;
+import com.google.common.collect.DiscreteDomain;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Range;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrentCheckTest {
+    private static final int NUMBER_OF_OBJECTS = 2000;
+    private static final int MAX_VIOLATIONS = 5;
+
+    @Test
+    public void later_partitions_exhausting_the_violation_budget_do_not_stop_earlier_partitions() {
+        List<Integer> objects = ImmutableList.copyOf(ContiguousSet.create(Range.closedOpen(0, NUMBER_OF_OBJECTS), DiscreteDomain.integers()));
+        ConditionEvents events = new ConditionEvents(EvaluationMode.failAfter(MAX_VIOLATIONS), AffectedClasses.all());
+
+        ConcurrentCheck.checkAll(objects, violatedSlowlyForTheFirstObjects(), events);
+
+        List<Object> violatingObjects = violatingObjectsOf(events);
+        assertThat(violatingObjects.size()).isGreaterThanOrEqualTo(MAX_VIOLATIONS);
+        assertThat(violatingObjects.subList(0, MAX_VIOLATIONS)).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void threads_checking_the_objects_do_not_outlive_the_check() throws InterruptedException {
+        List<Integer> objects = ImmutableList.copyOf(ContiguousSet.create(Range.closedOpen(0, NUMBER_OF_OBJECTS), DiscreteDomain.integers()));
+        final Thread testThread = Thread.currentThread();
+        final Set<Thread> checkingThreads = Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>());
+
+        ConcurrentCheck.checkAll(objects, new ArchCondition<Integer>("record threads") {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                if (Thread.currentThread() != testThread) {
+                    checkingThreads.add(Thread.currentThread());
+                }
+            }
+
+            @Override
+            public boolean canBeCheckedConcurrently() {
+                return true;
+            }
+        }, new ConditionEvents());
+
+        assertThat(checkingThreads).isNotEmpty();
+        for (Thread thread : checkingThreads) {
+            thread.join(10000);
+            assertThat(thread.isAlive()).as("%s is alive", thread.getName()).isFalse();
+        }
+    }
+
+    // NOTE: The first objects take longest, so without coordination the later partitions would exhaust the budget first
+    private static ArchCondition<Integer> violatedSlowlyForTheFirstObjects() {
+        return new ArchCondition<Integer>("be violated") {
+            @Override
+            public void check(Integer item, ConditionEvents events) {
+                if (item < MAX_VIOLATIONS) {
+                    sleep();
+                }
+                events.add(SimpleConditionEvent.violated(item, "violated by " + item));
+            }
+
+            @Override
+            public boolean canBeCheckedConcurrently() {
+                return true;
+            }
+        };
+    }
+
+    private static List<Object> violatingObjectsOf(ConditionEvents events) {
+        final List<Object> result = new ArrayList<>();
+        for (ConditionEvent event : events.getViolating()) {
+            event.handleWith(new ConditionEvent.Handler() {
+                @Override
+                public void handle(Collection<?> correspondingObjects, String message) {
+                    result.addAll(correspondingObjects);
+                }
+            });
+        }
+        return result;
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.tngtech.archunit.lang;
+
+import java.io.File;
+import java.io.IOException;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.equivalentTo;
+import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
+import static com.tngtech.archunit.lang.syntax.ClassesIdentityTransformer.classes;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RuleResultCacheTest {
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+    @Rule
+    public final TemporaryFolder tempDir = new TemporaryFolder();
+
+    private File cacheDirectory;
+
+    @Before
+    public void setUp() throws IOException {
+        cacheDirectory = tempDir.newFolder();
+        ArchConfiguration.get().setMd5InClassSourcesEnabled(true);
+        ArchConfiguration.get().setRuleResultCacheDirectory(cacheDirectory.getAbsolutePath());
+    }
+
+    @Test
+    public void result_is_reused_if_rule_and_classes_are_unchanged() {
+        CountingCondition condition = new CountingCondition();
+        ArchRule rule = all(classes()).should(condition);
+
+        rule.check(importClasses(getClass(), String.class));
+        rule.check(importClasses(getClass(), String.class));
+
+        assertThat(condition.numberOfChecks).as("number of checks").isEqualTo(2);
+        assertThat(cacheDirectory.list()).hasSize(1);
+    }
+
+    @Test
+    public void rule_is_evaluated_again_if_classes_changed() {
+        CountingCondition condition = new CountingCondition();
+        ArchRule rule = all(classes()).should(condition);
+
+        rule.check(importClasses(getClass(), String.class));
+        rule.check(importClasses(getClass(), Integer.class));
+
+        assertThat(condition.numberOfChecks).as("number of checks").isEqualTo(4);
+    }
+
+    @Test
+    public void rule_is_evaluated_again_if_description_changed() {
+        CountingCondition condition = new CountingCondition();
+
+        all(classes()).should(condition).check(importClasses(getClass()));
+        all(classes()).should(condition).as("changed").check(importClasses(getClass()));
+
+        assertThat(condition.numberOfChecks).as("number of checks").isEqualTo(2);
+    }
+
+    @Test
+    public void rule_is_evaluated_again_if_implementation_of_condition_changed() {
+        CountingCondition condition = new CountingCondition();
+        CountingCondition conditionWithSameDescription = new CountingCondition() {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                super.check(item, events);
+            }
+        };
+
+        all(classes()).should(condition).check(importClasses(getClass()));
+        all(classes()).should(conditionWithSameDescription).check(importClasses(getClass()));
+
+        assertThat(condition.numberOfChecks + conditionWithSameDescription.numberOfChecks).as("number of checks").isEqualTo(2);
+    }
+
+    @Test
+    public void rule_is_evaluated_again_if_observed_class_outside_of_the_import_changed() {
+        CountingCondition condition = new CountingCondition();
+        ArchRule rule = all(classes()).should(condition);
+
+        ArchConfiguration.get().setResolveMissingDependenciesFromClassPath(false);
+        rule.check(importClasses(ViolatingCondition.class));
+        ArchConfiguration.get().setResolveMissingDependenciesFromClassPath(true);
+        rule.check(importClasses(ViolatingCondition.class));
+
+        assertThat(condition.numberOfChecks).as("number of checks").isEqualTo(2);
+    }
+
+    @Test
+    public void failing_results_are_cached() {
+        ViolatingCondition condition = new ViolatingCondition();
+        ArchRule rule = all(classes()).should(condition);
+
+        String firstFailure = failureOf(rule, importClasses(getClass(), String.class));
+        String secondFailure = failureOf(rule, importClasses(getClass(), String.class));
+
+        assertThat(condition.numberOfChecks).as("number of checks").isEqualTo(2);
+        assertThat(secondFailure).isEqualTo(firstFailure);
+        assertThat(cacheDirectory.list()).hasSize(1);
+    }
+
+    @Test
+    public void result_is_reused_if_only_classes_unrelated_to_the_checked_objects_changed() {
+        CountingCondition condition = new CountingCondition();
+        ArchRule rule = all(classes().that(equivalentTo(CheckedClass.class))).should(condition);
+
+        rule.check(importClasses(CheckedClass.class, UnrelatedClass.class));
+        rule.check(importClasses(CheckedClass.class, OtherUnrelatedClass.class));
+
+        assertThat(condition.numberOfChecks).as("number of checks").isEqualTo(1);
+    }
+
+    @Test
+    public void results_of_conditions_that_cannot_be_checked_incrementally_are_not_cached() {
+        CountingCondition condition = new CountingCondition() {
+            @Override
+            public boolean canBeCheckedIncrementally() {
+                return false;
+            }
+        };
+        ArchRule rule = all(classes()).should(condition);
+
+        rule.check(importClasses(getClass()));
+        rule.check(importClasses(getClass()));
+
+        assertThat(condition.numberOfChecks).as("number of checks").isEqualTo(2);
+        assertThat(cacheDirectory.list()).isEmpty();
+    }
+
+    @Test
+    public void results_are_not_cached_without_md5_sums() {
+        ArchConfiguration.get().setMd5InClassSourcesEnabled(false);
+        CountingCondition condition = new CountingCondition();
+        ArchRule rule = all(classes()).should(condition);
+
+        rule.check(importClasses(getClass()));
+        rule.check(importClasses(getClass()));
+
+        assertThat(condition.numberOfChecks).as("number of checks").isEqualTo(2);
+        assertThat(cacheDirectory.list()).isEmpty();
+    }
+
+    @Test
+    public void the_least_recently_used_results_are_evicted() throws IOException {
+        File unrelatedFile = new File(cacheDirectory, "unrelated");
+        assertThat(unrelatedFile.createNewFile()).isTrue();
+        File[] oldResults = new File[RuleResultCache.MAX_NUMBER_OF_RESULTS];
+        for (int i = 0; i < oldResults.length; i++) {
+            oldResults[i] = new File(cacheDirectory, "old" + i + ".result");
+            assertThat(oldResults[i].createNewFile()).isTrue();
+            assertThat(oldResults[i].setLastModified(1000L * (i + 1))).isTrue();
+        }
+
+        all(classes()).should(new CountingCondition()).check(importClasses(getClass()));
+
+        assertThat(oldResults[0]).doesNotExist();
+        assertThat(oldResults[1]).exists();
+        assertThat(unrelatedFile).exists();
+        assertThat(cacheDirectory.list()).hasSize(RuleResultCache.MAX_NUMBER_OF_RESULTS + 1);
+    }
+
+    private String failureOf(ArchRule rule, JavaClasses classes) {
+        try {
+            rule.check(classes);
+        } catch (AssertionError error) {
+            return error.getMessage();
+        }
+        throw new AssertionError("Rule should have been violated");
+    }
+
+    private static class CountingCondition extends ArchCondition<JavaClass> {
+        int numberOfChecks;
+
+        CountingCondition() {
+            super("be counted");
+        }
+
+        @Override
+        public void check(JavaClass item, ConditionEvents events) {
+            numberOfChecks++;
+        }
+
+        @Override
+        public boolean canBeCheckedIncrementally() {
+            return true;
+        }
+    }
+
+    private static class ViolatingCondition extends ArchCondition<JavaClass> {
+        private int numberOfChecks;
+
+        ViolatingCondition() {
+            super("be violated");
+        }
+
+        @Override
+        public void check(JavaClass item, ConditionEvents events) {
+            numberOfChecks++;
+            events.add(SimpleConditionEvent.violated(item, item.getName() + " was violated"));
+        }
+
+        @Override
+        public boolean canBeCheckedIncrementally() {
+            return true;
+        }
+    }
+
+    private static class CheckedClass {
+    }
+
+    private static class UnrelatedClass {
+    }
+
+    private static class OtherUnrelatedClass {
+    }
+}
@@ -4,9 +4,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMethodCall;
 import org.junit.Test;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class SimpleConditionEventTest {
@@ -27,4 +31,103 @@ public class SimpleConditionEventTest {
         SimpleConditionEvent.violated(88, "violated").handleWith(handler);
         assertThat(messages).containsExactly("88: violated");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void satisfied_event_accepts_missing_message() {
+        ConditionEvent event = SimpleConditionEvent.satisfied(77, null);
+
+        assertThat(event.isViolation()).as("is violation").isFalse();
+        assertThat(messagesOf(event)).containsExactly((String) null);
+    }
+
+    @Test
+    public void formats_message_from_template_only_if_needed() {
+        CountingDescription argument = new CountingDescription("argument");
+
+        ConditionEvent event = SimpleConditionEvent.formatted(77, false, "violated by %s", argument);
+        assertThat(argument.numberOfCalls).as("number of times the message was rendered").isZero();
+
+        assertThat(messagesOf(event)).containsExactly("violated by argument");
+        assertThat(messagesOf(event)).containsExactly("violated by argument");
+        assertThat(argument.numberOfCalls).as("number of times the message was rendered").isEqualTo(1);
+    }
+
+    @Test
+    public void queries_description_of_message_source_only_if_needed() {
+        CountingDescription messageSource = new CountingDescription("described");
+
+        ConditionEvent event = SimpleConditionEvent.describedBy(77, true, messageSource);
+        assertThat(messageSource.numberOfCalls).as("number of times the description was queried").isZero();
+
+        ConditionEvents inverted = new ConditionEvents();
+        event.addInvertedTo(inverted);
+        assertThat(messagesOf(getOnlyElement(inverted.getViolating()))).containsExactly("described");
+        assertThat(messageSource.numberOfCalls).as("number of times the description was queried").isEqualTo(1);
+    }
+
+    @Test
+    public void offers_target_and_location_of_corresponding_access() {
+        JavaClass origin = importClasses(Origin.class, Target.class).get(Origin.class);
+        JavaMethodCall call = getOnlyElement(origin.getMethodCallsFromSelf());
+
+        SimpleConditionEvent event = SimpleConditionEvent.describedBy(call, false, call);
+
+        assertThat(event.getCorrespondingObject()).isSameAs(call);
+        assertThat(event.getTarget().get()).isSameAs(call.getTarget());
+        assertThat(event.getSource().get()).isSameAs(origin.getSource().get());
+        assertThat(event.getLineNumber()).isEqualTo(call.getLineNumber()).isPositive();
+    }
+
+    @Test
+    public void offers_location_of_corresponding_class_without_target() {
+        JavaClass origin = importClasses(Origin.class).get(Origin.class);
+
+        SimpleConditionEvent event = SimpleConditionEvent.formatted(origin, false, "%s violated", origin.getName());
+
+        assertThat(event.getTarget().isPresent()).as("target present").isFalse();
+        assertThat(event.getSource().get()).isSameAs(origin.getSource().get());
+        assertThat(event.getLineNumber()).isZero();
+    }
+
+    private List<String> messagesOf(ConditionEvent event) {
+        final List<String> messages = new ArrayList<>();
+        event.describeTo(new CollectsLines() {
+            @Override
+            public void add(String line) {
+                messages.add(line);
+            }
+        });
+        return messages;
+    }
+
+    private static class Origin {
+        void call(Target target) {
+            target.called();
+        }
+    }
+
+    private static class Target {
+        void called() {
+        }
+    }
+
+    private static class CountingDescription implements HasDescription {
+        private final String description;
+        private int numberOfCalls;
+
+        CountingDescription(String description) {
+            this.description = description;
+        }
+
+        @Override
+        public String getDescription() {
+            numberOfCalls++;
+            return description;
+        }
+
+        @Override
+        public String toString() {
+            return getDescription();
+        }
+    }
+}
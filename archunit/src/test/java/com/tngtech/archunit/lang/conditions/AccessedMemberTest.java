@@ -0,0 +1,29 @@
+package com.tngtech.archunit.lang.conditions;
+
+import java.util.Collection;
+
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaCall;
+import com.tngtech.archunit.lang.conditions.testobjects.TargetClass;
+import org.junit.Test;
+
+import static com.tngtech.archunit.lang.conditions.testobjects.TestObjects.CALLER_CLASS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AccessedMemberTest {
+    @Test
+    public void filters_accesses_to_member() {
+        AccessedMember publicStringField = new AccessedMember(TargetClass.class.getName(), TargetClass.publicStringField);
+        AccessedMember appendStringMethod = new AccessedMember(TargetClass.class.getName(), TargetClass.appendStringMethod);
+
+        assertThat(publicStringField.filterAccessesTo(CALLER_CLASS.getFieldAccessesFromSelf())).hasSize(3);
+        assertThat(publicStringField.filterAccessesTo(CALLER_CLASS.getCallsFromSelf())).isEmpty();
+        Collection<JavaCall<?>> callsToAppendString = appendStringMethod.filterAccessesTo(CALLER_CLASS.getCallsFromSelf());
+        assertThat(callsToAppendString).hasSize(1);
+        for (JavaAccess<?> access : callsToAppendString) {
+            assertThat(access.getTargetOwner().getName()).isEqualTo(TargetClass.class.getName());
+            assertThat(access.getTarget().getName()).isEqualTo(TargetClass.appendStringMethod);
+        }
+        assertThat(new AccessedMember(TargetClass.class.getName(), "nonExisting").filterAccessesTo(CALLER_CLASS.getAccessesFromSelf())).isEmpty();
+    }
+}
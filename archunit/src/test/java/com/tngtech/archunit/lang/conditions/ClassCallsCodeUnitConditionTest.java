@@ -15,7 +15,10 @@ import static com.tngtech.archunit.core.domain.JavaClass.Predicates.type;
 import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
 import static com.tngtech.archunit.core.domain.properties.HasOwner.Predicates.With.owner;
 import static com.tngtech.archunit.core.domain.properties.HasParameterTypes.Predicates.parameterTypes;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.callConstructor;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.callMethod;
 import static com.tngtech.archunit.lang.conditions.ArchConditions.callMethodWhere;
+import static com.tngtech.archunit.lang.conditions.ArchConditions.never;
 import static com.tngtech.archunit.lang.conditions.testobjects.TestObjects.CALLER_CLASS;
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 
@@ -55,6 +58,33 @@ public class ClassCallsCodeUnitConditionTest {
         assertThat(events).haveOneViolationMessageContaining(VIOLATION_MESSAGE_PARTS);
     }
 
+    @Test
+    public void call_of_specific_method_matches() {
+        ConditionEvents events = checkCondition(
+                callMethod(TargetClass.class, TargetClass.appendStringMethod, TargetClass.appendStringParams));
+
+        assertThat(events).containNoViolation();
+    }
+
+    @Test
+    public void call_of_specific_method_without_argument_doesnt_match() {
+        ConditionEvents events = checkCondition(callMethod(TargetClass.class, TargetClass.appendStringMethod));
+
+        assertThat(events).haveOneViolationMessageContaining(VIOLATION_MESSAGE_PARTS);
+    }
+
+    @Test
+    public void call_of_specific_method_is_reported_if_forbidden() {
+        ConditionEvents events = checkCondition(never(
+                callMethod(TargetClass.class.getName(), TargetClass.appendStringMethod, String.class.getName())));
+
+        assertThat(events).haveOneViolationMessageContaining(VIOLATION_MESSAGE_PARTS);
+
+        events = checkCondition(never(callConstructor(TargetClass.class, String.class)));
+
+        assertThat(events).containNoViolation();
+    }
+
     private ConditionEvents checkCondition(ArchCondition<JavaClass> condition) {
         ConditionEvents events = new ConditionEvents();
         condition.check(CALLER_CLASS, events);
@@ -1,7 +1,12 @@
 package com.tngtech.archunit.lang.extension;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.ArchConfiguration;
@@ -17,6 +22,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.Uninterruptibles.awaitUninterruptibly;
 import static com.tngtech.archunit.testutil.TestUtils.properties;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -105,6 +111,76 @@ public class ArchUnitExtensionsTest {
                 "Extension 'one' is disabled, skipping... (to enable this extension, configure extension.one.enabled=true)");
     }
 
+    @Test
+    public void extensions_are_only_configured_again_if_properties_have_changed() {
+        final AtomicInteger configureCalls = new AtomicInteger();
+        TestExtension extension = enabled(new TestExtension("test") {
+            @Override
+            public void configure(Properties properties) {
+                configureCalls.incrementAndGet();
+                super.configure(properties);
+            }
+        });
+        when(extensionLoader.getAll()).thenReturn(ImmutableSet.<ArchUnitExtension>of(extension));
+
+        extensions.dispatch(evaluatedRule);
+        extensions.dispatch(evaluatedRule);
+        assertThat(configureCalls.get()).isEqualTo(1);
+
+        ArchConfiguration.get().configureExtension(extension.getUniqueIdentifier()).setProperty("changed", true);
+        extensions.dispatch(evaluatedRule);
+        assertThat(configureCalls.get()).isEqualTo(2);
+        assertThat(extension.getConfiguredProperties()).containsEntry("changed", "true");
+    }
+
+    @Test
+    public void evaluated_rules_are_dispatched_by_background_thread_if_configured() throws InterruptedException {
+        ArchConfiguration.get().setAsyncExtensionDispatchEnabled(true);
+        final Set<Thread> handlingThreads = Collections.newSetFromMap(new ConcurrentHashMap<Thread, Boolean>());
+        final CountDownLatch extensionMayProceed = new CountDownLatch(1);
+        TestExtension extension = enabled(new TestExtension("test") {
+            @Override
+            public void handle(EvaluatedRule evaluatedRule) {
+                handlingThreads.add(Thread.currentThread());
+                awaitUninterruptibly(extensionMayProceed);
+                super.handle(evaluatedRule);
+            }
+        });
+        when(extensionLoader.getAll()).thenReturn(ImmutableSet.<ArchUnitExtension>of(extension));
+
+        extensions.dispatch(evaluatedRule);
+        assertThat(extension.getEvaluatedRule()).as("evaluated rule handled before extension may proceed").isNull();
+
+        extensionMayProceed.countDown();
+        extensions.awaitAsyncDispatch();
+
+        assertThat(extension.getEvaluatedRule()).isEqualTo(evaluatedRule);
+        assertThat(handlingThreads).hasSize(1).doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    public void evaluated_rules_are_dispatched_by_background_thread_with_the_properties_at_the_time_of_dispatch() throws InterruptedException {
+        ArchConfiguration.get().setAsyncExtensionDispatchEnabled(true);
+        final CountDownLatch extensionMayProceed = new CountDownLatch(1);
+        TestExtension extension = enabled(new TestExtension("dispatched-later") {
+            @Override
+            public void handle(EvaluatedRule evaluatedRule) {
+                awaitUninterruptibly(extensionMayProceed);
+                super.handle(evaluatedRule);
+            }
+        });
+        when(extensionLoader.getAll()).thenReturn(ImmutableSet.<ArchUnitExtension>of(extension));
+
+        extensions.dispatch(evaluatedRule);
+        extensions.dispatch(evaluatedRule);
+        ArchConfiguration.get().configureExtension(extension.getUniqueIdentifier()).setProperty("changed", true);
+
+        extensionMayProceed.countDown();
+        extensions.awaitAsyncDispatch();
+
+        assertThat(extension.getConfiguredProperties()).containsEntry("enabled", "true").doesNotContainKey("changed");
+    }
+
     @Test
     public void exception_during_configuration_of_extension_is_handled() {
         final String expectedExceptionMessage = "Bummer";
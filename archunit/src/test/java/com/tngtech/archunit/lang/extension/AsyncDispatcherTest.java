@@ -0,0 +1,71 @@
+package com.tngtech.archunit.lang.extension;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import static com.google.common.util.concurrent.Uninterruptibles.awaitUninterruptibly;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncDispatcherTest {
+    @Test
+    public void submitting_blocks_while_the_queue_is_full() throws InterruptedException {
+        final AsyncDispatcher dispatcher = new AsyncDispatcher(1);
+        final CountDownLatch firstDispatchMayProceed = new CountDownLatch(1);
+        final List<String> dispatched = new CopyOnWriteArrayList<>();
+        dispatcher.submit(new Runnable() {
+            @Override
+            public void run() {
+                awaitUninterruptibly(firstDispatchMayProceed);
+                dispatched.add("first");
+            }
+        });
+
+        final CountDownLatch secondSubmitted = new CountDownLatch(1);
+        Thread submitter = new Thread() {
+            @Override
+            public void run() {
+                dispatcher.submit(recording(dispatched, "second"));
+                secondSubmitted.countDown();
+            }
+        };
+        submitter.start();
+
+        assertThat(secondSubmitted.await(100, MILLISECONDS)).as("second dispatch submitted while queue is full").isFalse();
+
+        firstDispatchMayProceed.countDown();
+        submitter.join();
+        dispatcher.flush();
+
+        assertThat(dispatched).containsExactly("first", "second");
+    }
+
+    @Test
+    public void dispatches_synchronously_after_shutdown() {
+        AsyncDispatcher dispatcher = new AsyncDispatcher(1);
+        List<String> dispatched = new CopyOnWriteArrayList<>();
+        dispatcher.submit(recording(dispatched, "before shutdown"));
+
+        dispatcher.shutdown();
+        dispatcher.submit(recording(dispatched, "after shutdown"));
+
+        assertThat(dispatched).containsExactly("before shutdown", "after shutdown");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejects_queue_without_capacity() {
+        new AsyncDispatcher(0);
+    }
+
+    private Runnable recording(final List<String> dispatched, final String name) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                dispatched.add(name);
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.tngtech.archunit.lang.extension;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import com.google.common.io.Files;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.EvaluationMetrics;
+import com.tngtech.archunit.lang.EvaluationResult;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.tngtech.archunit.core.domain.TestUtils.importClassesWithContext;
+import static com.tngtech.archunit.lang.Priority.MEDIUM;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.testutil.TestUtils.properties;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EvaluationMetricsReportTest {
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void writes_header_and_one_line_per_evaluated_rule() throws IOException {
+        File reportFile = new File(temporaryFolder.getRoot(), "metrics.csv");
+        EvaluationMetricsReport report = new EvaluationMetricsReport();
+        report.configure(properties("enabled", "true", EvaluationMetricsReport.REPORT_FILE_PROPERTY, reportFile.getAbsolutePath()));
+
+        JavaClasses classes = importClassesWithContext(Object.class, String.class);
+        ArchRule rule = classes().should().haveSimpleName("Object").as("rule with \"quotes\", and commas");
+        EvaluationResult result = rule.evaluate(classes);
+
+        report.handle(evaluatedRule(rule, classes, result));
+        report.handle(evaluatedRule(rule, classes, new EvaluationResult(rule, MEDIUM)));
+
+        List<String> lines = Files.readLines(reportFile, UTF_8);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo(
+                "rule,importedClasses,transformNanos,initNanos,checkNanos,finishNanos,totalNanos,checkedObjects,allowedEvents,violations");
+        EvaluationMetrics metrics = result.getMetrics().get();
+        assertThat(lines.get(1)).isEqualTo(String.format("\"rule with \"\"quotes\"\", and commas\",2,%d,%d,%d,%d,%d,2,1,1",
+                metrics.getTransformNanos(), metrics.getInitNanos(), metrics.getCheckNanos(), metrics.getFinishNanos(), metrics.getTotalNanos()));
+        assertThat(lines.get(2)).isEqualTo("\"rule with \"\"quotes\"\", and commas\",2,,,,,,,,");
+    }
+
+    @Test
+    public void appends_to_existing_report() throws IOException {
+        File reportFile = temporaryFolder.newFile("metrics.csv");
+        Files.write("existing\n", reportFile, UTF_8);
+        EvaluationMetricsReport report = new EvaluationMetricsReport();
+        report.configure(properties("enabled", "true", EvaluationMetricsReport.REPORT_FILE_PROPERTY, reportFile.getAbsolutePath()));
+
+        JavaClasses classes = importClassesWithContext(Object.class);
+        ArchRule rule = classes().should().haveSimpleName("Object");
+        EvaluationResult result = rule.evaluate(classes);
+        report.handle(evaluatedRule(rule, classes, result));
+
+        List<String> lines = Files.readLines(reportFile, UTF_8);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).isEqualTo("existing");
+        assertThat(lines.get(1)).startsWith("\"" + rule.getDescription() + "\",");
+    }
+
+    private EvaluatedRule evaluatedRule(ArchRule rule, JavaClasses classes, EvaluationResult result) {
+        EvaluatedRule evaluatedRule = mock(EvaluatedRule.class);
+        when(evaluatedRule.getRule()).thenReturn(rule);
+        when(evaluatedRule.getClasses()).thenReturn(classes);
+        when(evaluatedRule.getResult()).thenReturn(result);
+        return evaluatedRule;
+    }
+}
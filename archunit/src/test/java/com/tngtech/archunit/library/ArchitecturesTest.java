@@ -28,6 +28,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAnyPackage;
 import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
 import static com.tngtech.archunit.library.Architectures.layeredArchitecture;
 import static java.lang.System.lineSeparator;
@@ -114,6 +115,30 @@ public class ArchitecturesTest {
                         expectedViolationPattern(FirstThreeAnyClass.class, "call", FirstAnyPkgClass.class, "callMe")));
     }
 
+    @Test
+    public void only_allows_access_by_specified_layers_and_layer_itself() {
+        LayeredArchitecture architecture = layerOneOnlyAccessedByLayerTwo();
+        JavaClasses classes = importClassesAccessingLayerOne();
+
+        EvaluationResult result = architecture.evaluate(classes);
+
+        assertPatternMatches(result.getFailureReport().getDetails(),
+                ImmutableSet.of(expectedViolationPattern(SecondThreeAnyClass.class, "call", SomePkgClass.class, "callMe")));
+        assertThat(result.getFailureReport().getDetails()).hasSize(1);
+    }
+
+    @Test
+    public void resolves_layers_of_dependency_origins_outside_of_the_checked_classes() {
+        LayeredArchitecture architecture = layerOneOnlyAccessedByLayerTwo();
+        JavaClasses classes = importClassesAccessingLayerOne();
+
+        EvaluationResult result = architecture.evaluate(classes.that(resideInAnyPackage(absolute("some.pkg.."))));
+
+        assertPatternMatches(result.getFailureReport().getDetails(),
+                ImmutableSet.of(expectedViolationPattern(SecondThreeAnyClass.class, "call", SomePkgClass.class, "callMe")));
+        assertThat(result.getFailureReport().getDetails()).hasSize(1);
+    }
+
     @DataProvider
     public static Object[][] toIgnore() {
         LayeredArchitecture layeredArchitecture = layeredArchitecture()
@@ -135,9 +160,7 @@ public class ArchitecturesTest {
     @Test
     @UseDataProvider("toIgnore")
     public void ignores_specified_violations(RuleWithIgnore layeredArchitectureWithIgnore) {
-        JavaClasses classes = new ClassFileImporter().importClasses(
-                FirstAnyPkgClass.class, SomePkgSubClass.class,
-                SecondThreeAnyClass.class, SomePkgClass.class);
+        JavaClasses classes = importClassesAccessingLayerOne();
 
         EvaluationResult result = layeredArchitectureWithIgnore.rule.evaluate(classes);
 
@@ -150,9 +173,7 @@ public class ArchitecturesTest {
 
     @Test
     public void combines_multiple_ignores() {
-        JavaClasses classes = new ClassFileImporter().importClasses(
-                FirstAnyPkgClass.class, SomePkgSubClass.class,
-                SecondThreeAnyClass.class, SomePkgClass.class);
+        JavaClasses classes = importClassesAccessingLayerOne();
 
         LayeredArchitecture layeredArchitecture = layeredArchitecture()
                 .layer("One").definedBy(absolute("some.pkg.."))
@@ -167,6 +188,19 @@ public class ArchitecturesTest {
         assertThat(layeredArchitecture.evaluate(classes).hasViolation()).as("result has violation").isFalse();
     }
 
+    private static LayeredArchitecture layerOneOnlyAccessedByLayerTwo() {
+        return layeredArchitecture()
+                .layer("One").definedBy(absolute("some.pkg.."))
+                .layer("Two").definedBy(absolute("first.any.pkg.."))
+                .whereLayer("One").mayOnlyBeAccessedByLayers("Two");
+    }
+
+    private static JavaClasses importClassesAccessingLayerOne() {
+        return new ClassFileImporter().importClasses(
+                FirstAnyPkgClass.class, SomePkgSubClass.class,
+                SecondThreeAnyClass.class, SomePkgClass.class);
+    }
+
     private String singleLine(EvaluationResult result) {
         return Joiner.on(NEW_LINE_REPLACE).join(result.getFailureReport().getDetails()).replace("\n", NEW_LINE_REPLACE);
     }
@@ -0,0 +1,94 @@
+package com.tngtech.archunit.library.dependencies;
+
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.lang.EvaluationResult;
+import com.tngtech.archunit.library.testclasses.cycles.CycleOneA;
+import com.tngtech.archunit.library.testclasses.cycles.CycleOneB;
+import com.tngtech.archunit.library.testclasses.cycles.CycleThroughNestedA;
+import com.tngtech.archunit.library.testclasses.cycles.CycleThroughNestedB;
+import com.tngtech.archunit.library.testclasses.cycles.CycleTwoA;
+import com.tngtech.archunit.library.testclasses.cycles.CycleTwoB;
+import com.tngtech.archunit.library.testclasses.cycles.CycleTwoC;
+import com.tngtech.archunit.library.testclasses.cycles.NotInCycle;
+import com.tngtech.archunit.library.testclasses.cycles.OuterWithInner;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependencyOrigin;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.library.dependencies.CycleConditions.beFreeOfCycles;
+import static com.tngtech.archunit.library.dependencies.CycleConditions.beFreeOfCyclesIgnoring;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CycleConditionsTest {
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+
+    private final JavaClasses classes = new ClassFileImporter().importClasses(
+            CycleOneA.class, CycleOneB.class,
+            CycleTwoA.class, CycleTwoB.class, CycleTwoC.class,
+            NotInCycle.class);
+
+    @Test
+    public void reports_one_shortest_cycle_per_strongly_connected_component() {
+        EvaluationResult result = classes().should(beFreeOfCycles()).evaluate(classes);
+
+        assertThat(result.getFailureReport().getDetails()).hasSize(2);
+        assertThat(result.getFailureReport().toString())
+                .contains(String.format("Cycle detected: %s -> %s -> %s%nDependencies of %s",
+                        CycleOneA.class.getName(), CycleOneB.class.getName(), CycleOneA.class.getName(), CycleOneA.class.getName()))
+                .contains(String.format("Cycle detected: %s -> %s -> %s%nDependencies of %s",
+                        CycleTwoA.class.getName(), CycleTwoC.class.getName(), CycleTwoA.class.getName(), CycleTwoA.class.getName()))
+                .contains(String.format("Method <%s.call()> calls method <%s.call()>",
+                        CycleOneB.class.getName(), CycleOneA.class.getName()))
+                .doesNotContain(NotInCycle.class.getSimpleName());
+    }
+
+    @Test
+    public void ignores_dependencies() {
+        EvaluationResult result = classes()
+                .should(beFreeOfCyclesIgnoring(dependencyOrigin(CycleOneB.class)))
+                .evaluate(classes);
+
+        assertThat(getOnlyElement(result.getFailureReport().getDetails()))
+                .contains(CycleTwoA.class.getName())
+                .doesNotContain(CycleOneA.class.getName());
+    }
+
+    @Test
+    public void reports_at_most_the_configured_number_of_cycles() {
+        ArchConfiguration.get().setMaxNumberOfReportedCycles(1);
+
+        EvaluationResult result = classes().should(beFreeOfCycles()).evaluate(classes);
+
+        assertThat(result.getFailureReport().getDetails()).hasSize(1);
+    }
+
+    @Test
+    public void does_not_report_dependencies_between_a_class_and_its_inner_class() {
+        JavaClasses classes = new ClassFileImporter().importClasses(OuterWithInner.class, OuterWithInner.Inner.class);
+
+        EvaluationResult result = classes().should(beFreeOfCycles()).evaluate(classes);
+
+        assertThat(result.hasViolation()).as("result has violation").isFalse();
+    }
+
+    @Test
+    public void reports_cycles_through_nested_classes_as_cycles_between_their_top_level_classes() {
+        JavaClasses classes = new ClassFileImporter().importClasses(
+                CycleThroughNestedA.class, CycleThroughNestedA.Nested.class, CycleThroughNestedB.class);
+
+        EvaluationResult result = classes().should(beFreeOfCycles()).evaluate(classes);
+
+        assertThat(getOnlyElement(result.getFailureReport().getDetails()))
+                .contains(String.format("Cycle detected: %s -> %s -> %s%nDependencies of %s",
+                        CycleThroughNestedA.class.getName(), CycleThroughNestedB.class.getName(),
+                        CycleThroughNestedA.class.getName(), CycleThroughNestedA.class.getName()))
+                .contains(String.format("Method <%s.call()> calls method <%s.call()>",
+                        CycleThroughNestedA.Nested.class.getName(), CycleThroughNestedB.class.getName()));
+    }
+}
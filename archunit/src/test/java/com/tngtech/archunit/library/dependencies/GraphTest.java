@@ -1,6 +1,8 @@
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
 
@@ -9,6 +11,7 @@ import org.junit.Test;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.google.common.collect.Iterables.limit;
 import static com.tngtech.archunit.library.dependencies.SimpleEdge.singleEdge;
 import static com.tngtech.archunit.library.dependencies.SimpleEdge.singleEdgeList;
 import static java.util.Collections.singleton;
@@ -82,6 +85,24 @@ public class GraphTest {
         assertThat(cycles).containsOnly(threeElements, fourElements, fiveElements);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void only_cycles_through_the_given_nodes_are_detected() {
+        Graph<String, String> graph = new Graph<>();
+
+        Cycle<String, String> threeElements = randomCycle(3);
+        Cycle<String, String> fourElements = randomCycle(4);
+        Cycle<String, String> fiveElements = randomCycle(5);
+
+        addCycles(graph, threeElements, fourElements, fiveElements);
+        addCrossLink(graph, threeElements, fourElements);
+
+        Set<Cycle<String, String>> cycles = graph.getCyclesThrough(ImmutableSet.of(
+                fourElements.getEdges().get(0).getFrom(), fiveElements.getEdges().get(0).getFrom()));
+
+        assertThat(cycles).containsOnly(fourElements, fiveElements);
+    }
+
     @Test
     public void double_linked_three_node_cycle_results_in_five_cycles() {
         Graph<String, String> graph = new Graph<>();
@@ -96,6 +117,41 @@ public class GraphTest {
         assertThat(graph.getCycles()).hasSize(5);
     }
 
+    @Test
+    public void self_loop_is_detected() {
+        Graph<String, String> graph = new Graph<>();
+
+        String node = randomNode();
+        graph.add(node, singleEdge(node, node));
+
+        Cycle<String, String> cycle = getOnlyElement(graph.getCycles());
+        assertThat(cycle.getEdges()).hasSize(1);
+        assertEdgeExists(cycle, node, node);
+    }
+
+    @Test
+    public void cycles_are_found_one_after_another() {
+        Graph<String, String> graph = new Graph<>();
+
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            nodes.add(randomNode());
+            graph.add(nodes.get(i), Collections.<Edge<String, String>>emptySet());
+        }
+        for (String origin : nodes) {
+            for (String target : nodes) {
+                if (!origin.equals(target)) {
+                    graph.add(origin, singleEdge(origin, target));
+                }
+            }
+        }
+
+        // a complete graph of 15 nodes contains billions of cycles, so they can only be consumed lazily
+        Set<Cycle<String, String>> firstCycles = ImmutableSet.copyOf(limit(graph.findCyclesThrough(nodes), 100));
+
+        assertThat(firstCycles).hasSize(100);
+    }
+
     private Cycle<String, String> randomCycle(int numberOfNodes) {
         checkArgument(numberOfNodes > 1, "A cycle can't be formed by less than 2 nodes");
         Path<String, String> path = new Path<>(singleEdgeList(randomNode(), randomNode()));
@@ -0,0 +1,59 @@
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IntGraphTest {
+    @Test
+    public void graph_without_cycles() {
+        IntGraph graph = new IntGraph(new int[][]{{1, 2}, {2}, {}});
+
+        assertThat(graph.getComponentsWithCycles()).isEmpty();
+    }
+
+    @Test
+    public void strongly_connected_components_are_detected() {
+        IntGraph graph = new IntGraph(new int[][]{
+                {1}, {2}, {0, 3},
+                {4}, {5}, {6, 3}, {}});
+
+        List<int[]> components = graph.getComponentsWithCycles();
+
+        assertThat(components).hasSize(2);
+        assertThat(components.get(0)).containsExactly(0, 1, 2);
+        assertThat(components.get(1)).containsExactly(3, 4, 5);
+    }
+
+    @Test
+    public void shortest_cycle_through_first_node_is_found() {
+        IntGraph graph = new IntGraph(new int[][]{{1, 3}, {2}, {3}, {4}, {1, 0}});
+
+        int[] component = graph.getComponentsWithCycles().get(0);
+
+        assertThat(component).containsExactly(0, 1, 2, 3, 4);
+        assertThat(graph.getShortestCycleThroughFirstNodeOf(component)).containsExactly(0, 3, 4);
+    }
+
+    @Test
+    public void large_cycles_do_not_overflow_the_stack() {
+        int numberOfNodes = 100000;
+        int[][] successors = new int[numberOfNodes][];
+        for (int i = 0; i < numberOfNodes; i++) {
+            successors[i] = new int[]{(i + 1) % numberOfNodes};
+        }
+        IntGraph graph = new IntGraph(successors);
+
+        int[] component = graph.getComponentsWithCycles().get(0);
+
+        assertThat(component).hasSize(numberOfNodes);
+        assertThat(graph.getShortestCycleThroughFirstNodeOf(component)).hasSize(numberOfNodes);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejects_edges_to_unknown_nodes() {
+        new IntGraph(new int[][]{{1}});
+    }
+}
@@ -0,0 +1,64 @@
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.domain.TestUtils.importClassesWithContext;
+import static com.tngtech.archunit.library.dependencies.SliceAssignment.NO_SLICE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SliceAssignmentTest {
+    @Test
+    public void assignment_is_only_computed_once_per_classes_and_package_identifier() {
+        JavaClasses classes = importClassesWithContext(Object.class, List.class);
+
+        assertThat(SliceAssignment.of(classes, "java.(*)..")).isSameAs(SliceAssignment.of(classes, "java.(*).."));
+        assertThat(SliceAssignment.of(classes, "java.(*)..")).isNotSameAs(SliceAssignment.of(classes, "java.(**)"));
+        assertThat(SliceAssignment.of(classes, "java.(*)..")).isNotSameAs(
+                SliceAssignment.of(importClassesWithContext(Object.class, List.class), "java.(*).."));
+    }
+
+    @Test
+    public void assigns_classes_to_slice_ids() {
+        JavaClasses classes = importClassesWithContext(Object.class, String.class, List.class, Set.class, Pattern.class);
+
+        SliceAssignment assignment = SliceAssignment.of(classes, "java.util");
+
+        assertThat(assignment.getNumberOfSlices()).isEqualTo(1);
+        assertThat(assignment.getSliceIdOf(classes.get(List.class))).isEqualTo(0);
+        assertThat(assignment.getSliceIdOf(classes.get(Set.class))).isEqualTo(0);
+        assertThat(assignment.getSliceIdOf(classes.get(Object.class))).isEqualTo(NO_SLICE);
+        assertThat(assignment.getSliceIdOf(classes.get(Pattern.class))).isEqualTo(NO_SLICE);
+
+        assignment = SliceAssignment.of(classes, "java.(*)..");
+
+        assertThat(assignment.getNumberOfSlices()).isEqualTo(2);
+        assertThat(assignment.getSliceIdOf(classes.get(Object.class)))
+                .isEqualTo(assignment.getSliceIdOf(classes.get(String.class)))
+                .isNotEqualTo(assignment.getSliceIdOf(classes.get(List.class)));
+        assertThat(assignment.getSliceIdOf(classes.get(List.class)))
+                .isEqualTo(assignment.getSliceIdOf(classes.get(Pattern.class)));
+    }
+
+    @Test
+    public void creates_new_slices_for_every_rule() {
+        JavaClasses classes = importClassesWithContext(Object.class, List.class);
+        SliceAssignment assignment = SliceAssignment.of(classes, "java.(*)..");
+
+        List<Slice> slices = assignment.createSlices();
+
+        assertThat(slices).hasSize(2);
+        for (Slice slice : slices) {
+            assertThat(slice.getAssignment()).isSameAs(assignment);
+            for (JavaClass javaClass : slice) {
+                assertThat(assignment.getSliceIdOf(javaClass)).isEqualTo(slice.getSliceId());
+            }
+        }
+        assertThat(assignment.createSlices().get(0)).isNotSameAs(slices.get(0));
+    }
+}
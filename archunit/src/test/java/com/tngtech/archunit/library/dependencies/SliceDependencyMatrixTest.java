@@ -0,0 +1,106 @@
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.Dependency;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.domain.Dependency.Predicates.dependencyOrigin;
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.resideInAPackage;
+import static com.tngtech.archunit.library.dependencies.GivenSlicesTest.TEST_CLASSES_PACKAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SliceDependencyMatrixTest {
+    private final JavaClasses classes = new ClassFileImporter().importPackages(TEST_CLASSES_PACKAGE);
+
+    @Test
+    public void counts_dependencies_between_different_slices() {
+        Map<String, Slice> slices = slicesByDescription(Slices.matching(TEST_CLASSES_PACKAGE + ".(*)..").transform(classes));
+
+        SliceDependencyMatrix matrix = SliceDependencyMatrix.of(slices.values());
+
+        assertThat(matrix.getSlices()).containsOnlyElementsOf(slices.values());
+        assertThat(matrix.getTargetsOf(slices.get("Slice first"))).containsOnly(slices.get("Slice second"), slices.get("Slice some"));
+        assertThat(matrix.getTargetsOf(slices.get("Slice second"))).containsOnly(slices.get("Slice first"), slices.get("Slice some"));
+        assertThat(matrix.getTargetsOf(slices.get("Slice some"))).containsOnly(slices.get("Slice first"));
+        for (Slice origin : slices.values()) {
+            assertThat(matrix.getNumberOfDependencies(origin, origin)).isZero();
+            assertThat(matrix.getDependencies(origin, origin)).isEmpty();
+            for (Slice target : matrix.getTargetsOf(origin)) {
+                assertThat(matrix.getDependencies(origin, target))
+                        .hasSize(matrix.getNumberOfDependencies(origin, target))
+                        .isSubsetOf(origin.getDependencies());
+                for (Dependency dependency : matrix.getDependencies(origin, target)) {
+                    assertThat(target).contains(dependency.getTargetClass());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void only_considers_dependencies_matching_predicate_and_between_supplied_slices() {
+        Map<String, Slice> slices = slicesByDescription(Slices.matching(TEST_CLASSES_PACKAGE + ".(*)..").transform(classes));
+        Slice first = slices.get("Slice first");
+        Slice second = slices.get("Slice second");
+
+        SliceDependencyMatrix matrix = SliceDependencyMatrix.of(ImmutableList.of(first, second),
+                DescribedPredicate.not(dependencyOrigin(resideInAPackage("..first.."))));
+
+        assertThat(matrix.getTargetsOf(first)).isEmpty();
+        assertThat(matrix.getNumberOfDependencies(first, second)).isZero();
+        assertThat(matrix.getTargetsOf(second)).containsOnly(first);
+        assertThat(matrix.getNumberOfDependencies(second, first)).isEqualTo(matrix.getDependencies(second, first).size()).isPositive();
+    }
+
+    @Test
+    public void looks_up_equal_slices_like_the_supplied_ones() {
+        Map<String, Slice> slices = slicesByDescription(Slices.matching(TEST_CLASSES_PACKAGE + ".(*)..").transform(classes));
+        Map<String, Slice> equalSlices = slicesByDescription(Slices.matching(TEST_CLASSES_PACKAGE + ".(*)..").transform(classes));
+
+        SliceDependencyMatrix matrix = SliceDependencyMatrix.of(
+                ImmutableList.of(slices.get("Slice first"), slices.get("Slice second"), equalSlices.get("Slice second")));
+
+        assertThat(matrix.getTargetsOf(equalSlices.get("Slice first"))).containsOnly(slices.get("Slice second"));
+        assertThat(matrix.getNumberOfDependencies(equalSlices.get("Slice second"), equalSlices.get("Slice first")))
+                .isEqualTo(matrix.getNumberOfDependencies(slices.get("Slice second"), slices.get("Slice first")))
+                .isPositive();
+    }
+
+    @Test
+    public void considers_equal_slices_only_once() {
+        Map<String, Slice> slices = slicesByDescription(Slices.matching(TEST_CLASSES_PACKAGE + ".(*)..").transform(classes));
+        Map<String, Slice> equalSlices = slicesByDescription(Slices.matching(TEST_CLASSES_PACKAGE + ".(*)..").transform(classes));
+        Slice first = slices.get("Slice first");
+        Slice second = slices.get("Slice second");
+        Slice equalSecond = equalSlices.get("Slice second");
+
+        SliceDependencyMatrix matrix = SliceDependencyMatrix.of(ImmutableList.of(first, second, equalSecond));
+
+        assertThat(matrix.getSlices()).containsExactly(first, second);
+        assertThat(matrix.getTargetsOf(second)).containsExactly(first);
+        assertThat(matrix.getNumberOfDependencies(first, equalSecond))
+                .isEqualTo(matrix.getNumberOfDependencies(first, second))
+                .isPositive();
+        assertThat(matrix.getNumberOfDependencies(second, equalSecond)).isZero();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejects_slices_that_are_not_part_of_the_matrix() {
+        Map<String, Slice> slices = slicesByDescription(Slices.matching(TEST_CLASSES_PACKAGE + ".(*)..").transform(classes));
+
+        SliceDependencyMatrix.of(ImmutableList.of(slices.get("Slice first"))).getTargetsOf(slices.get("Slice second"));
+    }
+
+    private Map<String, Slice> slicesByDescription(Iterable<Slice> slices) {
+        Map<String, Slice> result = Maps.newHashMap();
+        for (Slice slice : slices) {
+            result.put(slice.getDescription(), slice);
+        }
+        return result;
+    }
+}
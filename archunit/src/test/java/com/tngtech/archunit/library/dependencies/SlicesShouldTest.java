@@ -3,6 +3,7 @@ package com.tngtech.archunit.library.dependencies;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -14,10 +15,12 @@ import com.tngtech.archunit.library.testclasses.second.any.pkg.SecondAnyClass;
 import com.tngtech.archunit.library.testclasses.second.three.any.SecondThreeAnyClass;
 import com.tngtech.archunit.library.testclasses.some.pkg.SomePkgClass;
 import com.tngtech.archunit.library.testclasses.some.pkg.sub.SomePkgSubClass;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderRunner;
 import com.tngtech.java.junit.dataprovider.UseDataProvider;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
@@ -31,6 +34,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @RunWith(DataProviderRunner.class)
 public class SlicesShouldTest {
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+
     @DataProvider
     public static Object[][] rules() {
         return testForEach(
@@ -78,6 +84,28 @@ public class SlicesShouldTest {
                 .doNotContain(SecondThreeAnyClass.class, SomePkgClass.class);
     }
 
+    @Test
+    public void not_depend_on_each_other_only_considers_target_slices_matching_the_predicate() {
+        JavaClasses classes = new ClassFileImporter().importPackages(TEST_CLASSES_PACKAGE);
+        SliceRule rule = slices().matching(TEST_CLASSES_PACKAGE + ".(*)..")
+                .that(haveDescription("Slice first")).or(haveDescription("Slice second"))
+                .should().notDependOnEachOther();
+
+        assertViolations(classes, rule)
+                .contain(SecondAnyClass.class, FirstAnyPkgClass.class)
+                .doNotContain(SecondThreeAnyClass.class, SomePkgClass.class);
+    }
+
+    @Test
+    public void not_depend_on_each_other_reports_dependencies_on_classes_that_are_not_imported() {
+        JavaClasses classes = new ClassFileImporter().importPackages(TEST_CLASSES_PACKAGE + ".second");
+        SliceRule rule = slices().matching(TEST_CLASSES_PACKAGE + ".(*)..").should().notDependOnEachOther();
+
+        assertViolations(classes, rule)
+                .contain(SecondAnyClass.class, FirstAnyPkgClass.class)
+                .contain(SecondThreeAnyClass.class, SomePkgClass.class);
+    }
+
     @DataProvider
     public static Object[][] rules_with_expected_base_description() {
         return $$(
@@ -105,10 +133,44 @@ public class SlicesShouldTest {
         assertThat(rule.getDescription()).isEqualTo("overridden, because new reason");
     }
 
+    @Test
+    public void cycle_rule_stops_after_configured_number_of_cycles() {
+        JavaClasses classes = new ClassFileImporter().importPackages(TEST_CLASSES_PACKAGE);
+        SliceRule rule = slices().matching(TEST_CLASSES_PACKAGE + ".(*)..").should().beFreeOfCycles();
+        assertThat(rule.evaluate(classes).getFailureReport().getDetails()).hasSize(3);
+
+        ArchConfiguration.get().setMaxNumberOfReportedCycles(1);
+
+        assertThat(rule.evaluate(classes).getFailureReport().getDetails()).hasSize(1);
+    }
+
+    @Test
+    public void cycle_rule_limits_reported_dependencies_per_edge() {
+        JavaClasses classes = new ClassFileImporter().importPackages(TEST_CLASSES_PACKAGE);
+        SliceRule rule = slices().matching(TEST_CLASSES_PACKAGE + ".(*)..").should().beFreeOfCycles();
+
+        ArchConfiguration.get().setMaxNumberOfReportedDependenciesPerEdge(0);
+
+        for (String detail : rule.evaluate(classes).getFailureReport().getDetails()) {
+            assertThat(detail)
+                    .contains("further dependencies omitted")
+                    .doesNotContain("Method <");
+        }
+    }
+
     private ViolationsAssertion assertViolations(JavaClasses classes, SliceRule rule) {
         return new ViolationsAssertion(rule.evaluate(classes));
     }
 
+    private DescribedPredicate<Slice> haveDescription(final String description) {
+        return new DescribedPredicate<Slice>("have description " + description) {
+            @Override
+            public boolean apply(Slice input) {
+                return input.getDescription().equals(description);
+            }
+        };
+    }
+
     private DescribedPredicate<JavaClass> classIn(final String packageRegex) {
         return new DescribedPredicate<JavaClass>("class in " + packageRegex) {
             @Override
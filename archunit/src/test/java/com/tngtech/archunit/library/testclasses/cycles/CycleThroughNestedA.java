@@ -0,0 +1,9 @@
+package com.tngtech.archunit.library.testclasses.cycles;
+
+public class CycleThroughNestedA {
+    public static class Nested {
+        void call() {
+            new CycleThroughNestedB().call();
+        }
+    }
+}
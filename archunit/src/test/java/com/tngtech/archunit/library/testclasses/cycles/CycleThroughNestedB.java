@@ -0,0 +1,7 @@
+package com.tngtech.archunit.library.testclasses.cycles;
+
+public class CycleThroughNestedB {
+    void call() {
+        new CycleThroughNestedA.Nested().call();
+    }
+}
@@ -0,0 +1,8 @@
+package com.tngtech.archunit.library.testclasses.cycles;
+
+public class CycleTwoA {
+    void call() {
+        new CycleTwoB().call();
+        new CycleTwoC().call();
+    }
+}
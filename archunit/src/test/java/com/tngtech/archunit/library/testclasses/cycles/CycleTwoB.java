@@ -0,0 +1,7 @@
+package com.tngtech.archunit.library.testclasses.cycles;
+
+public class CycleTwoB {
+    void call() {
+        new CycleTwoC().call();
+    }
+}
@@ -0,0 +1,15 @@
+package com.tngtech.archunit.library.testclasses.cycles;
+
+public class OuterWithInner {
+    private int state;
+
+    void call() {
+        new Inner().call();
+    }
+
+    public class Inner {
+        void call() {
+            state++;
+        }
+    }
+}